@@ -0,0 +1,95 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Benchmarks the person-level operations of an {@code AddressBook} of {@code size} persons.
+ * Each benchmark undoes its own change, so every invocation works on a book of the same size.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AddressBookBenchmark {
+
+    // the share of the book that removePersons removes
+    private static final int REMOVED_PERSONS_DIVISOR = 100;
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private AddressBook addressBook;
+    private ReadOnlyPerson newPerson;
+    private List<ReadOnlyPerson> newPersonOnly;
+    private ReadOnlyPerson personToEdit;
+    private ReadOnlyPerson editedPerson;
+    private List<ReadOnlyPerson> personsToRemove;
+
+    @Setup
+    public void setUp() throws DuplicatePersonException {
+        List<Person> samplePersons = SampleDataUtil.getSamplePersons(size + 1);
+        newPerson = samplePersons.remove(size);
+        newPersonOnly = Collections.singletonList(newPerson);
+        addressBook = new AddressBook();
+        addressBook.addPersons(samplePersons);
+
+        personToEdit = samplePersons.get(size / 2);
+        editedPerson = new PersonBuilder(personToEdit).withPhone("12345678").withTags("edited").build();
+        personsToRemove = new ArrayList<>();
+        for (int i = 0; i < size; i += REMOVED_PERSONS_DIVISOR) {
+            personsToRemove.add(samplePersons.get(i));
+        }
+    }
+
+    /**
+     * Adds a person and removes it again.
+     */
+    @Benchmark
+    public boolean addPersonThenRemove() throws DuplicatePersonException, PersonNotFoundException {
+        addressBook.addPerson(newPerson);
+        return addressBook.removePersons(newPersonOnly);
+    }
+
+    /**
+     * Edits a person and then edits it back.
+     */
+    @Benchmark
+    public void updatePersonThenRevert() throws DuplicatePersonException, PersonNotFoundException {
+        addressBook.updatePerson(personToEdit, editedPerson);
+        addressBook.updatePerson(editedPerson, personToEdit);
+    }
+
+    /**
+     * Removes one in every {@link #REMOVED_PERSONS_DIVISOR} persons, and then adds them back in one bulk operation.
+     */
+    @Benchmark
+    public void removePersonsThenAddBack() throws DuplicatePersonException, PersonNotFoundException {
+        addressBook.removePersons(personsToRemove);
+        addressBook.addPersons(personsToRemove);
+    }
+
+}
@@ -0,0 +1,137 @@
+package seedu.address.model.person;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.util.SyntheticAddressBook;
+
+/**
+ * Benchmarks constructing one person, as loading an address book does for every person, cycling through
+ * {@code PERSON_COUNT} generated persons.
+ *
+ * {@link #matchFieldsWithStringMatches()} is the baseline of validating the same fields with
+ * {@link String#matches(String)}, and the birthday with the alternation regex, as was done before the value objects
+ * kept precompiled patterns and a birthday scanner.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PersonConstructionBenchmark {
+
+    private static final int PERSON_COUNT = 1000;
+    private static final long SEED = 1;
+
+    private static final String OLD_BIRTHDAY_VALIDATION_REGEX = "^(?:(?:31(\\/|-|\\.| )(?:0?[13578]|1[02]|"
+            + "(?:jan|mar|may|jul|aug|oct|dec)))\\1|(?:(?:29|30)(\\/|-|\\.| )(?:0?[1,3-9]|1[0-2]|"
+            + "(?:jan|mar|apr|may|jun|jul|aug|sep|oct|nov|dec))\\2))(?:(?:1[6-9]|[2-9]\\d)?\\d{2})$|^(?:29(\\/|-|\\.| )"
+            + "(?:0?2|(?:feb))\\3(?:(?:(?:1[6-9]|[2-9]\\d)?(?:0[48]|[2468][048]|[13579][26])|"
+            + "(?:(?:16|[2468][048]|[3579][26])00))))$|^(?:0?[1-9]|1\\d|2[0-8])(\\/|-|\\.| )(?:(?:0?[1-9]|"
+            + "(?:jan|feb|mar|apr|may|jun|jul|aug|sep))|(?:1[0-2]|(?:oct|nov|dec)))\\4(?:(?:1[6-9]|[2-9]\\d)?\\d{2})$";
+
+    private ReadOnlyPerson[] persons;
+    private PersonFields[] fields;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        List<ReadOnlyPerson> generatedPersons = new SyntheticAddressBook(PERSON_COUNT, SEED).getPersonList();
+        persons = new ReadOnlyPerson[PERSON_COUNT];
+        fields = new PersonFields[PERSON_COUNT];
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            persons[i] = new Person(generatedPersons.get(i));
+            fields[i] = new PersonFields(persons[i]);
+        }
+    }
+
+    /**
+     * Constructs the value objects of a person from its fields, and the person from them.
+     */
+    @Benchmark
+    public Person constructPerson() throws IllegalValueException {
+        PersonFields person = fields[nextIndex()];
+        Set<Tag> tags = new HashSet<>();
+        for (String tagName : person.tagNames) {
+            tags.add(new Tag(tagName));
+        }
+        return new Person(new Name(person.name), new Phone(person.phone), new Birthday(person.birthday),
+                new Email(person.email), new Address(person.address), new PostalCode(person.postalCode),
+                new Favourite(person.favourite), tags);
+    }
+
+    /**
+     * Copies a person, as the person list does for every person put into it.
+     */
+    @Benchmark
+    public Person copyPerson() {
+        return new Person(persons[nextIndex()]);
+    }
+
+    /**
+     * Returns the number of valid fields of a person, found with {@link String#matches(String)}.
+     */
+    @Benchmark
+    public int matchFieldsWithStringMatches() {
+        PersonFields person = fields[nextIndex()];
+        int validCount = 0;
+        validCount += person.name.matches(Name.NAME_VALIDATION_REGEX) ? 1 : 0;
+        validCount += person.phone.matches(Phone.PHONE_VALIDATION_REGEX) ? 1 : 0;
+        validCount += person.birthday.toLowerCase().matches(OLD_BIRTHDAY_VALIDATION_REGEX) ? 1 : 0;
+        validCount += person.email.matches(Email.EMAIL_VALIDATION_REGEX) ? 1 : 0;
+        validCount += person.address.matches(Address.ADDRESS_VALIDATION_REGEX) ? 1 : 0;
+        validCount += person.postalCode.matches(PostalCode.POSTALCODE_VALIDATION_REGEX) ? 1 : 0;
+        validCount += person.favourite.matches(Favourite.FAV_VALIDATION_REGEX) ? 1 : 0;
+        for (String tagName : person.tagNames) {
+            validCount += tagName.matches(Tag.TAG_VALIDATION_REGEX) ? 1 : 0;
+        }
+        return validCount;
+    }
+
+    private int nextIndex() {
+        next = (next + 1) % PERSON_COUNT;
+        return next;
+    }
+
+    /**
+     * The fields of a person as the strings that its value objects are constructed from.
+     */
+    private static class PersonFields {
+        private final String name;
+        private final String phone;
+        private final String birthday;
+        private final String email;
+        private final String address;
+        private final String postalCode;
+        private final String favourite;
+        private final String[] tagNames;
+
+        PersonFields(ReadOnlyPerson person) {
+            name = person.getName().fullName;
+            phone = person.getPhone().value;
+            birthday = person.getBirthday().value;
+            email = person.getEmail().value;
+            address = person.getAddress().value;
+            postalCode = person.getPostalCode().value;
+            favourite = person.getFavourite().value;
+            tagNames = person.getTags().stream().map(tag -> tag.tagName).toArray(String[]::new);
+        }
+    }
+
+}
@@ -0,0 +1,61 @@
+package seedu.address.model.person;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.util.SampleDataUtil;
+
+/**
+ * Benchmarks filtering 1000 persons with a {@code PersonContainsKeywordsPredicate}, as the find command does.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PersonContainsKeywordsPredicateBenchmark {
+
+    private static final int PERSON_COUNT = 1000;
+
+    /** A keyword that matches no person, so every field of every person is checked, and a mix of keyword kinds */
+    @Param({"nobody", "alex 9243 m/mar favs"})
+    private String keywords;
+
+    private List<Person> persons;
+    private PersonContainsKeywordsPredicate predicate;
+
+    @Setup
+    public void setUp() {
+        persons = SampleDataUtil.getSamplePersons(PERSON_COUNT);
+        predicate = new PersonContainsKeywordsPredicate(Arrays.asList(keywords.split("\\s+")));
+    }
+
+    /**
+     * Returns the number of persons that match, so the tests cannot be optimised away.
+     */
+    @Benchmark
+    public int test() {
+        int matchCount = 0;
+        for (Person person : persons) {
+            if (predicate.test(person)) {
+                matchCount++;
+            }
+        }
+        return matchCount;
+    }
+
+}
@@ -0,0 +1,90 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.util.SyntheticAddressBook;
+
+/**
+ * Benchmarks building a {@code PersonSearchIndex} of {@code size} generated persons, and searching it for a number,
+ * for a number shorter than an n-gram, and for part of an email.
+ *
+ * The heap that the index takes is printed once per trial, as JMH does not measure it.
+ */
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PersonSearchIndexBenchmark {
+
+    private static final long SEED = 1;
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    @Param({"9482", "94", "xample"})
+    private String keyword;
+
+    private List<Person> persons;
+    private PersonSearchIndex index;
+    private List<String> keywords;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        persons = new ArrayList<>(size);
+        for (ReadOnlyPerson person : new SyntheticAddressBook(size, SEED).getPersonList()) {
+            persons.add(new Person(person));
+        }
+        keywords = Collections.singletonList(keyword);
+
+        long usedBefore = getUsedHeap();
+        index = build();
+        long usedAfter = getUsedHeap();
+        System.out.printf("%nPersonSearchIndex of %d persons: %d bytes per person%n",
+                size, (usedAfter - usedBefore) / size);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public PersonSearchIndex build() {
+        PersonSearchIndex builtIndex = new PersonSearchIndex();
+        persons.forEach(builtIndex::add);
+        return builtIndex;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public Set<ReadOnlyPerson> search() {
+        return index.search(keywords);
+    }
+
+    /**
+     * Returns the bytes of heap in use after a garbage collection.
+     */
+    private static long getUsedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+}
@@ -0,0 +1,64 @@
+package seedu.address.model.person;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.util.SampleDataUtil;
+
+/**
+ * Benchmarks adding a person to and removing a person from a {@code UniquePersonList} of {@code size} persons.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class UniquePersonListBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private UniquePersonList persons;
+    private ReadOnlyPerson newPerson;
+    private List<ReadOnlyPerson> newPersonOnly;
+
+    @Setup
+    public void setUp() throws DuplicatePersonException {
+        List<Person> samplePersons = SampleDataUtil.getSamplePersons(size + 1);
+        newPerson = samplePersons.remove(size);
+        newPersonOnly = Collections.singletonList(newPerson);
+        persons = new UniquePersonList();
+        persons.setPersons(samplePersons);
+    }
+
+    /**
+     * Adds a person and removes it again, so every invocation works on a list of the same size.
+     */
+    @Benchmark
+    public boolean addThenRemove() throws DuplicatePersonException, PersonNotFoundException {
+        persons.add(newPerson);
+        return persons.removeAll(newPersonOnly);
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return persons.contains(newPerson);
+    }
+
+}
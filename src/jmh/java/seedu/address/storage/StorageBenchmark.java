@@ -0,0 +1,114 @@
+package seedu.address.storage;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.UndoRedoStack;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.util.SyntheticAddressBook;
+
+/**
+ * Benchmarks saving and loading an address book of {@code size} generated persons in the XML and CSV formats.
+ * XML is saved both formatted and unformatted, as set by {@code Config#isXmlFormattedOutput()}.
+ * Each invocation takes long enough to be timed on its own, so every invocation is measured separately.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class StorageBenchmark {
+
+    private static final long SEED = 42;
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private File folder;
+    private AddressBook addressBook;
+    private XmlAddressBookStorage xmlStorage;
+    private XmlAddressBookStorage unformattedXmlStorage;
+    private CsvFileStorage csvStorage;
+
+    @Setup
+    public void setUp() throws DuplicatePersonException, IOException {
+        addressBook = new AddressBook();
+        addressBook.addPersons(new SyntheticAddressBook(size, SEED).getPersonList());
+
+        folder = Files.createTempDirectory("StorageBenchmark").toFile();
+        xmlStorage = new XmlAddressBookStorage(new File(folder, "addressbook.xml").getPath());
+        unformattedXmlStorage = new XmlAddressBookStorage(new File(folder, "unformatted.xml").getPath(), false);
+        csvStorage = new CsvFileStorage(new File(folder, "addressbook.csv").getPath());
+        // the load benchmarks read the files that these saves write
+        xmlStorage.saveAddressBook(addressBook);
+        csvStorage.saveToCsvFile(addressBook);
+    }
+
+    /**
+     * Deletes the files written by the benchmarks.
+     */
+    @TearDown
+    public void tearDown() {
+        for (File file : folder.listFiles()) {
+            file.delete();
+        }
+        folder.delete();
+    }
+
+    @Benchmark
+    public void saveXml() throws IOException {
+        xmlStorage.saveAddressBook(addressBook);
+    }
+
+    @Benchmark
+    public void saveUnformattedXml() throws IOException {
+        unformattedXmlStorage.saveAddressBook(addressBook);
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook loadXml() throws DataConversionException, IOException {
+        return xmlStorage.readAddressBook().get();
+    }
+
+    @Benchmark
+    public void saveCsv() throws IOException {
+        csvStorage.saveToCsvFile(addressBook);
+    }
+
+    /**
+     * Loads the CSV file into an empty model with the import command, which is how CSV files are read.
+     */
+    @Benchmark
+    public CommandResult loadCsv() throws CommandException {
+        ImportCommand importCommand = new ImportCommand(csvStorage.getCsvFilePath());
+        importCommand.setData(new ModelManager(new AddressBook(), new UserPrefs()), new CommandHistory(),
+                new UndoRedoStack());
+        return importCommand.execute();
+    }
+
+}
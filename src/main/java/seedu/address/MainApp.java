@@ -1,8 +1,15 @@
 package seedu.address;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
@@ -14,7 +21,8 @@ import seedu.address.commons.core.Config;
 import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
-import seedu.address.commons.events.storage.ExportToFileRequestEvent;
+import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.commons.events.model.AddressBookLoadingEvent;
 import seedu.address.commons.events.ui.ChangeInformationPanelRequestEvent;
 import seedu.address.commons.events.ui.ChangeThemeRequestEvent;
 import seedu.address.commons.events.ui.ExitAppRequestEvent;
@@ -23,16 +31,22 @@ import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.UndoRedoStack;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.tag.Tag;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
 import seedu.address.storage.CsvFileStorage;
 import seedu.address.storage.FileStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.MappedAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -48,6 +62,8 @@ public class MainApp extends Application {
     public static final Version VERSION = new Version(1, 4, 0, false);
 
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
+    // small enough that the person list visibly fills, and large enough that each chunk is worth a list change
+    private static final int PERSONS_PER_LOADED_CHUNK = 1000;
 
     protected Ui ui;
     protected Logic logic;
@@ -55,6 +71,8 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
     protected UserPrefs userPrefs;
+    // true if the address book loaded into the model was read from the storage, so it does not need to be saved
+    private boolean isInitialDataStored;
 
     @Override
     public void init() throws Exception {
@@ -65,15 +83,18 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new XmlAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(config, userPrefs);
         FileStorage csvFileStorage = new CsvFileStorage(config.getCsvFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage, csvFileStorage);
+        storage = new StorageManager(addressBookStorage, userPrefsStorage, csvFileStorage,
+                config.getAddressBookSaveDebounceMillis(), config.getJournalCompactionThreshold());
 
         initLogging(config);
 
-        model = initModelManager(storage, userPrefs);
+        // the model starts empty, and is filled by loadAddressBook() once the main window is shown
+        model = new ModelManager(new AddressBook(), userPrefs);
 
-        logic = new LogicManager(model);
+        logic = new LogicManager(model,
+                new UndoRedoStack(config.getUndoHistoryLimit(), config.getUndoHistoryMemoryBudget()));
 
         ui = new UiManager(logic, config, userPrefs);
 
@@ -86,18 +107,62 @@ public class MainApp extends Application {
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
+     * Returns the {@code AddressBookStorage} of the format in {@code userPrefs}, set up by {@code config}. <br>
+     * If the newest file of the other formats holds newer data, including its journal, it is migrated to the file
+     * of the chosen format, so switching the format back to xml exports the binary or mapped data as xml.
+     * The files of the other formats are left as they are.
+     */
+    private AddressBookStorage initAddressBookStorage(Config config, UserPrefs userPrefs) {
+        final Map<String, AddressBookStorage> storages = new LinkedHashMap<>();
+        storages.put(UserPrefs.ADDRESS_BOOK_FORMAT_XML, new XmlAddressBookStorage(userPrefs.getAddressBookFilePath(),
+                config.isXmlFormattedOutput()));
+        storages.put(UserPrefs.ADDRESS_BOOK_FORMAT_BINARY,
+                new BinaryAddressBookStorage(userPrefs.getBinaryAddressBookFilePath()));
+        storages.put(UserPrefs.ADDRESS_BOOK_FORMAT_MAPPED,
+                new MappedAddressBookStorage(userPrefs.getMappedAddressBookFilePath()));
+
+        final AddressBookStorage chosenStorage = storages.getOrDefault(userPrefs.getAddressBookFormat(),
+                storages.get(UserPrefs.ADDRESS_BOOK_FORMAT_XML));
+        storages.values().stream().filter(storage -> storage != chosenStorage)
+                .max(Comparator.comparingLong(storage -> new JournaledAddressBookStorage(storage).getLastModified()))
+                .ifPresent(newestOther -> migrateAddressBook(newestOther, chosenStorage));
+        return chosenStorage;
+    }
+
+    /**
+     * Migrates the data of {@code source} to {@code target} if {@code target} is missing, older or in an older
+     * version of its format. The journals of both storages are taken into account.
+     */
+    private void migrateAddressBook(AddressBookStorage source, AddressBookStorage target) {
+        try {
+            if (new JournaledAddressBookStorage(target).migrateFrom(new JournaledAddressBookStorage(source))) {
+                logger.info("Migrated AddressBook file " + source.getAddressBookFilePath() + " to "
+                        + target.getAddressBookFilePath());
+            }
+        } catch (DataConversionException e) {
+            logger.warning("Data file " + source.getAddressBookFilePath()
+                    + " not in the correct format. Will not be migrated");
+        } catch (IOException e) {
+            logger.warning("Problem while migrating the data file " + source.getAddressBookFilePath() + " : "
+                    + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns the data from {@code storage}'s address book. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
      */
-    private Model initModelManager(Storage storage, UserPrefs userPrefs) {
+    private ReadOnlyAddressBook readInitialData(Storage storage) {
         Optional<ReadOnlyAddressBook> addressBookOptional;
         ReadOnlyAddressBook initialData;
+        isInitialDataStored = false;
         try {
             addressBookOptional = storage.readAddressBook();
             if (!addressBookOptional.isPresent()) {
                 logger.info("Data file not found. Will be starting with a sample AddressBook");
             }
+            isInitialDataStored = addressBookOptional.isPresent();
             initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
         } catch (DataConversionException e) {
             logger.warning("Data file not in the correct format. Will be starting with an empty AddressBook");
@@ -106,8 +171,76 @@ public class MainApp extends Application {
             logger.warning("Problem while reading from the file. Will be starting with an empty AddressBook");
             initialData = new AddressBook();
         }
+        return initialData;
+    }
+
+    /**
+     * Reads {@code storage}'s address book and adds its data to the model in chunks of
+     * {@code PERSONS_PER_LOADED_CHUNK} persons, raising an {@code AddressBookLoadingEvent} after each chunk. <br>
+     * Each chunk is copied from the book as it is loaded, so a book that decodes persons on demand, such as a
+     * {@code MappedAddressBook}, only decodes the next chunk while the previous ones are shown. <br>
+     * The model is only changed on the JavaFX application thread. If this is called on another thread, each chunk
+     * is added before the next one is handed over, so the window is redrawn between chunks. <br>
+     * Data that was not read from {@code storage}, i.e. the sample or empty address book, is saved in full once
+     * loaded, so that later changes can be saved against it. <br>
+     * If loading fails part way, it is reported as finished with the persons loaded so far.
+     */
+    protected void loadAddressBook() {
+        boolean isLoaded = false;
+        try {
+            ReadOnlyAddressBook initialData = readInitialData(storage);
+            final List<ReadOnlyPerson> persons = initialData.getPersonList();
+            final List<Tag> tags = new ArrayList<>(initialData.getTagList());
+            final int totalCount = persons.size();
+            logger.info("Loading " + totalCount + " persons into the model");
+
+            int start = 0;
+            do {
+                final int end = Math.min(start + PERSONS_PER_LOADED_CHUNK, totalCount);
+                final List<ReadOnlyPerson> chunk = new ArrayList<>(persons.subList(start, end));
+                // the tags go with the first chunk, as some may not be used by any person
+                final List<Tag> chunkTags = (start == 0) ? tags : Collections.emptyList();
+                runOnFxApplicationThread(() -> {
+                    model.addLoadedData(chunkTags, chunk);
+                    if (end == totalCount && !isInitialDataStored) {
+                        EventsCenter.getInstance().post(new AddressBookChangedEvent(model.getAddressBook()));
+                    }
+                    EventsCenter.getInstance().post(
+                            new AddressBookLoadingEvent(model.getAddressBook(), end, totalCount));
+                });
+                start = end;
+            } while (start < totalCount);
+            isLoaded = true;
+        } finally {
+            if (!isLoaded) {
+                // loading ends with the persons loaded so far, so that the queued commands are not held forever
+                logger.severe("Failed to load the address book into the model");
+                runOnFxApplicationThread(() -> {
+                    int loadedCount = model.getAddressBook().getPersonList().size();
+                    EventsCenter.getInstance().post(
+                            new AddressBookLoadingEvent(model.getAddressBook(), loadedCount, loadedCount));
+                });
+            }
+        }
+    }
 
-        return new ModelManager(initialData, userPrefs);
+    /**
+     * Runs {@code action} on the JavaFX application thread, and waits for it to finish.
+     */
+    private static void runOnFxApplicationThread(Runnable action) {
+        if (Platform.isFxApplicationThread()) {
+            action.run();
+            return;
+        }
+        FutureTask<Void> task = new FutureTask<>(action, null);
+        Platform.runLater(task);
+        try {
+            task.get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ee) {
+            throw new IllegalStateException("Failed to load the address book into the model", ee.getCause());
+        }
     }
 
     private void initLogging(Config config) {
@@ -190,12 +323,20 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting Bevy " + MainApp.VERSION);
         ui.start(primaryStage);
+
+        // the window is shown while the address book loads, and commands entered meanwhile are queued
+        EventsCenter.getInstance().post(new AddressBookLoadingEvent(model.getAddressBook(), 0,
+                AddressBookLoadingEvent.UNKNOWN_TOTAL));
+        Thread loader = new Thread(this::loadAddressBook, "AddressBook loader");
+        loader.setDaemon(true);
+        loader.start();
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
         ui.stop();
+        storage.flushPendingSaves();
         try {
             storage.saveUserPrefs(userPrefs);
         } catch (IOException e) {
@@ -219,13 +360,6 @@ public class MainApp extends Application {
     }
     // @@author
 
-    // @@author johnweikangong
-    @Subscribe
-    public void handleExportToFileRequestEvent(ExportToFileRequestEvent event) throws IOException {
-        storage.saveToCsvFile(logic.getAddressBook());
-    }
-    // @@author
-
     @Subscribe
     public void handleExitAppRequestEvent(ExitAppRequestEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
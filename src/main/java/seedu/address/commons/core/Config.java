@@ -15,6 +15,11 @@ public class Config {
     private Level logLevel = Level.INFO;
     private String userPrefsFilePath = "preferences.json";
     private String csvFilePath = "Bevy.csv";
+    private int undoHistoryLimit = 100;
+    private long undoHistoryMemoryBudget = 64 * 1024 * 1024;
+    private long addressBookSaveDebounceMillis = 500;
+    private int journalCompactionThreshold = 1000;
+    private boolean isXmlFormattedOutput = true;
 
     public String getAppTitle() {
         return appTitle;
@@ -44,6 +49,59 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public int getUndoHistoryLimit() {
+        return undoHistoryLimit;
+    }
+
+    public void setUndoHistoryLimit(int undoHistoryLimit) {
+        this.undoHistoryLimit = undoHistoryLimit;
+    }
+
+    /**
+     * Returns the approximate number of bytes that the undo history may hold.
+     */
+    public long getUndoHistoryMemoryBudget() {
+        return undoHistoryMemoryBudget;
+    }
+
+    public void setUndoHistoryMemoryBudget(long undoHistoryMemoryBudget) {
+        this.undoHistoryMemoryBudget = undoHistoryMemoryBudget;
+    }
+
+    /**
+     * Returns how long changes to the address book are collected before they are saved together.
+     */
+    public long getAddressBookSaveDebounceMillis() {
+        return addressBookSaveDebounceMillis;
+    }
+
+    public void setAddressBookSaveDebounceMillis(long addressBookSaveDebounceMillis) {
+        this.addressBookSaveDebounceMillis = addressBookSaveDebounceMillis;
+    }
+
+    /**
+     * Returns how many persons the address book journal may record before the whole book is saved again.
+     */
+    public int getJournalCompactionThreshold() {
+        return journalCompactionThreshold;
+    }
+
+    public void setJournalCompactionThreshold(int journalCompactionThreshold) {
+        this.journalCompactionThreshold = journalCompactionThreshold;
+    }
+
+    /**
+     * Returns true if the xml data file is indented when saved, which makes it easier to read but larger and slower
+     * to write.
+     */
+    public boolean isXmlFormattedOutput() {
+        return isXmlFormattedOutput;
+    }
+
+    public void setXmlFormattedOutput(boolean isXmlFormattedOutput) {
+        this.isXmlFormattedOutput = isXmlFormattedOutput;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -57,12 +115,18 @@ public class Config {
 
         return Objects.equals(appTitle, o.appTitle)
                 && Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && undoHistoryLimit == o.undoHistoryLimit
+                && undoHistoryMemoryBudget == o.undoHistoryMemoryBudget
+                && addressBookSaveDebounceMillis == o.addressBookSaveDebounceMillis
+                && journalCompactionThreshold == o.journalCompactionThreshold
+                && isXmlFormattedOutput == o.isXmlFormattedOutput;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(appTitle, logLevel, userPrefsFilePath);
+        return Objects.hash(appTitle, logLevel, userPrefsFilePath, undoHistoryLimit, undoHistoryMemoryBudget,
+                addressBookSaveDebounceMillis, journalCompactionThreshold, isXmlFormattedOutput);
     }
 
     @Override
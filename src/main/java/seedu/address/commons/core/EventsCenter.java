@@ -1,21 +1,74 @@
 package seedu.address.commons.core;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
 
+import javafx.application.Platform;
 import seedu.address.commons.events.BaseEvent;
+import seedu.address.commons.events.CoalescibleEvent;
 
 /**
  * Manages the event dispatching of the app.
+ *
+ * Handlers are the {@code @Subscribe} methods of the objects passed to {@link #registerHandler(Object)}, and each runs
+ * on the thread declared by its {@link HandleOn} annotation. Inline handlers run as with a Guava {@code EventBus}:
+ * an event posted while another is being handled on the same thread is handled after it. The other handlers are
+ * queued on their thread without holding up the poster, so the time to post an event does not grow with the number
+ * of panels that listen to it. Every handler receives events one at a time, in the order they were posted, and a
+ * queued handler that falls behind receives each run of {@link CoalescibleEvent}s it missed as one event.
  */
 public class EventsCenter {
     private static final Logger logger = LogsCenter.getLogger(EventsCenter.class);
+    private static final ExecutorService sharedBackgroundExecutor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "Event handler");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final Map<Class<?>, Set<Class<?>>> supertypesCache = new ConcurrentHashMap<>();
     private static EventsCenter instance;
-    private final EventBus eventBus;
+
+    private final Executor fxThreadExecutor;
+    private final Executor backgroundThreadExecutor;
+    // the handlers of each event type, in the order they were registered
+    private final Map<Class<?>, List<Handler>> handlersByEventType = new ConcurrentHashMap<>();
+    // the inline handlers yet to receive the events posted on each thread
+    private final ThreadLocal<Queue<Runnable>> inlineDeliveries = ThreadLocal.withInitial(ArrayDeque::new);
+    private final ThreadLocal<Boolean> isDeliveringInline = ThreadLocal.withInitial(() -> false);
+    // the number of handlers on other threads that have events they have not finished handling
+    private final AtomicInteger busyHandlerCount = new AtomicInteger();
 
     private EventsCenter() {
-        eventBus = new EventBus();
+        this(Platform::runLater, sharedBackgroundExecutor);
+    }
+
+    /**
+     * Creates an {@code EventsCenter} that runs {@link ThreadMode#FX_THREAD} handlers with {@code fxThreadExecutor}
+     * and {@link ThreadMode#BACKGROUND} handlers with {@code backgroundThreadExecutor}.
+     */
+    EventsCenter(Executor fxThreadExecutor, Executor backgroundThreadExecutor) {
+        this.fxThreadExecutor = fxThreadExecutor;
+        this.backgroundThreadExecutor = backgroundThreadExecutor;
     }
 
     public static EventsCenter getInstance() {
@@ -29,8 +82,20 @@ public class EventsCenter {
         instance = null;
     }
 
+    /**
+     * Registers the {@code @Subscribe} methods of {@code handler}, including those it inherits.
+     */
     public void registerHandler(Object handler) {
-        eventBus.register(handler);
+        for (Method method : findSubscribeMethods(handler.getClass())) {
+            if (method.getParameterCount() != 1) {
+                throw new IllegalArgumentException("Event handler " + method + " must take exactly one parameter");
+            }
+            method.setAccessible(true);
+            HandleOn handleOn = method.getAnnotation(HandleOn.class);
+            ThreadMode mode = handleOn == null ? ThreadMode.INLINE : handleOn.value();
+            handlersByEventType.computeIfAbsent(method.getParameterTypes()[0], unused -> new CopyOnWriteArrayList<>())
+                    .add(new Handler(handler, method, mode));
+        }
     }
 
     /**
@@ -38,8 +103,179 @@ public class EventsCenter {
      */
     public <E extends BaseEvent> EventsCenter post(E event) {
         logger.info("------[Event Posted] " + event.getClass().getCanonicalName() + ": " + event.toString());
-        eventBus.post(event);
+        for (Class<?> eventType : supertypesCache.computeIfAbsent(event.getClass(), EventsCenter::getSupertypes)) {
+            for (Handler handler : handlersByEventType.getOrDefault(eventType, Collections.emptyList())) {
+                handler.deliver(event);
+            }
+        }
+        deliverInlineEvents();
         return this;
     }
 
+    /**
+     * Returns true if a handler on another thread has events that it has not finished handling.
+     */
+    public boolean hasQueuedEvents() {
+        return busyHandlerCount.get() > 0;
+    }
+
+    /**
+     * Runs the inline deliveries queued on this thread, unless this thread is running them already.
+     */
+    private void deliverInlineEvents() {
+        if (isDeliveringInline.get()) {
+            return;
+        }
+        isDeliveringInline.set(true);
+        try {
+            Queue<Runnable> deliveries = inlineDeliveries.get();
+            for (Runnable delivery = deliveries.poll(); delivery != null; delivery = deliveries.poll()) {
+                delivery.run();
+            }
+        } finally {
+            isDeliveringInline.set(false);
+        }
+    }
+
+    /**
+     * Returns the methods annotated with {@code @Subscribe} of {@code type} and its supertypes.
+     * A method that overrides another is only returned once, as declared in the most specific type.
+     */
+    private static List<Method> findSubscribeMethods(Class<?> type) {
+        final List<Method> methods = new ArrayList<>();
+        final Set<String> signatures = new HashSet<>();
+        for (Class<?> supertype : getSupertypes(type)) {
+            for (Method method : supertype.getDeclaredMethods()) {
+                if (method.isAnnotationPresent(Subscribe.class) && !method.isSynthetic()
+                        && signatures.add(method.getName() + Arrays.toString(method.getParameterTypes()))) {
+                    methods.add(method);
+                }
+            }
+        }
+        return methods;
+    }
+
+    /**
+     * Returns {@code type}, its superclasses and then all the interfaces they implement.
+     */
+    private static Set<Class<?>> getSupertypes(Class<?> type) {
+        final Set<Class<?>> supertypes = new LinkedHashSet<>();
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            supertypes.add(c);
+        }
+        final Queue<Class<?>> toVisit = new ArrayDeque<>(supertypes);
+        while (!toVisit.isEmpty()) {
+            for (Class<?> implemented : toVisit.poll().getInterfaces()) {
+                if (supertypes.add(implemented)) {
+                    toVisit.add(implemented);
+                }
+            }
+        }
+        return supertypes;
+    }
+
+    /**
+     * A {@code @Subscribe} method of a registered object, and the executor of its thread mode.
+     */
+    private class Handler {
+        private final Object target;
+        private final Method method;
+        private final ThreadMode mode;
+        private final Executor executor;
+        // the events queued for a handler on another thread, which it has not started handling yet
+        private final Deque<Object> pendingEvents = new ArrayDeque<>();
+        private boolean isScheduled = false;
+
+        Handler(Object target, Method method, ThreadMode mode) {
+            this.target = target;
+            this.method = method;
+            this.mode = mode;
+            switch (mode) {
+            case FX_THREAD:
+                executor = fxThreadExecutor;
+                break;
+            case BACKGROUND:
+                executor = backgroundThreadExecutor;
+                break;
+            default:
+                executor = null;
+                break;
+            }
+        }
+
+        /**
+         * Queues {@code event} to be handled on the thread of this handler's mode. On another thread, the event is
+         * coalesced with the last pending event if both are the same {@link CoalescibleEvent}.
+         */
+        void deliver(Object event) {
+            if (mode == ThreadMode.INLINE) {
+                inlineDeliveries.get().add(() -> invoke(event));
+                return;
+            }
+            synchronized (pendingEvents) {
+                pendingEvents.add(coalesceWithLastPendingEvent(event));
+                if (isScheduled) {
+                    return;
+                }
+                isScheduled = true;
+                busyHandlerCount.incrementAndGet();
+            }
+            executor.execute(this::handleNextPendingEvent);
+        }
+
+        /**
+         * Removes the last pending event and returns it coalesced with {@code event}, if it can be, or returns
+         * {@code event} otherwise.
+         */
+        @SuppressWarnings("unchecked")
+        private Object coalesceWithLastPendingEvent(Object event) {
+            Object lastEvent = pendingEvents.peekLast();
+            if (!(event instanceof CoalescibleEvent) || lastEvent == null || lastEvent.getClass() != event.getClass()) {
+                return event;
+            }
+            pendingEvents.removeLast();
+            return ((CoalescibleEvent<BaseEvent>) lastEvent).coalesce((BaseEvent) event);
+        }
+
+        /**
+         * Handles the oldest pending event, then schedules the next one, so that the handler receives its events
+         * one at a time and in the order they were posted.
+         */
+        private void handleNextPendingEvent() {
+            final Object event;
+            synchronized (pendingEvents) {
+                event = pendingEvents.poll();
+            }
+            try {
+                invoke(event);
+            } finally {
+                final boolean hasPendingEvents;
+                synchronized (pendingEvents) {
+                    isScheduled = !pendingEvents.isEmpty();
+                    hasPendingEvents = isScheduled;
+                    if (!hasPendingEvents) {
+                        busyHandlerCount.decrementAndGet();
+                    }
+                }
+                if (hasPendingEvents) {
+                    executor.execute(this::handleNextPendingEvent);
+                }
+            }
+        }
+
+        /**
+         * Handles {@code event}. An inline handler may be reached from several threads at once, so handling is
+         * synchronized, as with a Guava {@code EventBus}. An exception thrown by the handler is logged.
+         */
+        private synchronized void invoke(Object event) {
+            try {
+                method.invoke(target, event);
+            } catch (InvocationTargetException ite) {
+                logger.log(Level.SEVERE, "Exception thrown by event handler " + method, ite.getCause());
+            } catch (IllegalAccessException iae) {
+                throw new AssertionError("Event handlers are made accessible when registered", iae);
+            }
+        }
+    }
+
 }
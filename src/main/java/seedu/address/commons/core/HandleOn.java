@@ -0,0 +1,19 @@
+package seedu.address.commons.core;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the thread on which an event handler, i.e. a {@code @Subscribe} method, runs.
+ * Handlers without this annotation run {@link ThreadMode#INLINE}.
+ *
+ * Whatever the mode, a handler receives events one at a time, in the order they were posted.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface HandleOn {
+    /** The thread on which the handler runs */
+    ThreadMode value();
+}
@@ -0,0 +1,13 @@
+package seedu.address.commons.core;
+
+/**
+ * The threads on which an event handler can run, as declared with {@link HandleOn}.
+ */
+public enum ThreadMode {
+    /** On the thread that posts the event, before {@link EventsCenter#post} returns */
+    INLINE,
+    /** On the JavaFX application thread, after the code that posts the event has finished */
+    FX_THREAD,
+    /** On a background thread, for handlers that neither touch the UI nor need to keep up with the model */
+    BACKGROUND
+}
@@ -0,0 +1,16 @@
+package seedu.address.commons.events;
+
+/**
+ * An event that can be merged with the events of the same class posted after it, for handlers that are queued on
+ * another thread. When such a handler is behind, it receives one merged event instead of every event it missed.
+ *
+ * @param <E> the class of the event itself.
+ */
+public interface CoalescibleEvent<E extends BaseEvent> {
+
+    /**
+     * Returns one event that describes both this event and {@code later}, which was posted after it.
+     */
+    E coalesce(E later);
+
+}
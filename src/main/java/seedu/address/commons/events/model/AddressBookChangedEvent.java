@@ -1,15 +1,33 @@
 package seedu.address.commons.events.model;
 
 import seedu.address.commons.events.BaseEvent;
+import seedu.address.commons.events.CoalescibleEvent;
+import seedu.address.model.AddressBookChange;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /** Indicates the AddressBook in the model has changed */
-public class AddressBookChangedEvent extends BaseEvent {
+public class AddressBookChangedEvent extends BaseEvent implements CoalescibleEvent<AddressBookChangedEvent> {
 
     public final ReadOnlyAddressBook data;
+    /** The change that was made to {@code data}, or null if the whole address book may have changed */
+    public final AddressBookChange change;
 
     public AddressBookChangedEvent(ReadOnlyAddressBook data) {
+        this(data, null);
+    }
+
+    public AddressBookChangedEvent(ReadOnlyAddressBook data, AddressBookChange change) {
         this.data = data;
+        this.change = change;
+    }
+
+    /**
+     * Returns the event of the data of {@code later}, with the changes of both events merged.
+     */
+    @Override
+    public AddressBookChangedEvent coalesce(AddressBookChangedEvent later) {
+        AddressBookChange mergedChange = (change == null || later.change == null) ? null : change.merge(later.change);
+        return new AddressBookChangedEvent(later.data, mergedChange);
     }
 
     @Override
@@ -0,0 +1,34 @@
+package seedu.address.commons.events.model;
+
+import seedu.address.commons.events.BaseEvent;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/** Indicates the progress of filling the AddressBook in the model with the data read from storage at startup */
+public class AddressBookLoadingEvent extends BaseEvent {
+
+    /** The total number of persons while the data file is still being read */
+    public static final int UNKNOWN_TOTAL = -1;
+
+    public final ReadOnlyAddressBook data;
+    public final int loadedCount;
+    /** The number of persons to load, or {@link #UNKNOWN_TOTAL} if the data file is still being read */
+    public final int totalCount;
+
+    public AddressBookLoadingEvent(ReadOnlyAddressBook data, int loadedCount, int totalCount) {
+        this.data = data;
+        this.loadedCount = loadedCount;
+        this.totalCount = totalCount;
+    }
+
+    /**
+     * Returns true if every person has been loaded into the model.
+     */
+    public boolean isFinished() {
+        return totalCount != UNKNOWN_TOTAL && loadedCount == totalCount;
+    }
+
+    @Override
+    public String toString() {
+        return "loaded " + loadedCount + " of " + (totalCount == UNKNOWN_TOTAL ? "?" : totalCount) + " persons";
+    }
+}
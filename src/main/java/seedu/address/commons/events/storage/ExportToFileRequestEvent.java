@@ -1,6 +1,10 @@
 package seedu.address.commons.events.storage;
 
+import java.util.List;
+
 import seedu.address.commons.events.BaseEvent;
+import seedu.address.model.person.PersonField;
+import seedu.address.model.person.ReadOnlyPerson;
 
 // @@author johnweikangong
 /**
@@ -8,6 +12,15 @@ import seedu.address.commons.events.BaseEvent;
  */
 public class ExportToFileRequestEvent extends BaseEvent {
 
+    /** The persons to export, in a list that must not be changed after the event is raised */
+    public final List<ReadOnlyPerson> persons;
+    public final List<PersonField> columns;
+
+    public ExportToFileRequestEvent(List<ReadOnlyPerson> persons, List<PersonField> columns) {
+        this.persons = persons;
+        this.columns = columns;
+    }
+
     @Override
     public String toString() {
         return this.getClass().toString();
@@ -0,0 +1,140 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads rows of fields in the CSV format of RFC 4180, one row at a time.
+ * Quoted fields may hold commas, doubled quotes and line breaks. Rows may end with CRLF, LF or CR.
+ */
+public class CsvReader implements Closeable {
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final Reader reader;
+    // the field being read, which is reused for every field
+    private final StringBuilder field = new StringBuilder();
+    // a character that was read ahead, or -2 if there is none
+    private int pushedBack = -2;
+    // the last character read from the reader, to count a CRLF line break once
+    private int lastRead = -1;
+    private int lineBreakCount;
+    private int rowLineNumber;
+    private boolean isAtStart = true;
+
+    /**
+     * @param reader is buffered if it is not a {@code BufferedReader} already.
+     */
+    public CsvReader(Reader reader) {
+        requireNonNull(reader);
+        this.reader = (reader instanceof BufferedReader) ? reader : new BufferedReader(reader);
+    }
+
+    /**
+     * Returns the fields of the next row, or null if there are no more rows.
+     * Empty lines are skipped.
+     */
+    public List<String> readRow() throws IOException {
+        int c = read();
+        if (isAtStart && c == BYTE_ORDER_MARK) {
+            c = read();
+        }
+        isAtStart = false;
+        while (c == '\r' || c == '\n') {
+            c = read();
+        }
+        if (c == -1) {
+            return null;
+        }
+        rowLineNumber = lineBreakCount + 1;
+
+        final List<String> fields = new ArrayList<>();
+        while (true) {
+            field.setLength(0);
+            if (c == QUOTE) {
+                c = readQuotedField();
+            }
+            while (c != SEPARATOR && c != '\r' && c != '\n' && c != -1) {
+                field.append((char) c);
+                c = read();
+            }
+            fields.add(field.toString());
+            if (c != SEPARATOR) {
+                skipLineFeedAfter(c);
+                return fields;
+            }
+            c = read();
+        }
+    }
+
+    /**
+     * Returns the number of the line, counting from 1, on which the row last returned by {@link #readRow()} starts.
+     * A row holding quoted line breaks spans several lines.
+     */
+    public int getLineNumber() {
+        return rowLineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Reads the rest of a quoted field into {@link #field}, and returns the character after its closing quote.
+     * A field that is not closed before the end of the input ends there.
+     */
+    private int readQuotedField() throws IOException {
+        while (true) {
+            int c = read();
+            if (c == -1) {
+                return c;
+            }
+            if (c == QUOTE) {
+                c = read();
+                if (c != QUOTE) {
+                    return c;
+                }
+            }
+            field.append((char) c);
+        }
+    }
+
+    /**
+     * Consumes the LF of a CRLF line break, if {@code c} is its CR.
+     */
+    private void skipLineFeedAfter(int c) throws IOException {
+        if (c == '\r') {
+            int next = read();
+            if (next != '\n') {
+                pushedBack = next;
+            }
+        }
+    }
+
+    /**
+     * Returns the next character, which may be one that was read ahead, or -1 at the end of the input.
+     */
+    private int read() throws IOException {
+        if (pushedBack != -2) {
+            int c = pushedBack;
+            pushedBack = -2;
+            return c;
+        }
+        int c = reader.read();
+        if (c == '\r' || (c == '\n' && lastRead != '\r')) {
+            lineBreakCount++;
+        }
+        lastRead = c;
+        return c;
+    }
+
+}
@@ -0,0 +1,95 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * Writes rows of fields in the CSV format of RFC 4180.
+ * A field is quoted if it holds a comma, a quote or a line break, and the quotes in it are doubled.
+ * Rows end with CRLF.
+ */
+public class CsvWriter implements Closeable {
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+    private static final String LINE_BREAK = "\r\n";
+
+    private final Writer writer;
+    // the row being written, which is reused for every row
+    private final StringBuilder row = new StringBuilder();
+    private boolean isRowEmpty = true;
+
+    /**
+     * @param writer is buffered if it is not a {@code BufferedWriter} already.
+     */
+    public CsvWriter(Writer writer) {
+        requireNonNull(writer);
+        this.writer = (writer instanceof BufferedWriter) ? writer : new BufferedWriter(writer);
+    }
+
+    /**
+     * Appends {@code field} to the current row.
+     */
+    public void writeField(String field) {
+        requireNonNull(field);
+        if (!isRowEmpty) {
+            row.append(SEPARATOR);
+        }
+        isRowEmpty = false;
+        if (!needsQuotes(field)) {
+            row.append(field);
+            return;
+        }
+        row.append(QUOTE);
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == QUOTE) {
+                row.append(QUOTE);
+            }
+            row.append(c);
+        }
+        row.append(QUOTE);
+    }
+
+    /**
+     * Ends the current row and writes it out.
+     */
+    public void endRow() throws IOException {
+        row.append(LINE_BREAK);
+        writer.append(row);
+        row.setLength(0);
+        isRowEmpty = true;
+    }
+
+    /**
+     * Writes {@code fields} as one row.
+     */
+    public void writeRow(List<String> fields) throws IOException {
+        fields.forEach(this::writeField);
+        endRow();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    /**
+     * Returns true if {@code field} holds a separator, quote or line break, and so must be quoted.
+     */
+    private static boolean needsQuotes(String field) {
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == SEPARATOR || c == QUOTE || c == '\r' || c == '\n') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
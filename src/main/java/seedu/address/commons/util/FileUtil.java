@@ -3,8 +3,15 @@ package seedu.address.commons.util;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
 
 /**
  * Writes and reads files
@@ -80,6 +87,48 @@ public class FileUtil {
         Files.write(file.toPath(), content.getBytes(CHARSET));
     }
 
+    /**
+     * Returns the CRC32 of the content of {@code file}, or 0 if there is no such file.
+     */
+    public static long getChecksum(File file) throws IOException {
+        if (!isFileExists(file)) {
+            return 0;
+        }
+        final CRC32 crc = new CRC32();
+        final byte[] buffer = new byte[64 * 1024];
+        try (InputStream in = new FileInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                crc.update(buffer, 0, read);
+            }
+        }
+        return crc.getValue();
+    }
+
+    /**
+     * Forces the content of {@code file} to the storage device, so that it survives a crash.
+     */
+    public static void sync(File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Replaces {@code target} with {@code source} in a single step, after syncing {@code source} to the device.
+     * A reader of {@code target} sees either the old or the new content in full, even if the app crashes midway.
+     * Falls back to a plain replacement on file systems that cannot move files atomically.
+     */
+    public static void replaceAtomically(File source, File target) throws IOException {
+        sync(source);
+        try {
+            Files.move(source.toPath(), target.toPath(), StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
     /**
      * Converts a string to a platform-specific file path
      * @param pathWithForwardSlash A String representing a file path but using '/' as the separator
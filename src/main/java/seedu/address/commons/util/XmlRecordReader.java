@@ -0,0 +1,191 @@
+package seedu.address.commons.util;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Reads the records of an XML file one at a time, without holding the whole document in memory.
+ * A record is an element with one of the given names, and its fields are the texts of its child elements, e.g.
+ * {@code <persons><name>Alice</name><tagged>friends</tagged><tagged>family</tagged></persons>}.
+ * A record may also be a plain text element, such as {@code <tags>friends</tags>}, which has no fields.
+ */
+public class XmlRecordReader implements Closeable {
+
+    private static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+
+    private final Closeable in;
+    private final XMLStreamReader reader;
+    private final Set<String> recordElements;
+    // the text directly within the record last read, outside its child elements
+    private final StringBuilder recordText = new StringBuilder();
+    private String recordElement;
+    private int recordLineNumber;
+
+    /**
+     * @param recordElements the names of the elements that are records, wherever they are in the document.
+     * @throws IOException if the XML stream cannot be set up.
+     */
+    public XmlRecordReader(Reader in, String... recordElements) throws IOException {
+        requireAllNonNull(in, recordElements);
+        try {
+            this.reader = createStreamReader(in);
+        } catch (XMLStreamException xse) {
+            throw new IOException(xse.getMessage(), xse);
+        }
+        this.in = in;
+        this.recordElements = new HashSet<>(Arrays.asList(recordElements));
+    }
+
+    /**
+     * Reads the records of {@code in}, whose encoding is taken from its XML declaration. The parser decodes the
+     * bytes itself, which is faster than reading through a {@code Reader}.
+     *
+     * @param recordElements the names of the elements that are records, wherever they are in the document.
+     * @throws IOException if the XML stream cannot be set up.
+     */
+    public XmlRecordReader(InputStream in, String... recordElements) throws IOException {
+        requireAllNonNull(in, recordElements);
+        try {
+            this.reader = createStreamReader(in);
+        } catch (XMLStreamException xse) {
+            throw new IOException(xse.getMessage(), xse);
+        }
+        this.in = in;
+        this.recordElements = new HashSet<>(Arrays.asList(recordElements));
+    }
+
+    /**
+     * Creates a parser of {@code in}, which is a {@code Reader} or an {@code InputStream}.
+     */
+    private static XMLStreamReader createStreamReader(Closeable in) throws XMLStreamException {
+        // the factory is shared, so it is only used to create parsers, which the factory allows from any thread
+        synchronized (INPUT_FACTORY) {
+            return (in instanceof Reader)
+                    ? INPUT_FACTORY.createXMLStreamReader((Reader) in)
+                    : INPUT_FACTORY.createXMLStreamReader((InputStream) in);
+        }
+    }
+
+    /**
+     * Creates a factory that does not resolve DTDs or external entities, as a record file is data only.
+     */
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    /**
+     * Returns the fields of the next record, from the name of each child element to its texts in document order,
+     * or null if there are no more records.
+     *
+     * @throws IOException if the XML is malformed, or a child element of a record has child elements of its own.
+     */
+    public Map<String, List<String>> readRecord() throws IOException {
+        final Map<String, List<String>> fields = new LinkedHashMap<>();
+        final boolean isRead = readRecord((name, text) ->
+                fields.computeIfAbsent(name, unused -> new ArrayList<>(1)).add(text));
+        return isRead ? fields : null;
+    }
+
+    /**
+     * Reads the next record, and passes the name and the text of each of its child elements to {@code fieldHandler}
+     * in document order, without collecting them. Returns false if there are no more records.
+     *
+     * @throws IOException if the XML is malformed, or a child element of a record has child elements of its own.
+     */
+    public boolean readRecord(BiConsumer<String, String> fieldHandler) throws IOException {
+        try {
+            while (reader.hasNext()) {
+                if (reader.next() == XMLStreamConstants.START_ELEMENT
+                        && recordElements.contains(reader.getLocalName())) {
+                    recordElement = reader.getLocalName();
+                    recordLineNumber = reader.getLocation().getLineNumber();
+                    readFields(fieldHandler);
+                    return true;
+                }
+            }
+            return false;
+        } catch (XMLStreamException xse) {
+            throw new IOException(xse.getMessage(), xse);
+        }
+    }
+
+    /**
+     * Returns the name of the record last read by {@link #readRecord()}.
+     */
+    public String getRecordElement() {
+        return recordElement;
+    }
+
+    /**
+     * Returns the text directly within the record last read by {@link #readRecord()}, such as the text of a
+     * plain text element. The whitespace between the child elements of a record is part of it.
+     */
+    public String getRecordText() {
+        return recordText.toString();
+    }
+
+    /**
+     * Returns the number of the line, counting from 1, on which the record last read by {@link #readRecord()}
+     * starts.
+     */
+    public int getLineNumber() {
+        return recordLineNumber;
+    }
+
+    /**
+     * Reads the child elements and the text of the record whose start tag was just read, up to its end tag.
+     */
+    private void readFields(BiConsumer<String, String> fieldHandler) throws XMLStreamException {
+        recordText.setLength(0);
+        while (true) {
+            switch (reader.next()) {
+            case XMLStreamConstants.START_ELEMENT:
+                String name = reader.getLocalName();
+                fieldHandler.accept(name, reader.getElementText());
+                break;
+            case XMLStreamConstants.CHARACTERS:
+            case XMLStreamConstants.CDATA:
+            case XMLStreamConstants.SPACE:
+                recordText.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                break;
+            case XMLStreamConstants.END_ELEMENT:
+                return;
+            default:
+                break;
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            reader.close();
+        } catch (XMLStreamException xse) {
+            throw new IOException(xse.getMessage(), xse);
+        } finally {
+            // closing the stream reader leaves the underlying reader open
+            in.close();
+        }
+    }
+
+}
@@ -4,6 +4,10 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
@@ -15,6 +19,13 @@ import javax.xml.bind.Unmarshaller;
  */
 public class XmlUtil {
 
+    // creating a JAXBContext introspects the whole class graph, so each context is created once and reused
+    private static final Map<Class<?>, JAXBContext> contexts = new ConcurrentHashMap<>();
+    // marshallers and unmarshallers are not thread safe, so each thread reuses its own ones
+    private static final ThreadLocal<Map<Class<?>, Marshaller>> marshallers = ThreadLocal.withInitial(HashMap::new);
+    private static final ThreadLocal<Map<Class<?>, Unmarshaller>> unmarshallers =
+            ThreadLocal.withInitial(HashMap::new);
+
     /**
      * Returns the xml data in the file as an object of the specified type.
      *
@@ -36,8 +47,7 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(classToConvert);
-        Unmarshaller um = context.createUnmarshaller();
+        Unmarshaller um = getUnmarshaller(classToConvert);
 
         return ((T) um.unmarshal(file));
     }
@@ -52,6 +62,17 @@ public class XmlUtil {
      *                               into xml and writing to the file.
      */
     public static <T> void saveDataToFile(File file, T data) throws FileNotFoundException, JAXBException {
+        saveDataToFile(file, data, true);
+    }
+
+    /**
+     * Similar to {@link #saveDataToFile(File, Object)}.
+     *
+     * @param isFormattedOutput whether the xml is indented, which makes the file easier to read but larger and
+     *                          slower to write.
+     */
+    public static <T> void saveDataToFile(File file, T data, boolean isFormattedOutput)
+            throws FileNotFoundException, JAXBException {
 
         requireNonNull(file);
         requireNonNull(data);
@@ -60,11 +81,63 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(data.getClass());
-        Marshaller m = context.createMarshaller();
-        m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        Marshaller m = getMarshaller(data.getClass());
+        m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, isFormattedOutput);
 
         m.marshal(data, file);
     }
 
+    /**
+     * Similar to {@link #saveDataToFile(File, Object, boolean)}, but writes the xml to {@code out},
+     * which is not closed.
+     */
+    public static <T> void saveDataToStream(OutputStream out, T data, boolean isFormattedOutput) throws JAXBException {
+        requireNonNull(out);
+        requireNonNull(data);
+
+        Marshaller m = getMarshaller(data.getClass());
+        m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, isFormattedOutput);
+
+        m.marshal(data, out);
+    }
+
+    /**
+     * Returns this thread's {@code Marshaller} for {@code type}, creating it on first use.
+     */
+    private static Marshaller getMarshaller(Class<?> type) throws JAXBException {
+        Map<Class<?>, Marshaller> threadMarshallers = marshallers.get();
+        Marshaller marshaller = threadMarshallers.get(type);
+        if (marshaller == null) {
+            marshaller = getContext(type).createMarshaller();
+            threadMarshallers.put(type, marshaller);
+        }
+        return marshaller;
+    }
+
+    /**
+     * Returns this thread's {@code Unmarshaller} for {@code type}, creating it on first use.
+     */
+    private static Unmarshaller getUnmarshaller(Class<?> type) throws JAXBException {
+        Map<Class<?>, Unmarshaller> threadUnmarshallers = unmarshallers.get();
+        Unmarshaller unmarshaller = threadUnmarshallers.get(type);
+        if (unmarshaller == null) {
+            unmarshaller = getContext(type).createUnmarshaller();
+            threadUnmarshallers.put(type, unmarshaller);
+        }
+        return unmarshaller;
+    }
+
+    /**
+     * Returns the cached {@code JAXBContext} for {@code type}, creating it on first use.
+     * A {@code JAXBContext} is thread safe, unlike the marshallers and unmarshallers created from it.
+     */
+    private static JAXBContext getContext(Class<?> type) throws JAXBException {
+        JAXBContext context = contexts.get(type);
+        if (context == null) {
+            context = JAXBContext.newInstance(type);
+            contexts.putIfAbsent(type, context);
+        }
+        return context;
+    }
+
 }
@@ -4,6 +4,7 @@ import javafx.collections.ObservableList;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookStatistics;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.ReadOnlyPerson;
 
@@ -13,6 +14,8 @@ import seedu.address.model.person.ReadOnlyPerson;
 public interface Logic {
     /**
      * Executes the command and returns the result.
+     * While the address book is loading, the command is queued instead, and the result of executing it once the
+     * address book is loaded is raised in a {@code NewResultAvailableEvent}.
      * @param commandText The command as entered by the user.
      * @return the result of the command execution.
      * @throws CommandException If an error occurs during command execution.
@@ -23,6 +26,9 @@ public interface Logic {
     /** Returns an unmodifiable view of the address book */
     ReadOnlyAddressBook getAddressBook();
 
+    /** Returns the statistics of the address book, which are kept up to date as it changes */
+    AddressBookStatistics getStatistics();
+
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<ReadOnlyPerson> getFilteredPersonList();
 
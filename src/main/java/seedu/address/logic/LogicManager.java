@@ -1,15 +1,26 @@
 package seedu.address.logic;
 
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
+import com.google.common.eventbus.Subscribe;
+
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.model.AddressBookLoadingEvent;
+import seedu.address.commons.events.ui.NewResultAvailableEvent;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookStatistics;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.ReadOnlyPerson;
@@ -18,39 +29,154 @@ import seedu.address.model.person.ReadOnlyPerson;
  * The main LogicManager of the app.
  */
 public class LogicManager extends ComponentManager implements Logic {
+    public static final String MESSAGE_COMMAND_QUEUED = "Your contacts are still loading. "
+            + "\"%1$s\" will be executed once they are loaded.";
+    public static final String MESSAGE_COMMAND_PREPARING = "Running \"%1$s\". "
+            + "Its result will be shown once it is done.";
+    public static final String MESSAGE_COMMAND_QUEUED_WHILE_PREPARING = "\"%2$s\" is still running. "
+            + "\"%1$s\" will be executed once it is done.";
+
+    private static final ExecutorService sharedPreparationExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Command preparation");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final CommandHistory history;
     private final AddressBookParser addressBookParser;
     private final UndoRedoStack undoRedoStack;
+    // commands entered while the address book is loading, which are executed in order once it is loaded
+    private final Queue<String> queuedCommands = new ArrayDeque<>();
+    private final Executor preparationExecutor;
+    private final Executor fxThreadExecutor;
+    private boolean isLoading;
+    // the command being prepared in the background, or null if there is none
+    private String preparingCommandText;
 
     public LogicManager(Model model) {
+        this(model, new UndoRedoStack());
+    }
+
+    public LogicManager(Model model, UndoRedoStack undoRedoStack) {
+        this(model, undoRedoStack, sharedPreparationExecutor, Platform::runLater);
+    }
+
+    /**
+     * Creates a {@code LogicManager} that prepares commands with {@code preparationExecutor}, and executes them
+     * once prepared with {@code fxThreadExecutor}.
+     */
+    LogicManager(Model model, UndoRedoStack undoRedoStack, Executor preparationExecutor, Executor fxThreadExecutor) {
         this.model = model;
         this.history = new CommandHistory();
         this.addressBookParser = new AddressBookParser();
-        this.undoRedoStack = new UndoRedoStack();
+        this.undoRedoStack = undoRedoStack;
+        this.preparationExecutor = preparationExecutor;
+        this.fxThreadExecutor = fxThreadExecutor;
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
+        if (isLoading || preparingCommandText != null) {
+            queuedCommands.add(commandText);
+            history.add(commandText);
+            return new CommandResult(isLoading
+                    ? String.format(MESSAGE_COMMAND_QUEUED, commandText)
+                    : String.format(MESSAGE_COMMAND_QUEUED_WHILE_PREPARING, commandText, preparingCommandText));
+        }
         try {
-            Command command = addressBookParser.parseCommand(commandText);
-            command.setData(model, history, undoRedoStack);
-            CommandResult result = command.execute();
-            undoRedoStack.push(command);
-            return result;
+            return executeCommand(commandText);
         } finally {
             history.add(commandText);
         }
     }
 
+    /**
+     * Parses and executes {@code commandText}, without adding it to the history.
+     * A command that is prepared in the background is only executed once prepared, and its result is raised then.
+     */
+    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
+        Command command = addressBookParser.parseCommand(commandText);
+        command.setData(model, history, undoRedoStack);
+        if (command.isPreparedInBackground()) {
+            preparingCommandText = commandText;
+            preparationExecutor.execute(() -> prepare(command));
+            return new CommandResult(String.format(MESSAGE_COMMAND_PREPARING, commandText));
+        }
+        CommandResult result = command.execute();
+        undoRedoStack.push(command);
+        return result;
+    }
+
+    /**
+     * Prepares {@code command}, and hands it over to be executed.
+     */
+    private void prepare(Command command) {
+        try {
+            command.prepare();
+            fxThreadExecutor.execute(() -> executePrepared(command, null));
+        } catch (CommandException ce) {
+            fxThreadExecutor.execute(() -> executePrepared(command, ce));
+        }
+    }
+
+    /**
+     * Executes {@code command} unless its preparation failed with {@code preparationFailure}, raises its result,
+     * and then executes the commands that were queued while it was prepared.
+     */
+    private void executePrepared(Command command, CommandException preparationFailure) {
+        logger.info("----------------[PREPARED COMMAND][" + preparingCommandText + "]");
+        preparingCommandText = null;
+        try {
+            if (preparationFailure != null) {
+                throw preparationFailure;
+            }
+            CommandResult result = command.execute();
+            undoRedoStack.push(command);
+            raise(new NewResultAvailableEvent(result.feedbackToUser));
+        } catch (CommandException ce) {
+            raise(new NewResultAvailableEvent(ce.getMessage()));
+        }
+        executeQueuedCommands();
+    }
+
+    /**
+     * Executes the commands that were queued while loading or preparing a command, and raises the result of each.
+     * The commands after one that is prepared in the background stay queued until it is executed.
+     */
+    private void executeQueuedCommands() {
+        while (!queuedCommands.isEmpty() && preparingCommandText == null) {
+            String commandText = queuedCommands.remove();
+            logger.info("----------------[QUEUED COMMAND][" + commandText + "]");
+            try {
+                raise(new NewResultAvailableEvent(executeCommand(commandText).feedbackToUser));
+            } catch (CommandException | ParseException e) {
+                raise(new NewResultAvailableEvent(e.getMessage()));
+            }
+        }
+    }
+
+    @Subscribe
+    public void handleAddressBookLoadingEvent(AddressBookLoadingEvent event) {
+        isLoading = !event.isFinished();
+        if (!isLoading) {
+            executeQueuedCommands();
+        }
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
     }
 
+    @Override
+    public AddressBookStatistics getStatistics() {
+        return model.getStatistics();
+    }
+
     @Override
     public ObservableList<ReadOnlyPerson> getFilteredPersonList() {
         return model.getFilteredPersonList();
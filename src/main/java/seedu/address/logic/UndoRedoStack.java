@@ -1,5 +1,7 @@
 package seedu.address.logic;
 
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.Stack;
 
 import seedu.address.logic.commands.Command;
@@ -10,14 +12,41 @@ import seedu.address.logic.commands.UndoableCommand;
 /**
  * Maintains the undo-stack (the stack of commands that can be undone) and the redo-stack (the stack of
  * commands that can be undone).
+ *
+ * The undo-stack can be bounded by a maximum number of commands and by a memory budget for the changes that the
+ * commands in both stacks hold. The oldest commands are dropped from the undo-stack once either bound is exceeded,
+ * although the most recent command is always kept. Each command is accounted for with the estimate it had when
+ * it was pushed, or when it was last undone, so that exactly that amount is released when it is dropped.
  */
 public class UndoRedoStack {
     private Stack<UndoableCommand> undoStack;
     private Stack<UndoableCommand> redoStack;
 
+    private final int maxUndoDepth;
+    private final long memoryBudgetBytes;
+    private long estimatedMemoryUsage;
+    // the estimate that each command in both stacks is accounted for with in estimatedMemoryUsage
+    private final Map<UndoableCommand, Long> accountedMemoryUsages = new IdentityHashMap<>();
+
+    /**
+     * Creates an unbounded {@code UndoRedoStack}.
+     */
     public UndoRedoStack() {
+        this(Integer.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Creates an {@code UndoRedoStack} that keeps at most {@code maxUndoDepth} commands in its undo-stack,
+     * and holds at most about {@code memoryBudgetBytes} bytes of changes in both stacks.
+     */
+    public UndoRedoStack(int maxUndoDepth, long memoryBudgetBytes) {
+        if (maxUndoDepth < 1 || memoryBudgetBytes < 0) {
+            throw new IllegalArgumentException("The undo depth must be positive and the memory budget non-negative");
+        }
         undoStack = new Stack<>();
         redoStack = new Stack<>();
+        this.maxUndoDepth = maxUndoDepth;
+        this.memoryBudgetBytes = memoryBudgetBytes;
     }
 
     /**
@@ -26,6 +55,7 @@ public class UndoRedoStack {
      */
     public void push(Command command) {
         if (!(command instanceof UndoCommand) && !(command instanceof RedoCommand)) {
+            redoStack.forEach(this::release);
             redoStack.clear();
         }
 
@@ -33,7 +63,44 @@ public class UndoRedoStack {
             return;
         }
 
-        undoStack.add((UndoableCommand) command);
+        UndoableCommand undoableCommand = (UndoableCommand) command;
+        undoStack.add(undoableCommand);
+        account(undoableCommand);
+        dropOldestCommandsOverLimits();
+    }
+
+    /**
+     * Drops the oldest commands in the undo-stack until it is within the depth limit and the memory budget.
+     */
+    private void dropOldestCommandsOverLimits() {
+        while (undoStack.size() > 1
+                && (undoStack.size() > maxUndoDepth || estimatedMemoryUsage > memoryBudgetBytes)) {
+            release(undoStack.remove(0));
+        }
+    }
+
+    /**
+     * Accounts for the current estimate of {@code command} in place of the estimate it was accounted for with.
+     */
+    private void account(UndoableCommand command) {
+        long estimate = command.getEstimatedMemoryUsage();
+        Long previousEstimate = accountedMemoryUsages.put(command, estimate);
+        estimatedMemoryUsage += estimate - (previousEstimate == null ? 0 : previousEstimate);
+    }
+
+    /**
+     * Stops accounting for {@code command}, which was dropped from the stacks.
+     */
+    private void release(UndoableCommand command) {
+        Long estimate = accountedMemoryUsages.remove(command);
+        estimatedMemoryUsage -= (estimate == null ? 0 : estimate);
+    }
+
+    /**
+     * Returns a rough estimate, in bytes, of the memory held by the changes of the commands in both stacks.
+     */
+    public long getEstimatedMemoryUsage() {
+        return estimatedMemoryUsage;
     }
 
     /**
@@ -42,6 +109,8 @@ public class UndoRedoStack {
     public UndoableCommand popUndo() {
         UndoableCommand toUndo = undoStack.pop();
         redoStack.push(toUndo);
+        // a command that was first executed when it was redone only holds its changes from then on
+        account(toUndo);
         return toUndo;
     }
 
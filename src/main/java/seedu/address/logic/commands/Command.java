@@ -32,6 +32,22 @@ public abstract class Command {
      */
     public abstract CommandResult execute() throws CommandException;
 
+    /**
+     * Returns true if the command does slow work that does not touch the model, such as reading a file, in
+     * {@link #prepare()}, which is then called on a background thread before the command is executed.
+     */
+    public boolean isPreparedInBackground() {
+        return false;
+    }
+
+    /**
+     * Does the work of the command that does not touch the model, before it is executed.
+     *
+     * @throws CommandException If an error occurs during preparation.
+     */
+    public void prepare() throws CommandException {
+    }
+
     /**
      * Provides any needed dependencies to the command.
      * Commands making use of any of these should override this method to gain
@@ -1,7 +1,15 @@
 package seedu.address.logic.commands;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.events.storage.ExportToFileRequestEvent;
+import seedu.address.model.person.PersonField;
+import seedu.address.model.person.ReadOnlyPerson;
 
 // @@author johnweikangong
 /**
@@ -11,15 +19,53 @@ public class ExportCommand extends Command {
 
     public static final String COMMAND_WORD = "export";
     public static final String COMMAND_ALIAS = "ex";
+    public static final String FILTERED_KEYWORD = "filtered";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Exports your contacts into a CSV file. "
+            + "Exports only the listed contacts if " + FILTERED_KEYWORD + " is given, "
+            + "and only the given columns if any are given.\n"
+            + "Parameters: [" + FILTERED_KEYWORD + "] [COLUMN]...\n"
+            + "Example: " + COMMAND_WORD + " " + FILTERED_KEYWORD + " name phone email";
+
+    // the file is written in the background, and an error is shown if that fails
+    public static final String MESSAGE_EXPORTING = "Exporting %1$d contacts to Bevy.csv file.";
+
+    private final boolean isFilteredListOnly;
+    private final List<PersonField> columns;
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Exports your contacts into a CSV file.\n"
-            + "Example: " + COMMAND_WORD;
+    /**
+     * Creates an ExportCommand to export every contact with all of its fields.
+     */
+    public ExportCommand() {
+        this(false, Arrays.asList(PersonField.values()));
+    }
 
-    public static final String MESSAGE_SUCCESS = "Successfully exported your contacts to Bevy.csv file.";
+    /**
+     * @param isFilteredListOnly whether to export only the contacts in the filtered list.
+     * @param columns the fields to export, in the order of the columns of the file.
+     */
+    public ExportCommand(boolean isFilteredListOnly, List<PersonField> columns) {
+        requireNonNull(columns);
+        this.isFilteredListOnly = isFilteredListOnly;
+        this.columns = new ArrayList<>(columns);
+    }
 
     @Override
     public CommandResult execute() {
-        EventsCenter.getInstance().post(new ExportToFileRequestEvent());
-        return new CommandResult(MESSAGE_SUCCESS);
+        requireNonNull(model);
+        // the persons are copied here, as the file is written on another thread while later commands change the model
+        List<ReadOnlyPerson> persons = new ArrayList<>(isFilteredListOnly
+                ? model.getFilteredPersonList()
+                : model.getAddressBook().getPersonList());
+        EventsCenter.getInstance().post(new ExportToFileRequestEvent(persons, columns));
+        return new CommandResult(String.format(MESSAGE_EXPORTING, persons.size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ExportCommand // instanceof handles nulls
+                && isFilteredListOnly == ((ExportCommand) other).isFilteredListOnly
+                && columns.equals(((ExportCommand) other).columns));
     }
 }
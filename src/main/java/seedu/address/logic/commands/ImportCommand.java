@@ -0,0 +1,391 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.CsvReader;
+import seedu.address.commons.util.XmlRecordReader;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonField;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * Imports contacts from a CSV file, such as one written by {@link ExportCommand}, or from an XML file in the
+ * format of the address book's data file.
+ *
+ * The file is read and validated in the background, a batch of rows at a time, and the rows of a batch are
+ * validated in parallel. The valid rows are then added to the address book in one bulk change, so the whole import
+ * is sorted, merged, saved and undone as one. Rejected rows are reported by the line of the file they start on.
+ */
+public class ImportCommand extends UndoableCommand {
+
+    public static final String COMMAND_WORD = "import";
+    public static final String COMMAND_ALIAS = "im";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Imports contacts from a CSV or XML file. "
+            + "The first row of a CSV file names its columns, of which Name and Phone are compulsory.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/contacts.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d contacts from %2$s.";
+    public static final String MESSAGE_REJECTED_ROWS = "\nRejected %1$d rows:";
+    public static final String MESSAGE_REJECTED_ROW = "\nLine %1$d: %2$s";
+    public static final String MESSAGE_MORE_REJECTED_ROWS = "\n...and %1$d more";
+    public static final String MESSAGE_DUPLICATE_PERSON = "This person already exists in the address book";
+    public static final String MESSAGE_MISSING_FIELDS = "Name and Phone are compulsory";
+    public static final String MESSAGE_FILE_NOT_READ = "Could not read %1$s: %2$s";
+    public static final String MESSAGE_MISSING_COLUMNS = "The first row of %1$s must name the Name and Phone columns";
+
+    static final int MAX_REPORTED_REJECTIONS = 20;
+    static final int ROWS_PER_BATCH = 1000;
+
+    private static final String XML_FILE_EXTENSION = ".xml";
+    private static final String XML_PERSON_ELEMENT = "persons";
+    private static final String XML_TAG_ELEMENT = "tagged";
+    private static final Pattern BRACKETED_TAG_PATTERN = Pattern.compile("\\[([^\\]]*)\\]");
+
+    private final String filePath;
+    // the valid rows of the file that repeat no earlier row, or null if the file has not been read since the
+    // command was last executed
+    private List<ValidatedRow> acceptedRows;
+    // the first rejected rows of the file, and how many there are
+    private List<ValidatedRow> rejectedRows;
+    private int rejectedRowCount;
+
+    public ImportCommand(String filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public boolean isPreparedInBackground() {
+        return true;
+    }
+
+    /**
+     * Reads and validates the rows of the file, keeping the persons of the valid rows but not the rows themselves.
+     * A valid row that repeats an earlier one is rejected.
+     *
+     * @throws CommandException if the file cannot be read, or is a CSV file without the Name or Phone column.
+     */
+    @Override
+    public void prepare() throws CommandException {
+        final List<ValidatedRow> accepted = new ArrayList<>();
+        final List<ValidatedRow> rejected = new ArrayList<>();
+        final Set<ReadOnlyPerson> importedPersons = new HashSet<>();
+        int rejectedCount = 0;
+        try (Reader in = Files.newBufferedReader(Paths.get(filePath), StandardCharsets.UTF_8);
+                RowReader reader = filePath.toLowerCase().endsWith(XML_FILE_EXTENSION)
+                        ? new XmlRowReader(in)
+                        : new CsvRowReader(in, filePath)) {
+            for (List<FileRow> batch = readBatch(reader); !batch.isEmpty(); batch = readBatch(reader)) {
+                // validating a row is independent of every other row, so the rows of a batch are validated in parallel
+                final List<ValidatedRow> validatedRows = batch.parallelStream()
+                        .map(ImportCommand::validate)
+                        .collect(Collectors.toList());
+                for (ValidatedRow row : validatedRows) {
+                    if (row.rejection == null && importedPersons.add(row.person)) {
+                        accepted.add(row);
+                    } else if (rejectedCount++ < MAX_REPORTED_REJECTIONS) {
+                        rejected.add(row.rejection == null ? row.reject(MESSAGE_DUPLICATE_PERSON) : row);
+                    }
+                }
+            }
+        } catch (IOException | InvalidPathException e) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_READ, filePath, e.getMessage()));
+        }
+        acceptedRows = accepted;
+        rejectedRows = rejected;
+        rejectedRowCount = rejectedCount;
+    }
+
+    @Override
+    public CommandResult executeUndoableCommand() throws CommandException {
+        requireNonNull(model);
+        if (acceptedRows == null) {
+            prepare();
+        }
+
+        final List<ReadOnlyPerson> toAdd = new ArrayList<>();
+        final List<ValidatedRow> rejections = new ArrayList<>(rejectedRows);
+        int knownCount = 0;
+        for (ValidatedRow row : acceptedRows) {
+            if (!model.hasPerson(row.person)) {
+                toAdd.add(row.person);
+            } else if (knownCount++ < MAX_REPORTED_REJECTIONS) {
+                rejections.add(row.reject(MESSAGE_DUPLICATE_PERSON));
+            }
+        }
+        // the rows rejected while reading the file and those of known persons are reported in the order of the file
+        rejections.sort(Comparator.comparingInt(row -> row.lineNumber));
+        final int rejectedCount = rejectedRowCount + knownCount;
+        // the added persons are held by the recorded change, and the rows need not outlive this execution
+        acceptedRows = null;
+        rejectedRows = null;
+
+        if (!toAdd.isEmpty()) {
+            try {
+                model.addPersons(toAdd);
+            } catch (DuplicatePersonException dpe) {
+                throw new AssertionError("Duplicates of known persons are rejected before they are added", dpe);
+            }
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd.size(), filePath)
+                + getRejectionReport(rejectedCount, rejections));
+    }
+
+    /**
+     * Returns the report of {@code rejectedCount} rejected rows, which lists the first of {@code rejections}.
+     */
+    private static String getRejectionReport(int rejectedCount, List<ValidatedRow> rejections) {
+        if (rejectedCount == 0) {
+            return "";
+        }
+        final int reportedCount = Math.min(rejections.size(), MAX_REPORTED_REJECTIONS);
+        StringBuilder report = new StringBuilder(String.format(MESSAGE_REJECTED_ROWS, rejectedCount));
+        for (ValidatedRow row : rejections.subList(0, reportedCount)) {
+            report.append(String.format(MESSAGE_REJECTED_ROW, row.lineNumber, row.rejection));
+        }
+        if (rejectedCount > reportedCount) {
+            report.append(String.format(MESSAGE_MORE_REJECTED_ROWS, rejectedCount - reportedCount));
+        }
+        return report.toString();
+    }
+
+    /**
+     * Returns the next {@code ROWS_PER_BATCH} rows of {@code reader}, or fewer at the end of the file.
+     */
+    private static List<FileRow> readBatch(RowReader reader) throws IOException {
+        final List<FileRow> batch = new ArrayList<>(ROWS_PER_BATCH);
+        for (Map<PersonField, List<String>> fields = reader.readRow(); fields != null; fields = reader.readRow()) {
+            batch.add(new FileRow(reader.getLineNumber(), fields));
+            if (batch.size() == ROWS_PER_BATCH) {
+                break;
+            }
+        }
+        return batch;
+    }
+
+    /**
+     * Returns the person described by {@code fileRow}, or the reason it is rejected if a field is invalid.
+     * Fields that are missing from the row are left empty, except the compulsory name and phone.
+     */
+    private static ValidatedRow validate(FileRow fileRow) {
+        final Map<PersonField, List<String>> row = fileRow.fields;
+        if (!row.containsKey(PersonField.NAME) || !row.containsKey(PersonField.PHONE)) {
+            return new ValidatedRow(fileRow.lineNumber, null, MESSAGE_MISSING_FIELDS);
+        }
+        try {
+            return new ValidatedRow(fileRow.lineNumber, new Person(
+                    ParserUtil.parseName(getField(row, PersonField.NAME)).get(),
+                    ParserUtil.parsePhone(getField(row, PersonField.PHONE)).get(),
+                    ParserUtil.parseBirthday(getField(row, PersonField.BIRTHDAY)).get(),
+                    ParserUtil.parseEmail(getField(row, PersonField.EMAIL)).get(),
+                    ParserUtil.parseAddress(getField(row, PersonField.ADDRESS)).get(),
+                    ParserUtil.parsePostalCode(getField(row, PersonField.POSTAL_CODE)).get(),
+                    ParserUtil.parseFavourite(getField(row, PersonField.FAVOURITE)).get(),
+                    ParserUtil.parseTags(row.getOrDefault(PersonField.TAGS, Collections.emptyList()))), null);
+        } catch (IllegalValueException ive) {
+            return new ValidatedRow(fileRow.lineNumber, null, ive.getMessage());
+        }
+    }
+
+    /**
+     * Returns the trimmed value of {@code field} in {@code row}, or an empty string if there is none.
+     */
+    private static Optional<String> getField(Map<PersonField, List<String>> row, PersonField field) {
+        List<String> values = row.getOrDefault(field, Collections.emptyList());
+        return Optional.of(values.isEmpty() ? "" : values.get(0).trim());
+    }
+
+    /**
+     * Returns the tag names in {@code tags}, which are either bracketed as in {@code [friends][colleagues]}
+     * or separated by spaces.
+     */
+    private static List<String> toTagNames(String tags) {
+        final List<String> tagNames = new ArrayList<>();
+        Matcher matcher = BRACKETED_TAG_PATTERN.matcher(tags);
+        while (matcher.find()) {
+            tagNames.add(matcher.group(1));
+        }
+        if (tagNames.isEmpty() && !tags.isEmpty()) {
+            Collections.addAll(tagNames, tags.split("\\s+"));
+        }
+        return tagNames;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportCommand // instanceof handles nulls
+                && filePath.equals(((ImportCommand) other).filePath));
+    }
+
+    /**
+     * Reads the rows of an imported file one at a time, as the fields of a person.
+     */
+    private interface RowReader extends Closeable {
+
+        /**
+         * Returns the fields of the next row, or null if there are no more rows.
+         */
+        Map<PersonField, List<String>> readRow() throws IOException;
+
+        /**
+         * Returns the number of the line on which the row last returned by {@link #readRow()} starts.
+         */
+        int getLineNumber();
+    }
+
+    /**
+     * Reads the rows of a CSV file, whose first row names the columns.
+     * Tags are either bracketed as in {@code [friends][colleagues]} or separated by spaces.
+     */
+    private static class CsvRowReader implements RowReader {
+        private final CsvReader reader;
+        // the position of each known column
+        private final Map<PersonField, Integer> columns = new EnumMap<>(PersonField.class);
+
+        /**
+         * Reads the first row of {@code in}, which names the columns.
+         *
+         * @throws CommandException if the file is empty or the Name or Phone column is missing.
+         */
+        CsvRowReader(Reader in, String filePath) throws CommandException, IOException {
+            reader = new CsvReader(in);
+            final List<String> header = reader.readRow();
+            if (header != null) {
+                for (int i = 0; i < header.size(); i++) {
+                    final int position = i;
+                    PersonField.fromName(header.get(i).trim()).ifPresent(field -> columns.putIfAbsent(field, position));
+                }
+            }
+            if (!columns.containsKey(PersonField.NAME) || !columns.containsKey(PersonField.PHONE)) {
+                throw new CommandException(String.format(MESSAGE_MISSING_COLUMNS, filePath));
+            }
+        }
+
+        @Override
+        public Map<PersonField, List<String>> readRow() throws IOException {
+            final List<String> csvRow = reader.readRow();
+            if (csvRow == null) {
+                return null;
+            }
+            final Map<PersonField, List<String>> row = new EnumMap<>(PersonField.class);
+            for (Map.Entry<PersonField, Integer> column : columns.entrySet()) {
+                if (column.getValue() < csvRow.size()) {
+                    String value = csvRow.get(column.getValue());
+                    row.put(column.getKey(), column.getKey() == PersonField.TAGS
+                            ? toTagNames(value.trim())
+                            : Collections.singletonList(value));
+                }
+            }
+            return row;
+        }
+
+        @Override
+        public int getLineNumber() {
+            return reader.getLineNumber();
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    /**
+     * Reads the persons of an XML file in the format of the address book's data file as rows.
+     */
+    private static class XmlRowReader implements RowReader {
+        private final XmlRecordReader reader;
+
+        XmlRowReader(Reader in) throws IOException {
+            reader = new XmlRecordReader(in, XML_PERSON_ELEMENT);
+        }
+
+        @Override
+        public Map<PersonField, List<String>> readRow() throws IOException {
+            final Map<String, List<String>> record = reader.readRecord();
+            if (record == null) {
+                return null;
+            }
+            final Map<PersonField, List<String>> row = new EnumMap<>(PersonField.class);
+            for (Map.Entry<String, List<String>> element : record.entrySet()) {
+                Optional<PersonField> field = element.getKey().equals(XML_TAG_ELEMENT)
+                        ? Optional.of(PersonField.TAGS)
+                        : PersonField.fromName(element.getKey());
+                field.ifPresent(f -> row.putIfAbsent(f, element.getValue()));
+            }
+            return row;
+        }
+
+        @Override
+        public int getLineNumber() {
+            return reader.getLineNumber();
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    /**
+     * A row of the imported file as the fields of a person, and the line it starts on.
+     */
+    private static class FileRow {
+        private final int lineNumber;
+        private final Map<PersonField, List<String>> fields;
+
+        FileRow(int lineNumber, Map<PersonField, List<String>> fields) {
+            this.lineNumber = lineNumber;
+            this.fields = fields;
+        }
+    }
+
+    /**
+     * A row of the imported file after validation: either the person it describes, or why it is rejected.
+     */
+    private static class ValidatedRow {
+        private final int lineNumber;
+        private final ReadOnlyPerson person;
+        private final String rejection;
+
+        ValidatedRow(int lineNumber, ReadOnlyPerson person, String rejection) {
+            this.lineNumber = lineNumber;
+            this.person = person;
+            this.rejection = rejection;
+        }
+
+        /**
+         * Returns this row, rejected for {@code reason}.
+         */
+        ValidatedRow reject(String reason) {
+            return new ValidatedRow(lineNumber, null, reason);
+        }
+    }
+}
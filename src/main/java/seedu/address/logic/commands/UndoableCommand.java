@@ -4,55 +4,71 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
+import java.util.List;
+
 import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.model.AddressBook;
-import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.AddressBookChange;
 
 /**
  * Represents a command which can be undone and redone.
  */
 public abstract class UndoableCommand extends Command {
-    private ReadOnlyAddressBook previousAddressBook;
+    // changes made to the address book by the last execution, oldest first
+    private List<AddressBookChange> changes;
 
     protected abstract CommandResult executeUndoableCommand() throws CommandException;
 
-    /**
-     * Stores the current state of {@code model#addressBook}.
-     */
-    private void saveAddressBookSnapshot() {
-        requireNonNull(model);
-        this.previousAddressBook = new AddressBook(model.getAddressBook());
-    }
-
     /**
      * Reverts the AddressBook to the state before this command
-     * was executed and updates the filtered person list to
-     * show all persons.
+     * was executed by reverting its recorded changes, and updates
+     * the filtered person list to show all persons.
      */
     protected final void undo() {
-        requireAllNonNull(model, previousAddressBook);
-        model.resetData(previousAddressBook);
+        requireAllNonNull(model, changes);
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            model.applyChange(changes.get(i).inverse());
+        }
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
     /**
-     * Executes the command and updates the filtered person
-     * list to show all persons.
+     * Replays the recorded changes of this command, or executes it
+     * if it has no recorded changes yet, and updates the filtered
+     * person list to show all persons.
      */
     protected final void redo() {
         requireNonNull(model);
-        try {
-            executeUndoableCommand();
-        } catch (CommandException ce) {
-            throw new AssertionError("The command has been successfully executed previously; "
-                    + "it should not fail now");
+        if (changes != null) {
+            changes.forEach(model::applyChange);
+        } else {
+            try {
+                execute();
+            } catch (CommandException ce) {
+                throw new AssertionError("The command has been successfully executed previously; "
+                        + "it should not fail now");
+            }
         }
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
+    /**
+     * Returns a rough estimate, in bytes, of the memory held to undo and redo this command.
+     */
+    public long getEstimatedMemoryUsage() {
+        if (changes == null) {
+            return 0;
+        }
+        return changes.stream().mapToLong(AddressBookChange::estimateMemoryUsage).sum();
+    }
+
     @Override
     public final CommandResult execute() throws CommandException {
-        saveAddressBookSnapshot();
-        return executeUndoableCommand();
+        requireNonNull(model);
+        model.startRecordingChanges();
+        try {
+            return executeUndoableCommand();
+        } finally {
+            changes = model.stopRecordingChanges();
+        }
     }
 }
@@ -0,0 +1,50 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.PersonField;
+
+/**
+ * Parses input arguments and creates a new ExportCommand object
+ */
+public class ExportCommandParser implements Parser<ExportCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportCommand
+     * and returns an ExportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ExportCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new ExportCommand();
+        }
+
+        List<String> keywords = new ArrayList<>(Arrays.asList(trimmedArgs.split("\\s+")));
+        boolean isFilteredListOnly = keywords.get(0).equalsIgnoreCase(ExportCommand.FILTERED_KEYWORD);
+        if (isFilteredListOnly) {
+            keywords.remove(0);
+        }
+
+        List<PersonField> columns = new ArrayList<>();
+        for (String keyword : keywords) {
+            Optional<PersonField> column = PersonField.fromName(keyword);
+            if (!column.isPresent() || columns.contains(column.get())) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+            }
+            columns.add(column.get());
+        }
+        if (columns.isEmpty()) {
+            columns.addAll(Arrays.asList(PersonField.values()));
+        }
+        return new ExportCommand(isFilteredListOnly, columns);
+    }
+
+}
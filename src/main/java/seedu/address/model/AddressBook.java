@@ -2,8 +2,12 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -24,8 +28,14 @@ import seedu.address.model.tag.UniqueTagList;
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
+    // applyChange() merges more added persons than this into the person list in one pass
+    private static final int MAX_PERSONS_ADDED_ONE_BY_ONE = 16;
+
     private final UniquePersonList persons;
     private final UniqueTagList tags;
+    // reference counts of every tag in the master list, keyed on the tag with its interned instance as value,
+    // and of the new tags of the persons being put into the list until they are counted
+    private final Map<Tag, TagUsage> tagUsages;
 
     /*
      * The 'unusual' code block below is an non-static initialization block, sometimes used to avoid duplication
@@ -35,8 +45,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      *   among constructors.
      */
     {
-        persons = new UniquePersonList();
+        persons = new UniquePersonList(this::toStoredPerson);
         tags = new UniqueTagList();
+        tagUsages = new HashMap<>();
     }
 
     public AddressBook() {}
@@ -51,12 +62,53 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     //// list overwrite operations
 
+    /**
+     * Replaces the persons with {@code persons}. The master tag list is kept, with the tags of the new persons
+     * added to it.
+     */
     public void setPersons(List<? extends ReadOnlyPerson> persons) throws DuplicatePersonException {
-        this.persons.setPersons(persons);
+        replacePersons(persons);
+        setTags(new HashSet<>(tags.asObservableList()));
     }
 
+    /**
+     * Replaces the persons with {@code persons} without recounting their tags.
+     */
+    private void replacePersons(List<? extends ReadOnlyPerson> persons) throws DuplicatePersonException {
+        try {
+            this.persons.setPersons(persons);
+        } catch (DuplicatePersonException e) {
+            removeUncountedTags();
+            throw e;
+        }
+    }
+
+    /**
+     * Sets the locale that names are collated by, given as an IETF language tag such as "en-SG",
+     * and re-sorts the persons by it. An empty tag restores the default ordering by raw characters.
+     */
+    public void setNameCollationLocale(String languageTag) {
+        persons.setCollationLocale(languageTag);
+    }
+
+    /**
+     * Replaces the master tag list with {@code tags}, followed by the other tags used by the current persons,
+     * and recounts the tags used by the current persons.
+     * The persons are not changed, so their tag instances become the interned ones.
+     */
     public void setTags(Set<Tag> tags) {
-        this.tags.setTags(tags);
+        tagUsages.clear();
+        for (Person person : persons) {
+            for (Tag tag : person.getTags()) {
+                tagUsages.computeIfAbsent(tag, TagUsage::new).count++;
+            }
+        }
+        final Set<Tag> masterTags = new LinkedHashSet<>();
+        for (Tag tag : tags) {
+            masterTags.add(tagUsages.computeIfAbsent(tag, TagUsage::new).tag);
+        }
+        tagUsages.values().forEach(usage -> masterTags.add(usage.tag));
+        this.tags.setTags(masterTags);
     }
 
     /**
@@ -65,32 +117,93 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
         try {
-            setPersons(newData.getPersonList());
+            replacePersons(newData.getPersonList());
         } catch (DuplicatePersonException e) {
             assert false : "AddressBooks should not have duplicate persons";
         }
 
         setTags(new HashSet<>(newData.getTagList()));
-        syncMasterTagListWith(persons);
     }
 
     //// person-level operations
 
+    /**
+     * Returns true if an equivalent person to {@code person} is in the address book.
+     */
+    public boolean hasPerson(ReadOnlyPerson person) {
+        return persons.contains(person);
+    }
+
     /**
      * Adds a person to the address book.
      * Also checks the new person's tags and updates {@link #tags} with any new tags found,
-     * and updates the Tag objects in the person to point to those in {@link #tags}.
+     * and makes the Tag objects in the stored person point to those in {@link #tags}.
      *
      * @throws DuplicatePersonException if an equivalent person already exists.
      */
     public void addPerson(ReadOnlyPerson p) throws DuplicatePersonException {
-        Person newPerson = new Person(p);
-        syncMasterTagListWith(newPerson);
-        // TODO: the tags master list will be updated even though the below line fails.
-        // This can cause the tags master list to have additional tags that are not tagged to any person
-        // in the person list.
-        persons.add(newPerson);
-        persons.sort();
+        try {
+            persons.add(p);
+        } catch (DuplicatePersonException e) {
+            removeUncountedTags();
+            throw e;
+        }
+        countTags(Collections.singletonList(p));
+    }
+
+    /**
+     * Adds all {@code newPersons} to the address book in one bulk operation.
+     *
+     * @throws DuplicatePersonException if a person is equivalent to an existing person or to another new person.
+     *      No person is added in that case.
+     * @see #addPerson(ReadOnlyPerson)
+     */
+    public void addPersons(List<? extends ReadOnlyPerson> newPersons) throws DuplicatePersonException {
+        try {
+            persons.addAll(newPersons);
+        } catch (DuplicatePersonException e) {
+            removeUncountedTags();
+            throw e;
+        }
+        countTags(newPersons);
+    }
+
+    /**
+     * Applies {@code change} to the address book, by removing its removed persons, then replacing the persons of
+     * its edits, and then adding its other added persons.
+     * Edits and a few added persons are applied one at a time, so the person list fires a change for each of them
+     * only. More added persons are merged into the list in one pass, which fires a single change of additions.
+     *
+     * @throws PersonNotFoundException if a removed person of {@code change} is not in the address book.
+     * @throws DuplicatePersonException if an added person of {@code change} is already in the address book.
+     */
+    public void applyChange(AddressBookChange change) throws PersonNotFoundException, DuplicatePersonException {
+        requireNonNull(change);
+        final Map<ReadOnlyPerson, ReadOnlyPerson> updatedPersons = change.getUpdatedPersons();
+        final Set<ReadOnlyPerson> editedPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+        final Set<ReadOnlyPerson> replacedPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+        updatedPersons.forEach((edited, replaced) -> {
+            editedPersons.add(edited);
+            replacedPersons.add(replaced);
+        });
+
+        final List<ReadOnlyPerson> removedPersons = new ArrayList<>(change.getRemovedPersons());
+        removedPersons.removeIf(replacedPersons::contains);
+        if (!removedPersons.isEmpty()) {
+            removePersons(removedPersons);
+        }
+        for (Map.Entry<ReadOnlyPerson, ReadOnlyPerson> update : updatedPersons.entrySet()) {
+            updatePerson(update.getValue(), update.getKey());
+        }
+        final List<ReadOnlyPerson> addedPersons = new ArrayList<>(change.getAddedPersons());
+        addedPersons.removeIf(editedPersons::contains);
+        if (addedPersons.size() > MAX_PERSONS_ADDED_ONE_BY_ONE) {
+            addPersons(addedPersons);
+        } else {
+            for (ReadOnlyPerson person : addedPersons) {
+                addPerson(person);
+            }
+        }
     }
 
     /**
@@ -101,58 +214,123 @@ public class AddressBook implements ReadOnlyAddressBook {
      *      another existing person in the list.
      * @throws PersonNotFoundException if {@code target} could not be found in the list.
      *
-     * @see #syncMasterTagListWith(Person)
+     * @see #toStoredPerson(ReadOnlyPerson)
      */
     public void updatePerson(ReadOnlyPerson target, ReadOnlyPerson editedReadOnlyPerson)
             throws DuplicatePersonException, PersonNotFoundException {
         requireNonNull(editedReadOnlyPerson);
 
-        Person editedPerson = new Person(editedReadOnlyPerson);
-        persons.setPerson(target, editedPerson);
-        persons.sort();
-        syncMasterTagListWith(editedPerson);
+        ReadOnlyPerson storedTarget = getStoredPerson(target);
+        try {
+            persons.setPerson(target, editedReadOnlyPerson);
+        } catch (DuplicatePersonException e) {
+            removeUncountedTags();
+            throw e;
+        }
+        countTags(Collections.singletonList(editedReadOnlyPerson));
+        releaseTags(storedTarget);
     }
 
     /**
-     * Ensures that every tag in this person:
-     *  - exists in the master list {@link #tags}
-     *  - points to a Tag object in the master list
+     * Returns a copy of {@code person} for the person list to hold, whose tags point to the Tag objects in
+     * {@link #tags}. A tag that is not in the master list yet is interned as well, but is only added to the
+     * master list once the person is counted by {@link #countTags(List)}.
      */
-    private void syncMasterTagListWith(Person person) {
-        final UniqueTagList personTags = new UniqueTagList(person.getTags());
-        tags.mergeFrom(personTags);
+    private Person toStoredPerson(ReadOnlyPerson person) {
+        final Set<Tag> internedTags = new HashSet<>();
+        for (Tag tag : person.getTags()) {
+            internedTags.add(tagUsages.computeIfAbsent(tag, TagUsage::new).tag);
+        }
+        return new Person(person.getName(), person.getPhone(), person.getBirthday(), person.getEmail(),
+                person.getAddress(), person.getPostalCode(), person.getFavourite(), internedTags);
+    }
 
-        // Create map with values = tag object references in the master list
-        // used for checking person tag references
-        final Map<Tag, Tag> masterTagObjects = new HashMap<>();
-        tags.forEach(tag -> masterTagObjects.put(tag, tag));
+    /**
+     * Counts {@code addedPersons}, which were stored, as users of each of their tags,
+     * and adds the tags that are not in the master list {@link #tags} yet.
+     */
+    private void countTags(List<? extends ReadOnlyPerson> addedPersons) {
+        final Set<Tag> newTags = new LinkedHashSet<>();
+        for (ReadOnlyPerson person : addedPersons) {
+            for (Tag tag : person.getTags()) {
+                TagUsage usage = tagUsages.get(tag);
+                assert usage != null : "tags of stored persons should be interned in tagUsages";
+                if (usage.count++ == 0 && !tags.contains(usage.tag)) {
+                    newTags.add(usage.tag);
+                }
+            }
+        }
+        if (!newTags.isEmpty()) {
+            tags.mergeFrom(new UniqueTagList(newTags));
+        }
+    }
 
-        // Rebuild the list of person tags to point to the relevant tags in the master tag list.
-        final Set<Tag> correctTagReferences = new HashSet<>();
-        personTags.forEach(tag -> correctTagReferences.add(masterTagObjects.get(tag)));
-        person.setTags(correctTagReferences);
+    /**
+     * Forgets the tags that were interned for persons that could not be stored.
+     */
+    private void removeUncountedTags() {
+        tagUsages.values().removeIf(usage -> usage.count == 0 && !tags.contains(usage.tag));
+    }
+
+    /**
+     * Stops counting the person as a user of its tags, and removes the tags that no person uses anymore
+     * from the master list {@link #tags}.
+     */
+    private void releaseTags(ReadOnlyPerson person) {
+        releaseTags(Collections.singletonList(person));
     }
 
     /**
-     * Ensures that every tag in these persons:
-     *  - exists in the master list {@link #tags}
-     *  - points to a Tag object in the master list
-     *  @see #syncMasterTagListWith(Person)
+     * Releases the tags of all {@code removedPersons} at once.
+     * @see #releaseTags(ReadOnlyPerson)
      */
-    private void syncMasterTagListWith(UniquePersonList persons) {
-        persons.forEach(this::syncMasterTagListWith);
+    private void releaseTags(List<ReadOnlyPerson> removedPersons) {
+        final List<Tag> unusedTags = new ArrayList<>();
+        for (ReadOnlyPerson person : removedPersons) {
+            for (Tag tag : person.getTags()) {
+                TagUsage usage = tagUsages.get(tag);
+                assert usage != null && usage.count > 0 : "tags of persons should be counted in tagUsages";
+                if (--usage.count == 0) {
+                    tagUsages.remove(tag);
+                    unusedTags.add(tag);
+                }
+            }
+        }
+        if (!unusedTags.isEmpty()) {
+            tags.removeAll(unusedTags);
+        }
+    }
+
+    /**
+     * Returns the person held by this address book that is equivalent to {@code key}.
+     *
+     * @throws PersonNotFoundException if there is no such person.
+     */
+    ReadOnlyPerson getStoredPerson(ReadOnlyPerson key) throws PersonNotFoundException {
+        int index = persons.indexOf(key);
+        if (index == -1) {
+            throw new PersonNotFoundException();
+        }
+        return persons.asObservableList().get(index);
     }
 
     /**
      * Removes {@code keys} from this {@code AddressBook}.
-     * The {@code tags} will reset and sync again with {@code persons}
-     * to update the tags after removing persons.
+     * Only the tags of the removed persons are released, and the tags that no remaining person uses
+     * are removed from {@code tags}.
      * @throws PersonNotFoundException if the {@code keys} is not in this {@code AddressBook}.
      */
     public boolean removePersons(List<ReadOnlyPerson> keys) throws PersonNotFoundException {
+        final List<ReadOnlyPerson> storedPersons = new ArrayList<>();
+        for (ReadOnlyPerson key : keys) {
+            int index = persons.indexOf(key);
+            if (index != -1) {
+                storedPersons.add(persons.asObservableList().get(index));
+            }
+        }
+
         if (persons.removeAll(keys)) {
-            setTags(new HashSet<>()); // Resets the existing data of tags
-            syncMasterTagListWith(persons);
+            releaseTags(storedPersons);
             return true;
         } else {
             throw new PersonNotFoundException();
@@ -161,8 +339,13 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     //// tag-level operations
 
+    /**
+     * Adds a tag that no person uses yet to the master tag list.
+     * It stays there until a person that was tagged with it is removed.
+     */
     public void addTag(Tag t) throws UniqueTagList.DuplicateTagException {
         tags.add(t);
+        tagUsages.put(t, new TagUsage(t));
     }
 
     //// util methods
@@ -173,6 +356,16 @@ public class AddressBook implements ReadOnlyAddressBook {
         // TODO: refine later
     }
 
+    /**
+     * Returns the persons that match any of {@code keywords}, as an identity set of the elements of
+     * {@link #getPersonList()}.
+     *
+     * @see UniquePersonList#search(List)
+     */
+    public Set<ReadOnlyPerson> searchPersons(List<String> keywords) {
+        return persons.search(keywords);
+    }
+
     @Override
     public ObservableList<ReadOnlyPerson> getPersonList() {
         return persons.asObservableList();
@@ -196,4 +389,16 @@ public class AddressBook implements ReadOnlyAddressBook {
         // use this method for custom fields hashing instead of implementing your own
         return Objects.hash(persons, tags);
     }
+
+    /**
+     * The interned instance of a tag in the master list, and the number of persons tagged with it.
+     */
+    private static class TagUsage {
+        private final Tag tag;
+        private int count;
+
+        TagUsage(Tag tag) {
+            this.tag = tag;
+        }
+    }
 }
@@ -0,0 +1,234 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An immutable record of one change to the persons of an {@code AddressBook}: the persons that were removed,
+ * followed by the persons that were added. An edit is recorded as the removal of the old person and the
+ * addition of the edited one, and is also listed in {@link #getUpdatedPersons()}.
+ *
+ * The recorded persons are shared with the address book rather than copied, so a change only costs memory
+ * in proportion to the number of persons it touches.
+ */
+public class AddressBookChange {
+
+    // rough heap cost of a person with its value objects, tag array and cached sort key, excluding the characters
+    // of its text, measured with two bytes per character; its properties are only created once a card shows it
+    private static final long ESTIMATED_PERSON_OVERHEAD_BYTES = 530;
+    private static final long ESTIMATED_REFERENCE_BYTES = 8;
+
+    private final List<ReadOnlyPerson> removedPersons;
+    private final List<ReadOnlyPerson> addedPersons;
+    // each edited person, mapped to the person it replaced; both are also among the added and removed persons
+    private final Map<ReadOnlyPerson, ReadOnlyPerson> updatedPersons;
+
+    public AddressBookChange(List<? extends ReadOnlyPerson> removedPersons,
+                             List<? extends ReadOnlyPerson> addedPersons) {
+        this(removedPersons, addedPersons, Collections.emptyMap());
+    }
+
+    private AddressBookChange(List<? extends ReadOnlyPerson> removedPersons,
+                              List<? extends ReadOnlyPerson> addedPersons,
+                              Map<ReadOnlyPerson, ReadOnlyPerson> updatedPersons) {
+        requireAllNonNull(removedPersons, addedPersons, updatedPersons);
+        this.removedPersons = Collections.unmodifiableList(new ArrayList<>(removedPersons));
+        this.addedPersons = Collections.unmodifiableList(new ArrayList<>(addedPersons));
+        this.updatedPersons = Collections.unmodifiableMap(new LinkedHashMap<>(updatedPersons));
+    }
+
+    /**
+     * Returns the change that replaces {@code target} with {@code editedPerson}.
+     */
+    public static AddressBookChange ofUpdate(ReadOnlyPerson target, ReadOnlyPerson editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        return new AddressBookChange(Collections.singletonList(target), Collections.singletonList(editedPerson),
+                Collections.singletonMap(editedPerson, target));
+    }
+
+    /**
+     * Returns the persons that the change removed, as they were before the change.
+     */
+    public List<ReadOnlyPerson> getRemovedPersons() {
+        return removedPersons;
+    }
+
+    /**
+     * Returns the persons that the change added.
+     */
+    public List<ReadOnlyPerson> getAddedPersons() {
+        return addedPersons;
+    }
+
+    /**
+     * Returns the edited persons that the change added, each mapped to the person it replaced.
+     * Both persons of an edit are also among the added and removed persons.
+     */
+    public Map<ReadOnlyPerson, ReadOnlyPerson> getUpdatedPersons() {
+        return updatedPersons;
+    }
+
+    /**
+     * Returns how much the change raised or lowered the number of persons with each tag.
+     * Tags whose number of persons did not change are left out.
+     */
+    public Map<Tag, Integer> getTagCountChanges() {
+        final Map<Tag, Integer> tagCountChanges = new HashMap<>();
+        for (ReadOnlyPerson person : removedPersons) {
+            person.getTags().forEach(tag -> tagCountChanges.merge(tag, -1, Integer::sum));
+        }
+        for (ReadOnlyPerson person : addedPersons) {
+            person.getTags().forEach(tag -> tagCountChanges.merge(tag, 1, Integer::sum));
+        }
+        tagCountChanges.values().removeIf(countChange -> countChange == 0);
+        return tagCountChanges;
+    }
+
+    /**
+     * Returns the change that reverts this change.
+     */
+    public AddressBookChange inverse() {
+        final Map<ReadOnlyPerson, ReadOnlyPerson> revertedPersons = new LinkedHashMap<>();
+        updatedPersons.forEach((editedPerson, target) -> revertedPersons.put(target, editedPerson));
+        return new AddressBookChange(addedPersons, removedPersons, revertedPersons);
+    }
+
+    /**
+     * Returns one change that has the same effect as this change followed by {@code later}.
+     * A person that is added and then removed is left out, and so is a person that is removed and then added back
+     * as it was. An edit of an edited person is merged into one edit of the original person.
+     */
+    public AddressBookChange merge(AddressBookChange later) {
+        requireNonNull(later);
+        final Map<PersonState, ReadOnlyPerson> removed = toStateMap(removedPersons);
+        final Map<PersonState, ReadOnlyPerson> added = toStateMap(addedPersons);
+        for (ReadOnlyPerson person : later.removedPersons) {
+            PersonState state = new PersonState(person);
+            if (added.remove(state) == null) {
+                removed.put(state, person);
+            }
+        }
+        for (ReadOnlyPerson person : later.addedPersons) {
+            PersonState state = new PersonState(person);
+            if (removed.remove(state) == null) {
+                added.put(state, person);
+            }
+        }
+
+        // the original person that each edited person replaced, by the state of the edited person
+        final Map<PersonState, ReadOnlyPerson> originalPersons = new LinkedHashMap<>();
+        updatedPersons.forEach((editedPerson, target) -> originalPersons.put(new PersonState(editedPerson), target));
+        later.updatedPersons.forEach((editedPerson, target) -> {
+            ReadOnlyPerson originalPerson = originalPersons.remove(new PersonState(target));
+            originalPersons.put(new PersonState(editedPerson), originalPerson == null ? target : originalPerson);
+        });
+        final Map<ReadOnlyPerson, ReadOnlyPerson> mergedUpdates = new LinkedHashMap<>();
+        originalPersons.forEach((editedState, originalPerson) -> {
+            PersonState originalState = new PersonState(originalPerson);
+            // an edit that was removed, or reverted by a later edit, is no longer part of the change
+            if (added.containsKey(editedState) && removed.containsKey(originalState)) {
+                mergedUpdates.put(added.get(editedState), removed.get(originalState));
+            }
+        });
+        return new AddressBookChange(new ArrayList<>(removed.values()), new ArrayList<>(added.values()),
+                mergedUpdates);
+    }
+
+    /**
+     * Returns true if the change neither removes nor adds any person.
+     */
+    public boolean isEmpty() {
+        return removedPersons.isEmpty() && addedPersons.isEmpty();
+    }
+
+    private static Map<PersonState, ReadOnlyPerson> toStateMap(List<ReadOnlyPerson> persons) {
+        final Map<PersonState, ReadOnlyPerson> stateMap = new LinkedHashMap<>();
+        persons.forEach(person -> stateMap.put(new PersonState(person), person));
+        return stateMap;
+    }
+
+    /**
+     * Returns a rough estimate, in bytes, of the heap memory that this change keeps alive.
+     * Removed persons are counted in full, as the change may be the only thing still referring to them.
+     */
+    public long estimateMemoryUsage() {
+        long estimate = ESTIMATED_REFERENCE_BYTES * addedPersons.size();
+        for (ReadOnlyPerson person : removedPersons) {
+            estimate += ESTIMATED_PERSON_OVERHEAD_BYTES + 2 * countCharacters(person);
+        }
+        return estimate;
+    }
+
+    /**
+     * Returns the number of characters in the text fields of {@code person}.
+     */
+    private static long countCharacters(ReadOnlyPerson person) {
+        long characters = person.getName().fullName.length()
+                + person.getPhone().value.length()
+                + person.getBirthday().value.length()
+                + person.getEmail().value.length()
+                + person.getAddress().value.length()
+                + person.getPostalCode().value.length();
+        for (Tag tag : person.getTags()) {
+            characters += tag.tagName.length();
+        }
+        return characters;
+    }
+
+    // the updated persons only describe the change further, so they are left out of equality
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AddressBookChange // instanceof handles nulls
+                && removedPersons.equals(((AddressBookChange) other).removedPersons)
+                && addedPersons.equals(((AddressBookChange) other).addedPersons));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(removedPersons, addedPersons);
+    }
+
+    @Override
+    public String toString() {
+        return removedPersons.size() + " persons removed, " + addedPersons.size() + " persons added";
+    }
+
+    /**
+     * The whole state of a person, including the favourite status and tags that {@code ReadOnlyPerson#equals}
+     * leaves out, so that an edit of only those fields still changes the state.
+     */
+    private static class PersonState {
+        private final ReadOnlyPerson person;
+
+        PersonState(ReadOnlyPerson person) {
+            this.person = person;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof PersonState // instanceof handles nulls
+                    && person.equals(((PersonState) other).person)
+                    && person.getFavourite().equals(((PersonState) other).person.getFavourite())
+                    && person.getTags().equals(((PersonState) other).person.getTags()));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(person, person.getTags());
+        }
+    }
+
+}
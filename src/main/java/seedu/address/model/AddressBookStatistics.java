@@ -0,0 +1,107 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Counts the persons of an address book with a birthday in each month, and with each tag.
+ *
+ * The counts are kept up to date from each {@link AddressBookChange}, which only touches the persons it removes
+ * and adds, so that a change costs the same however large the address book is. Only the model changes the counts.
+ */
+public class AddressBookStatistics {
+
+    private final int[] birthdayMonthCounts = new int[Month.values().length];
+    // the number of persons with each tag that at least one person has, in the order the tags were first counted
+    private final Map<Tag, Integer> tagCounts = new LinkedHashMap<>();
+
+    /**
+     * Creates the statistics of {@code addressBook}.
+     */
+    public AddressBookStatistics(ReadOnlyAddressBook addressBook) {
+        reset(addressBook);
+    }
+
+    /**
+     * Returns the number of persons with a birthday in {@code month}.
+     */
+    public int getBirthdayCount(Month month) {
+        return birthdayMonthCounts[month.ordinal()];
+    }
+
+    /**
+     * Returns the number of persons with {@code tag}.
+     */
+    public int getTagCount(Tag tag) {
+        return tagCounts.getOrDefault(tag, 0);
+    }
+
+    /**
+     * Returns the tags that at least one person has, in the order they were first counted.
+     */
+    public List<Tag> getTags() {
+        return Collections.unmodifiableList(new ArrayList<>(tagCounts.keySet()));
+    }
+
+    /**
+     * Returns the months whose birthday count {@code change} may have changed.
+     */
+    public static Set<Month> getBirthdayMonths(AddressBookChange change) {
+        final Set<Month> months = EnumSet.noneOf(Month.class);
+        for (List<ReadOnlyPerson> persons : Arrays.asList(change.getRemovedPersons(), change.getAddedPersons())) {
+            persons.forEach(person -> person.getBirthday().getDate().ifPresent(date -> months.add(date.getMonth())));
+        }
+        return months;
+    }
+
+    /**
+     * Recounts the persons of {@code addressBook}, after a change that is not described by an
+     * {@code AddressBookChange}.
+     */
+    void reset(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        Arrays.fill(birthdayMonthCounts, 0);
+        tagCounts.clear();
+        addPersons(addressBook.getPersonList());
+    }
+
+    /**
+     * Updates the counts with the persons that {@code change} removed and added.
+     */
+    void applyChange(AddressBookChange change) {
+        requireNonNull(change);
+        change.getRemovedPersons().forEach(person -> count(person, -1));
+        addPersons(change.getAddedPersons());
+    }
+
+    /**
+     * Counts {@code persons}, which were added to the address book.
+     */
+    void addPersons(List<? extends ReadOnlyPerson> persons) {
+        persons.forEach(person -> count(person, 1));
+    }
+
+    /**
+     * Adds {@code delta} to the counts of the birthday month and the tags of {@code person}.
+     * A tag that no person has any more is no longer counted.
+     */
+    private void count(ReadOnlyPerson person, int delta) {
+        person.getBirthday().getDate().ifPresent(date -> birthdayMonthCounts[date.getMonth().ordinal()] += delta);
+        for (Tag tag : person.getTags()) {
+            tagCounts.merge(tag, delta, (count, countDelta) -> (count + countDelta == 0) ? null : count + countDelta);
+        }
+    }
+
+}
@@ -1,12 +1,15 @@
 package seedu.address.model;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
 import seedu.address.model.person.ReadOnlyPerson;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.Tag;
 
 /**
  * The API of the Model component.
@@ -21,12 +24,46 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /** Returns the statistics of the AddressBook, which are kept up to date as it changes */
+    AddressBookStatistics getStatistics();
+
+    /** Starts recording the changes made to the AddressBook, discarding any changes recorded before. */
+    void startRecordingChanges();
+
+    /** Stops recording and returns the changes made to the AddressBook since recording started, oldest first. */
+    List<AddressBookChange> stopRecordingChanges();
+
+    /**
+     * Applies {@code change}, which must have been recorded from or be the inverse of a change recorded from
+     * this model, to the AddressBook.
+     */
+    void applyChange(AddressBookChange change);
+
     /** Deletes the given persons. */
     void deletePersons(List<ReadOnlyPerson> targets) throws PersonNotFoundException;
 
+    /** Returns true if an equivalent person to {@code person} is in the AddressBook. */
+    boolean hasPerson(ReadOnlyPerson person);
+
     /** Adds the given person */
     void addPerson(ReadOnlyPerson person) throws DuplicatePersonException;
 
+    /**
+     * Adds the given persons in one change.
+     *
+     * @throws DuplicatePersonException if a person is equivalent to an existing person or to another given person.
+     *      No person is added in that case.
+     */
+    void addPersons(List<? extends ReadOnlyPerson> persons) throws DuplicatePersonException;
+
+    /**
+     * Adds {@code tags} and {@code persons}, which were read from storage while the app starts, to the AddressBook.
+     * Unlike {@link #addPersons(List)}, this is not recorded as a change and does not raise
+     * {@code AddressBookChangedEvent}, as the data is in storage already. Persons that are in the AddressBook
+     * already are skipped.
+     */
+    void addLoadedData(Collection<Tag> tags, List<? extends ReadOnlyPerson> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      *
@@ -46,4 +83,11 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<ReadOnlyPerson> predicate);
 
+    /**
+     * Updates the filter of the filtered person list to show the persons matching {@code predicate},
+     * using the address book's search index.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void updateFilteredPersonList(PersonContainsKeywordsPredicate predicate);
+
 }
@@ -3,19 +3,28 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
 import seedu.address.model.person.ReadOnlyPerson;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.UniqueTagList;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -26,6 +35,12 @@ public class ModelManager extends ComponentManager implements Model {
 
     private final AddressBook addressBook;
     private final FilteredList<ReadOnlyPerson> filteredPersons;
+    private final AddressBookStatistics statistics;
+    // the keyword search that filters filteredPersons and the persons matching it, or null if the filter is not one
+    private PersonContainsKeywordsPredicate searchPredicate;
+    private Set<ReadOnlyPerson> searchMatches;
+    // changes made since startRecordingChanges(), or null if changes are not being recorded
+    private List<AddressBookChange> recordedChanges;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -37,7 +52,11 @@ public class ModelManager extends ComponentManager implements Model {
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
         this.addressBook = new AddressBook(addressBook);
+        this.addressBook.setNameCollationLocale(userPrefs.getNameCollationLocale());
+        // added before filteredPersons, so that the search matches are updated before the filter tests new persons
+        this.addressBook.getPersonList().addListener(this::updateSearchMatches);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        statistics = new AddressBookStatistics(this.addressBook);
     }
 
     public ModelManager() {
@@ -45,9 +64,12 @@ public class ModelManager extends ComponentManager implements Model {
     }
 
     @Override
-    public void resetData(ReadOnlyAddressBook newData) {
+    public synchronized void resetData(ReadOnlyAddressBook newData) {
+        List<ReadOnlyPerson> previousPersons = new ArrayList<>(addressBook.getPersonList());
         addressBook.resetData(newData);
-        indicateAddressBookChanged();
+        recordChange(new AddressBookChange(previousPersons, addressBook.getPersonList()));
+        // the new data may hold tags that no person uses, which a change of persons does not describe
+        indicateAddressBookChanged(null);
     }
 
     @Override
@@ -55,31 +77,138 @@ public class ModelManager extends ComponentManager implements Model {
         return addressBook;
     }
 
-    /** Raises an event to indicate the model has changed */
-    private void indicateAddressBookChanged() {
-        raise(new AddressBookChangedEvent(addressBook));
+    @Override
+    public AddressBookStatistics getStatistics() {
+        return statistics;
+    }
+
+    @Override
+    public void startRecordingChanges() {
+        recordedChanges = new ArrayList<>();
+    }
+
+    @Override
+    public List<AddressBookChange> stopRecordingChanges() {
+        List<AddressBookChange> changes = (recordedChanges == null) ? Collections.emptyList() : recordedChanges;
+        recordedChanges = null;
+        return changes;
+    }
+
+    @Override
+    public synchronized void applyChange(AddressBookChange change) {
+        try {
+            addressBook.applyChange(change);
+        } catch (PersonNotFoundException | DuplicatePersonException e) {
+            throw new AssertionError("The change was made to this address book before; it should apply now", e);
+        }
+        recordChange(change);
+        indicateAddressBookChanged(change);
+    }
+
+    /** Records {@code change} if changes are being recorded and it changed anything */
+    private void recordChange(AddressBookChange change) {
+        if (recordedChanges != null && !change.isEmpty()) {
+            recordedChanges.add(change);
+        }
+    }
+
+    /**
+     * Updates the statistics and raises an event to indicate the model has changed by {@code change},
+     * which is null if the change is not a change of persons only.
+     */
+    private void indicateAddressBookChanged(AddressBookChange change) {
+        if (change == null) {
+            statistics.reset(addressBook);
+        } else {
+            statistics.applyChange(change);
+        }
+        raise(new AddressBookChangedEvent(addressBook, change));
     }
 
     @Override
     public synchronized void deletePersons(List<ReadOnlyPerson> targets) throws PersonNotFoundException {
+        List<ReadOnlyPerson> removedPersons = getStoredPersons(targets);
         addressBook.removePersons(targets);
-        indicateAddressBookChanged();
+        AddressBookChange change = new AddressBookChange(removedPersons, Collections.emptyList());
+        recordChange(change);
+        indicateAddressBookChanged(change);
+    }
+
+    @Override
+    public synchronized boolean hasPerson(ReadOnlyPerson person) {
+        return addressBook.hasPerson(person);
     }
 
     @Override
     public synchronized void addPerson(ReadOnlyPerson person) throws DuplicatePersonException {
         addressBook.addPerson(person);
+        AddressBookChange change = new AddressBookChange(Collections.emptyList(),
+                getStoredPersons(Arrays.asList(person)));
+        recordChange(change);
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        indicateAddressBookChanged(change);
+    }
+
+    @Override
+    public synchronized void addPersons(List<? extends ReadOnlyPerson> persons) throws DuplicatePersonException {
+        addressBook.addPersons(persons);
+        AddressBookChange change = new AddressBookChange(Collections.emptyList(),
+                getStoredPersons(new ArrayList<>(persons)));
+        recordChange(change);
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        indicateAddressBookChanged();
+        indicateAddressBookChanged(change);
+    }
+
+    @Override
+    public synchronized void addLoadedData(Collection<Tag> tags, List<? extends ReadOnlyPerson> persons) {
+        for (Tag tag : tags) {
+            try {
+                addressBook.addTag(tag);
+            } catch (UniqueTagList.DuplicateTagException dte) {
+                // the tag is in the master list already
+            }
+        }
+        try {
+            addressBook.addPersons(persons);
+            statistics.addPersons(persons);
+        } catch (DuplicatePersonException dpe) {
+            logger.warning("Data file holds duplicate persons, which are skipped");
+            for (ReadOnlyPerson person : persons) {
+                try {
+                    addressBook.addPerson(person);
+                    statistics.addPersons(Collections.singletonList(person));
+                } catch (DuplicatePersonException e) {
+                    // the first of the equivalent persons is kept
+                }
+            }
+        }
     }
 
     @Override
-    public void updatePerson(ReadOnlyPerson target, ReadOnlyPerson editedPerson)
+    public synchronized void updatePerson(ReadOnlyPerson target, ReadOnlyPerson editedPerson)
             throws DuplicatePersonException, PersonNotFoundException {
         requireAllNonNull(target, editedPerson);
 
+        ReadOnlyPerson storedTarget = addressBook.getStoredPerson(target);
         addressBook.updatePerson(target, editedPerson);
-        indicateAddressBookChanged();
+        AddressBookChange change = AddressBookChange.ofUpdate(storedTarget, addressBook.getStoredPerson(editedPerson));
+        recordChange(change);
+        indicateAddressBookChanged(change);
+    }
+
+    /**
+     * Returns the persons held by the address book that are equivalent to {@code keys}, skipping missing ones.
+     */
+    private List<ReadOnlyPerson> getStoredPersons(List<ReadOnlyPerson> keys) {
+        List<ReadOnlyPerson> storedPersons = new ArrayList<>();
+        for (ReadOnlyPerson key : keys) {
+            try {
+                storedPersons.add(addressBook.getStoredPerson(key));
+            } catch (PersonNotFoundException pnfe) {
+                // a missing person is not part of the change
+            }
+        }
+        return storedPersons;
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -96,9 +225,39 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<ReadOnlyPerson> predicate) {
         requireNonNull(predicate);
+        searchPredicate = null;
+        searchMatches = null;
         filteredPersons.setPredicate(predicate);
     }
 
+    /**
+     * Looks up the matches of {@code predicate} in the address book's search index instead of testing every person.
+     * Persons that are added to the address book after the search are tested with {@code predicate} itself,
+     * so the filter behaves exactly as if {@code predicate} had been set directly.
+     */
+    @Override
+    public void updateFilteredPersonList(PersonContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        final Set<ReadOnlyPerson> matches = addressBook.searchPersons(predicate.getKeywords());
+        searchPredicate = predicate;
+        searchMatches = matches;
+        filteredPersons.setPredicate(matches::contains);
+    }
+
+    /**
+     * Keeps the matches of the keyword search that filters the person list, if any, in step with {@code change}
+     * of the address book's persons, by testing only the persons it adds.
+     */
+    private void updateSearchMatches(ListChangeListener.Change<? extends ReadOnlyPerson> change) {
+        if (searchMatches == null) {
+            return;
+        }
+        while (change.next()) {
+            change.getRemoved().forEach(searchMatches::remove);
+            change.getAddedSubList().stream().filter(searchPredicate).forEach(searchMatches::add);
+        }
+    }
+
     @Override
     public boolean equals(Object obj) {
         // short circuit if same object
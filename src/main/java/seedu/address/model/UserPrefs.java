@@ -9,12 +9,22 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs {
 
+    public static final String ADDRESS_BOOK_FORMAT_XML = "xml";
+    public static final String ADDRESS_BOOK_FORMAT_BINARY = "binary";
+    public static final String ADDRESS_BOOK_FORMAT_MAPPED = "mapped";
+
     private GuiSettings guiSettings;
     private String addressBookFilePath = "data/addressbook.xml";
     private String addressBookName = "MyAddressBook";
+    // the format the address book is stored in, which is migrated from the newest file of the other formats
+    private String addressBookFormat = ADDRESS_BOOK_FORMAT_XML;
+    private String binaryAddressBookFilePath = "data/addressbook.bin";
+    private String mappedAddressBookFilePath = "data/addressbook.map";
     // @@author pwenzhe
     private String addressBookTheme = "Bright";
     // @@author
+    // IETF language tag of the locale that names are sorted by; empty sorts by raw characters
+    private String nameCollationLocale = "";
 
     public UserPrefs() {
         this.setGuiSettings(500, 500, 0, 0);
@@ -40,6 +50,30 @@ public class UserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public String getAddressBookFormat() {
+        return addressBookFormat;
+    }
+
+    public void setAddressBookFormat(String addressBookFormat) {
+        this.addressBookFormat = addressBookFormat;
+    }
+
+    public String getBinaryAddressBookFilePath() {
+        return binaryAddressBookFilePath;
+    }
+
+    public void setBinaryAddressBookFilePath(String binaryAddressBookFilePath) {
+        this.binaryAddressBookFilePath = binaryAddressBookFilePath;
+    }
+
+    public String getMappedAddressBookFilePath() {
+        return mappedAddressBookFilePath;
+    }
+
+    public void setMappedAddressBookFilePath(String mappedAddressBookFilePath) {
+        this.mappedAddressBookFilePath = mappedAddressBookFilePath;
+    }
+
     public String getAddressBookName() {
         return addressBookName;
     }
@@ -62,6 +96,14 @@ public class UserPrefs {
     }
     // @@author
 
+    public String getNameCollationLocale() {
+        return nameCollationLocale;
+    }
+
+    public void setNameCollationLocale(String nameCollationLocale) {
+        this.nameCollationLocale = nameCollationLocale;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -76,12 +118,17 @@ public class UserPrefs {
         return Objects.equals(guiSettings, o.guiSettings)
                 && Objects.equals(addressBookFilePath, o.addressBookFilePath)
                 && Objects.equals(addressBookName, o.addressBookName)
-                && Objects.equals(addressBookTheme, o.addressBookTheme);
+                && Objects.equals(addressBookFormat, o.addressBookFormat)
+                && Objects.equals(binaryAddressBookFilePath, o.binaryAddressBookFilePath)
+                && Objects.equals(mappedAddressBookFilePath, o.mappedAddressBookFilePath)
+                && Objects.equals(addressBookTheme, o.addressBookTheme)
+                && Objects.equals(nameCollationLocale, o.nameCollationLocale);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath, addressBookName, addressBookTheme);
+        return Objects.hash(guiSettings, addressBookFilePath, addressBookName, addressBookFormat,
+                binaryAddressBookFilePath, mappedAddressBookFilePath, addressBookTheme, nameCollationLocale);
     }
 
     @Override
@@ -90,9 +137,11 @@ public class UserPrefs {
         sb.append("Gui Settings : " + guiSettings.toString());
         sb.append("\nLocal data file location : " + addressBookFilePath);
         sb.append("\nAddressBook name : " + addressBookName);
+        sb.append("\nAddressBook format : " + addressBookFormat);
         // @@author pwenzhe
         sb.append("\nAddressBook theme : " + addressBookTheme);
         // @@author pwenzhe
+        sb.append("\nName collation locale : " + nameCollationLocale);
         return sb.toString();
     }
 
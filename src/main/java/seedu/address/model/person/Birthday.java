@@ -1,6 +1,11 @@
 package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+import java.util.Optional;
+
 import seedu.address.commons.exceptions.IllegalValueException;
 //@@author Valerieyue
 /**
@@ -13,13 +18,15 @@ public class Birthday {
                    + "The month can be entered as a number or name of the month."
                    + "The date entered must be valid.\n"
                    + "eg. b/09 8 1987, b/23-Mar-98";
-    public static final String BIRTHDAY_VALIDATION_REGEX = "^(?:(?:31(\\/|-|\\.| )(?:0?[13578]|1[02]|"
-           + "(?:jan|mar|may|jul|aug|oct|dec)))\\1|(?:(?:29|30)(\\/|-|\\.| )(?:0?[1,3-9]|1[0-2]|"
-           + "(?:jan|mar|apr|may|jun|jul|aug|sep|oct|nov|dec))\\2))(?:(?:1[6-9]|[2-9]\\d)?\\d{2})$|^(?:29(\\/|-|\\.| )"
-           + "(?:0?2|(?:feb))\\3(?:(?:(?:1[6-9]|[2-9]\\d)?(?:0[48]|[2468][048]|[13579][26])|"
-           + "(?:(?:16|[2468][048]|[3579][26])00))))$|^(?:0?[1-9]|1\\d|2[0-8])(\\/|-|\\.| )(?:(?:0?[1-9]|"
-           + "(?:jan|feb|mar|apr|may|jun|jul|aug|sep))|(?:1[0-2]|(?:oct|nov|dec)))\\4(?:(?:1[6-9]|[2-9]\\d)?\\d{2})$";
+    public static final int MINIMUM_FOUR_DIGIT_YEAR = 1600;
+    // two-digit years below this are taken to be in the 2000s, and the others in the 1900s
+    public static final int TWO_DIGIT_YEAR_PIVOT = 18;
+
+    private static final String[] MONTH_NAMES =
+        {"Jan", "Feb", "Mar", "Apr", "May", "Jun", "Jul", "Aug", "Sep", "Oct", "Nov", "Dec"};
+
     public final String value;
+    private final LocalDate date;
 
     /**
      * Validates given birthday.
@@ -29,98 +36,127 @@ public class Birthday {
     public Birthday(String birthday) throws IllegalValueException {
         requireNonNull(birthday);
         String trimmedBirthday = birthday.trim().toLowerCase();
-        String temp = trimmedBirthday;
-        if (!trimmedBirthday.isEmpty() & !isValidBirthday(trimmedBirthday)) {
-            throw new IllegalValueException(MESSAGE_BIRTHDAY_CONSTRAINTS);
-        } else if (!"".equals(trimmedBirthday)) {
-            String[] array = trimmedBirthday.replace("/", " ").replace("-", " ")
-                    .replace(".", " ").split(" ");
-            int monthInt = 0;
-            String day;
-            String month;
-            String year;
-
-            // day
-            if (array[0].length() == 2) {
-                if (array[0].startsWith("0")) {
-                    day = array[0].substring(1); //0X
-                } else {
-                    day = array[0]; // XX
-                }
-            } else {
-                day = array[0]; // X
+        if (trimmedBirthday.isEmpty()) {
+            this.date = null;
+            this.value = "";
+        } else {
+            this.date = parseBirthday(trimmedBirthday);
+            if (date == null) {
+                throw new IllegalValueException(MESSAGE_BIRTHDAY_CONSTRAINTS);
             }
+            this.value = date.getDayOfMonth() + " " + MONTH_NAMES[date.getMonthValue() - 1] + " " + date.getYear();
+        }
+    }
+
+    /**
+     * Returns true if a given string is a valid person birthday.
+     */
+    public static boolean isValidBirthday(String test) {
+        return parseBirthday(test) != null;
+    }
 
-            // year
-            if (array[2].length() == 2) {
-                if (Integer.valueOf(array[2]) < 18) {
-                    year = "20" + array[2];
-                } else {
-                    year = "19" + array[2];
+    /**
+     * Returns the date of the birthday, or an empty {@code Optional} if no birthday was given.
+     */
+    public Optional<LocalDate> getDate() {
+        return Optional.ofNullable(date);
+    }
+
+    /**
+     * Parses {@code text} in a single pass, in the format described by {@link #MESSAGE_BIRTHDAY_CONSTRAINTS}:
+     * a day of 1 or 2 digits, a month of 1 or 2 digits or a three-letter name, and a year of 2 or 4 digits,
+     * separated by the same one of '/', '-', '.' or ' '.
+     *
+     * @return the date, or null if {@code text} is not a valid birthday.
+     */
+    private static LocalDate parseBirthday(String text) {
+        int dayEnd = skipDigits(text, 0);
+        if (dayEnd == 0 || dayEnd > 2 || dayEnd == text.length() || !isSeparator(text.charAt(dayEnd))) {
+            return null;
+        }
+        char separator = text.charAt(dayEnd);
+        int monthStart = dayEnd + 1;
+        int monthEnd = text.indexOf(separator, monthStart);
+        if (monthEnd == -1) {
+            return null;
+        }
+        int yearStart = monthEnd + 1;
+        int yearEnd = skipDigits(text, yearStart);
+        if (yearEnd != text.length()) {
+            return null;
+        }
+
+        int day = parseDigits(text, 0, dayEnd);
+        int month = parseMonth(text, monthStart, monthEnd);
+        int year = parseYear(text, yearStart, yearEnd);
+        if (month == -1 || year == -1 || day < 1 || day > Month.of(month).length(Year.isLeap(year))) {
+            return null;
+        }
+        return LocalDate.of(year, month, day);
+    }
+
+    /**
+     * Returns the month, from 1 to 12, written in {@code text} from {@code start} to {@code end},
+     * or -1 if it is not a valid month.
+     */
+    private static int parseMonth(String text, int start, int end) {
+        int length = end - start;
+        if (length == 3 && !Character.isDigit(text.charAt(start))) {
+            for (int i = 0; i < MONTH_NAMES.length; i++) {
+                if (text.regionMatches(true, start, MONTH_NAMES[i], 0, 3)) {
+                    return i + 1;
                 }
-            } else {
-                year = array[2];
             }
+            return -1;
+        }
+        if (length < 1 || length > 2 || skipDigits(text, start) != end) {
+            return -1;
+        }
+        int month = parseDigits(text, start, end);
+        return (month >= 1 && month <= 12) ? month : -1;
+    }
 
-            // month
-            if (array[1].length() < 3) {
-                monthInt = Integer.valueOf(array[1]);
-            }
+    /**
+     * Returns the year written in {@code text} from {@code start} to {@code end}, which must be digits,
+     * or -1 if it is not a valid year.
+     */
+    private static int parseYear(String text, int start, int end) {
+        int length = end - start;
+        if (length == 2) {
+            int year = parseDigits(text, start, end);
+            return (year < TWO_DIGIT_YEAR_PIVOT) ? 2000 + year : 1900 + year;
+        }
+        if (length == 4) {
+            int year = parseDigits(text, start, end);
+            return (year >= MINIMUM_FOUR_DIGIT_YEAR) ? year : -1;
+        }
+        return -1;
+    }
 
-            switch (monthInt) {
-            case 1:
-                month = "Jan";
-                break;
-            case 2:
-                month = "Feb";
-                break;
-            case 3:
-                month = "Mar";
-                break;
-            case 4:
-                month = "Apr";
-                break;
-            case 5:
-                month = "May";
-                break;
-            case 6:
-                month = "Jun";
-                break;
-            case 7:
-                month = "Jul";
-                break;
-            case 8:
-                month = "Aug";
-                break;
-            case 9:
-                month = "Sep";
-                break;
-            case 10:
-                month = "Oct";
-                break;
-            case 11:
-                month = "Nov";
-                break;
-            case 12:
-                month = "Dec";
-                break;
-            default:
-                month = "";
-                break;
-            }
-            if (array[1].length() == 3) {
-                month = array[1].substring(0, 1).toUpperCase() + array[1].substring(1);
-            }
-            temp = day + " " + month + " " + year;
+    private static boolean isSeparator(char c) {
+        return c == '/' || c == '-' || c == '.' || c == ' ';
+    }
+
+    /**
+     * Returns the index of the first character from {@code start} in {@code text} that is not an ASCII digit.
+     */
+    private static int skipDigits(String text, int start) {
+        int i = start;
+        while (i < text.length() && text.charAt(i) >= '0' && text.charAt(i) <= '9') {
+            i++;
         }
-        this.value = temp;
+        return i;
     }
 
     /**
-     * Returns true if a given string is a valid person birthday.
+     * Returns the value of the ASCII digits in {@code text} from {@code start} to {@code end}.
      */
-    public static boolean isValidBirthday(String test) {
-        return test.matches(BIRTHDAY_VALIDATION_REGEX);
+    private static int parseDigits(String text, int start, int end) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            value = value * 10 + (text.charAt(i) - '0');
+        }
+        return value;
     }
 
     @Override
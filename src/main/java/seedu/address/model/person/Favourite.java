@@ -1,5 +1,7 @@
 package seedu.address.model.person;
 
+import java.util.regex.Pattern;
+
 import seedu.address.commons.exceptions.IllegalValueException;
 
 // @@author pwenzhe
@@ -12,6 +14,7 @@ public class Favourite {
     public static final String MESSAGE_FAVOURITE_CONSTRAINTS =
             "Favourite is case insensitive and can only be 'yes', 'y', 'no', 'n' or empty";
     public static final String FAV_VALIDATION_REGEX = "yes|y|no|n";
+    private static final Pattern FAV_VALIDATION_PATTERN = Pattern.compile(FAV_VALIDATION_REGEX);
     public final boolean isFavourite;
     public final String value;
 
@@ -39,16 +42,16 @@ public class Favourite {
      * Returns true if a given string is a valid favourite status.
      */
     public static boolean isValidFav(String test) {
-        return test.matches(FAV_VALIDATION_REGEX);
+        return FAV_VALIDATION_PATTERN.matcher(test).matches();
     }
 
     /**
      * Parses and returns the appropriate value for favourite status.
      */
     private boolean parseFav(String str) {
-        if (str.matches("yes|y")) {
+        if ("yes".equals(str) || "y".equals(str)) {
             return true;
-        } else if (str.matches("no|n")) {
+        } else if ("no".equals(str) || "n".equals(str)) {
             return false;
         }
 
@@ -59,9 +62,9 @@ public class Favourite {
      * Formats favourite status into a string.
      */
     private String favValue(String str) {
-        if (str.matches("yes|y")) {
+        if ("yes".equals(str) || "y".equals(str)) {
             return "yes";
-        } else if (str.matches("no|n")) {
+        } else if ("no".equals(str) || "n".equals(str)) {
             return "no";
         }
 
@@ -1,31 +1,44 @@
 package seedu.address.model.person;
 
-import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.text.Collator;
+import java.util.AbstractSet;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.Objects;
 import java.util.Set;
 
-import javafx.beans.property.ObjectProperty;
-import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.tag.UniqueTagList;
 
 /**
  * Represents a Person in the address book.
  * Guarantees: details are present and not null, field values are validated.
+ *
+ * A person is immutable, so that it can be hashed and indexed by its fields: an edit replaces it with a new
+ * person, as {@code EditCommand} does. The fields are held as plain values and the tags as a small array, as a
+ * large address book holds many persons, and the read-only JavaFX property of a field is only created when it is
+ * asked for, e.g. by a {@code PersonCard} that is bound to this person.
  */
 public class Person implements ReadOnlyPerson {
 
-    private ObjectProperty<Name> name;
-    private ObjectProperty<Phone> phone;
-    private ObjectProperty<Birthday> birthday;
-    private ObjectProperty<Email> email;
-    private ObjectProperty<Address> address;
-    private ObjectProperty<PostalCode> postalCode;
-    private ObjectProperty<Favourite> favourite;
-    private ObjectProperty<UniqueTagList> tags;
+    private static final Tag[] NO_TAGS = new Tag[0];
+
+    private final Name name;
+    private final Phone phone;
+    private final Birthday birthday;
+    private final Email email;
+    private final Address address;
+    private final PostalCode postalCode;
+    private final Favourite favourite;
+    private final Tag[] tags;
+
+    // created on demand, see getSortKey(Collator)
+    private PersonSortKey sortKey;
 
     /**
      * Every field must be present and not null.
@@ -33,15 +46,15 @@ public class Person implements ReadOnlyPerson {
     public Person(Name name, Phone phone, Birthday birthday, Email email, Address address,
                   PostalCode postalCode, Favourite favourite, Set<Tag> tags) {
         requireAllNonNull(name, phone, birthday, email, address, tags);
-        this.name = new SimpleObjectProperty<>(name);
-        this.phone = new SimpleObjectProperty<>(phone);
-        this.birthday = new SimpleObjectProperty<>(birthday);
-        this.email = new SimpleObjectProperty<>(email);
-        this.address = new SimpleObjectProperty<>(address);
-        this.postalCode = new SimpleObjectProperty<>(postalCode);
-        this.favourite = new SimpleObjectProperty<>(favourite);
+        this.name = name;
+        this.phone = phone;
+        this.birthday = birthday;
+        this.email = email;
+        this.address = address;
+        this.postalCode = postalCode;
+        this.favourite = favourite;
         // protect internal tags from changes in the arg list
-        this.tags = new SimpleObjectProperty<>(new UniqueTagList(tags));
+        this.tags = toTagArray(tags);
     }
 
     /**
@@ -52,102 +65,74 @@ public class Person implements ReadOnlyPerson {
                 source.getPostalCode(), source.getFavourite(), source.getTags());
     }
 
-    public void setName(Name name) {
-        this.name.set(requireNonNull(name));
-    }
-
     @Override
-    public ObjectProperty<Name> nameProperty() {
-        return name;
+    public ReadOnlyObjectProperty<Name> nameProperty() {
+        return createProperty(name);
     }
 
     @Override
     public Name getName() {
-        return name.get();
-    }
-
-    public void setPhone(Phone phone) {
-        this.phone.set(requireNonNull(phone));
+        return name;
     }
 
     @Override
-    public ObjectProperty<Phone> phoneProperty() {
-        return phone;
+    public ReadOnlyObjectProperty<Phone> phoneProperty() {
+        return createProperty(phone);
     }
 
     @Override
     public Phone getPhone() {
-        return phone.get();
-    }
-
-    public void setBirthday(Birthday birthday) {
-        this.birthday.set(requireNonNull(birthday));
+        return phone;
     }
 
     @Override
-    public ObjectProperty<Birthday> birthdayProperty() {
-        return birthday;
+    public ReadOnlyObjectProperty<Birthday> birthdayProperty() {
+        return createProperty(birthday);
     }
 
     @Override
     public Birthday getBirthday() {
-        return birthday.get();
-    }
-
-    public void setEmail(Email email) {
-        this.email.set(requireNonNull(email));
+        return birthday;
     }
 
     @Override
-    public ObjectProperty<Email> emailProperty() {
-        return email;
+    public ReadOnlyObjectProperty<Email> emailProperty() {
+        return createProperty(email);
     }
 
     @Override
     public Email getEmail() {
-        return email.get();
-    }
-
-    public void setAddress(Address address) {
-        this.address.set(requireNonNull(address));
+        return email;
     }
 
     @Override
-    public ObjectProperty<Address> addressProperty() {
-        return address;
+    public ReadOnlyObjectProperty<Address> addressProperty() {
+        return createProperty(address);
     }
 
     @Override
     public Address getAddress() {
-        return address.get();
-    }
-
-    public void setPostalCode(PostalCode postalCode) {
-        this.postalCode.set(requireNonNull(postalCode));
+        return address;
     }
 
     @Override
-    public ObjectProperty<PostalCode> postalCodeProperty() {
-        return postalCode;
+    public ReadOnlyObjectProperty<PostalCode> postalCodeProperty() {
+        return createProperty(postalCode);
     }
 
     @Override
     public PostalCode getPostalCode() {
-        return postalCode.get();
-    }
-
-    public void setFavourite(Favourite favourite) {
-        this.favourite.set(favourite);
+        return postalCode;
     }
 
     @Override
-    public ObjectProperty<Favourite> favProperty() {
-        return favourite;
+    public ReadOnlyObjectProperty<Favourite> favProperty() {
+        return createProperty(favourite);
     }
 
     @Override
     public Favourite getFavourite() {
-        return favourite.get();
+        return favourite;
     }
 
     /**
@@ -156,18 +141,65 @@ public class Person implements ReadOnlyPerson {
      */
     @Override
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags.get().toSet());
+        return new TagArraySet(tags);
+    }
+
+    /**
+     * Returns the cached sort key, rebuilding it only if it was built with another collator.
+     */
+    @Override
+    public PersonSortKey getSortKey(Collator collator) {
+        if (sortKey == null || !sortKey.isBuiltWith(collator)) {
+            sortKey = PersonSortKey.of(this, collator);
+        }
+        return sortKey;
     }
 
-    public ObjectProperty<UniqueTagList> tagProperty() {
-        return tags;
+    public ReadOnlyObjectProperty<UniqueTagList> tagProperty() {
+        return createProperty(new UniqueTagList(getTags()));
     }
 
     /**
-     * Replaces this person's tags with the tags in the argument tag set.
+     * Returns a read-only property holding {@code value}, which never changes as this person is immutable.
      */
-    public void setTags(Set<Tag> replacement) {
-        tags.set(new UniqueTagList(replacement));
+    private static <T> ReadOnlyObjectProperty<T> createProperty(T value) {
+        return new ReadOnlyObjectWrapper<>(value).getReadOnlyProperty();
+    }
+
+    private static Tag[] toTagArray(Set<Tag> tags) {
+        requireAllNonNull(tags);
+        return tags.isEmpty() ? NO_TAGS : tags.toArray(new Tag[tags.size()]);
+    }
+
+    /**
+     * An unmodifiable view of an array of distinct tags as a set.
+     */
+    private static class TagArraySet extends AbstractSet<Tag> {
+        private final Tag[] tags;
+
+        TagArraySet(Tag[] tags) {
+            this.tags = tags;
+        }
+
+        @Override
+        public Iterator<Tag> iterator() {
+            return Collections.unmodifiableList(Arrays.asList(tags)).iterator();
+        }
+
+        @Override
+        public int size() {
+            return tags.length;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            for (Tag tag : tags) {
+                if (tag.equals(o)) {
+                    return true;
+                }
+            }
+            return false;
+        }
     }
 
     @Override
@@ -179,8 +211,8 @@ public class Person implements ReadOnlyPerson {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, tags);
+        // hashes the same fields that isSameStateAs compares, so equal persons share a hash code
+        return Objects.hash(getName(), getPhone(), getBirthday(), getEmail(), getAddress(), getPostalCode());
     }
 
     @Override
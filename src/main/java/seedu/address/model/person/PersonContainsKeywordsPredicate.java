@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import java.util.List;
 import java.util.function.Predicate;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import seedu.address.commons.util.StringUtil;
@@ -10,22 +11,47 @@ import seedu.address.commons.util.StringUtil;
  * Tests that a {@code ReadOnlyPerson} matches any of the keywords given.
  */
 public class PersonContainsKeywordsPredicate implements Predicate<ReadOnlyPerson> {
+    /** Keywords starting with this prefix are also matched against the words of the birthday */
+    public static final String MONTH_KEYWORD_PREFIX = "m/";
+
+    private static final Pattern NUMERIC_KEYWORD_PATTERN = Pattern.compile("\\d+");
+    private static final Pattern FAVOURITE_KEYWORD_PATTERN =
+            Pattern.compile("favourite|fav|favs|favorite|favourites|favorites");
+
     private final List<String> keywords;
 
     public PersonContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    /**
+     * Returns true if {@code keyword} is matched against phones and postal codes.
+     */
+    static boolean isNumericKeyword(String keyword) {
+        return NUMERIC_KEYWORD_PATTERN.matcher(keyword).matches();
+    }
+
+    /**
+     * Returns true if {@code keyword} matches all favourite persons.
+     */
+    static boolean isFavouriteKeyword(String keyword) {
+        return FAVOURITE_KEYWORD_PATTERN.matcher(keyword.toLowerCase()).matches();
+    }
+
     @Override
     public boolean test(ReadOnlyPerson person) {
         return
                 //@@author Valerieyue
-                keywords.stream().filter(input -> input.substring(0, 2).equals("m/"))
+                keywords.stream().filter(input -> input.startsWith(MONTH_KEYWORD_PREFIX))
                         .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getBirthday().value,
-                                keyword.substring(2)))
+                                keyword.substring(MONTH_KEYWORD_PREFIX.length())))
                 // @@author pwenzhe
                 || keywords.stream()
-                        .filter(num -> num.matches("\\d+"))
+                        .filter(PersonContainsKeywordsPredicate::isNumericKeyword)
                         .anyMatch(number -> person.getPhone().toString().contains(number))
                 || keywords.stream()
                         .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword))
@@ -35,14 +61,14 @@ public class PersonContainsKeywordsPredicate implements Predicate<ReadOnlyPerson
                         .anyMatch(address -> StringUtil
                                 .containsWordIgnoreCase(person.getAddress().toString(), address))
                 || keywords.stream()
-                        .filter(postal -> postal.matches("\\d+"))
+                        .filter(PersonContainsKeywordsPredicate::isNumericKeyword)
                         .anyMatch(postalCode -> person.getPostalCode().toString().contains(postalCode))
                 || keywords.stream()
                         .anyMatch(tag -> StringUtil.containsWordIgnoreCase(person.getTags().stream()
                                 .map(i -> i.toString()).collect(Collectors.joining(" "))
                                 .replaceAll("\\[|\\]|\\,", " "), tag))
                 || keywords.stream()
-                        .filter(fav -> fav.toLowerCase().matches("favourite|fav|favs|favorite|favourites|favorites"))
+                        .filter(PersonContainsKeywordsPredicate::isFavouriteKeyword)
                         .anyMatch(favourite -> person.getFavourite().toString().matches("yes"));
         // @@author
     }
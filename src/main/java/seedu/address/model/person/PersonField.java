@@ -0,0 +1,45 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+
+/**
+ * The fields of a person, e.g. to choose the columns of an exported file.
+ */
+public enum PersonField {
+    NAME("Name"),
+    PHONE("Phone"),
+    BIRTHDAY("Birthday"),
+    EMAIL("Email"),
+    ADDRESS("Address"),
+    POSTAL_CODE("Postal Code"),
+    FAVOURITE("Favourite"),
+    TAGS("Tags");
+
+    private final String displayName;
+
+    PersonField(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Returns the field whose display name is {@code name}, ignoring case and spaces,
+     * e.g. both "Postal Code" and "postalcode" name {@link #POSTAL_CODE}.
+     */
+    public static Optional<PersonField> fromName(String name) {
+        requireNonNull(name);
+        String preppedName = name.replace(" ", "");
+        for (PersonField field : values()) {
+            if (field.displayName.replace(" ", "").equalsIgnoreCase(preppedName)) {
+                return Optional.of(field);
+            }
+        }
+        return Optional.empty();
+    }
+
+}
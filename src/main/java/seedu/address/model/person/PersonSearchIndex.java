@@ -0,0 +1,176 @@
+package seedu.address.model.person;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * An inverted index from the words in the names, addresses, birthdays and tags of persons to those persons,
+ * which answers the searches of {@link PersonContainsKeywordsPredicate} without testing every person.
+ *
+ * Words are matched ignoring case, in the same way as {@link String#equalsIgnoreCase(String)}.
+ * Emails, phones and postal codes are matched by substring, so they are held in {@link SubstringIndex}es that
+ * narrow the search for a keyword down to the persons sharing its n-grams, however short the keyword is.
+ */
+class PersonSearchIndex {
+
+    private final Map<String, Set<Person>> nameWords = new HashMap<>();
+    private final Map<String, Set<Person>> addressWords = new HashMap<>();
+    private final Map<String, Set<Person>> birthdayWords = new HashMap<>();
+    private final Map<String, Set<Person>> tagNames = new HashMap<>();
+    private final Set<Person> favourites = newIdentitySet();
+    private final SubstringIndex emailSubstrings = new SubstringIndex();
+    // phones and postal codes of persons
+    private final SubstringIndex numberSubstrings = new SubstringIndex();
+
+    /**
+     * Adds {@code person} to the index.
+     */
+    void add(Person person) {
+        forEachWord(person.getName().fullName, word -> addPosting(nameWords, word, person));
+        forEachWord(person.getAddress().value, word -> addPosting(addressWords, word, person));
+        forEachWord(person.getBirthday().value, word -> addPosting(birthdayWords, word, person));
+        for (Tag tag : person.getTags()) {
+            addPosting(tagNames, foldCase(tag.tagName), person);
+        }
+        if (person.getFavourite().getFavourite()) {
+            favourites.add(person);
+        }
+        emailSubstrings.add(person, person.getEmail().value);
+        numberSubstrings.add(person, person.getPhone().value);
+        numberSubstrings.add(person, person.getPostalCode().value);
+    }
+
+    /**
+     * Removes {@code person}, which must be the same object that was added, from the index.
+     */
+    void remove(Person person) {
+        forEachWord(person.getName().fullName, word -> removePosting(nameWords, word, person));
+        forEachWord(person.getAddress().value, word -> removePosting(addressWords, word, person));
+        forEachWord(person.getBirthday().value, word -> removePosting(birthdayWords, word, person));
+        for (Tag tag : person.getTags()) {
+            removePosting(tagNames, foldCase(tag.tagName), person);
+        }
+        favourites.remove(person);
+        emailSubstrings.remove(person, person.getEmail().value);
+        numberSubstrings.remove(person, person.getPhone().value);
+        numberSubstrings.remove(person, person.getPostalCode().value);
+    }
+
+    /**
+     * Removes every person from the index.
+     */
+    void clear() {
+        nameWords.clear();
+        addressWords.clear();
+        birthdayWords.clear();
+        tagNames.clear();
+        favourites.clear();
+        emailSubstrings.clear();
+        numberSubstrings.clear();
+    }
+
+    /**
+     * Returns the persons in the index that match any of {@code keywords}, as an identity set.
+     *
+     * @see PersonContainsKeywordsPredicate#test(ReadOnlyPerson)
+     */
+    Set<ReadOnlyPerson> search(List<String> keywords) {
+        final Set<ReadOnlyPerson> matches = newIdentitySet();
+        for (String keyword : keywords) {
+            if (keyword.isEmpty()) {
+                continue;
+            }
+            final String foldedKeyword = foldCase(keyword);
+            if (keyword.startsWith(PersonContainsKeywordsPredicate.MONTH_KEYWORD_PREFIX)) {
+                String month = foldedKeyword.substring(PersonContainsKeywordsPredicate.MONTH_KEYWORD_PREFIX.length());
+                addPostings(matches, birthdayWords, month);
+            }
+            addPostings(matches, nameWords, foldedKeyword);
+            addPostings(matches, addressWords, foldedKeyword);
+            addPostings(matches, tagNames, foldedKeyword);
+            if (PersonContainsKeywordsPredicate.isFavouriteKeyword(keyword)) {
+                matches.addAll(favourites);
+            }
+            emailSubstrings.addPersonsContaining(keyword, person -> person.getEmail().value.contains(keyword), matches);
+            if (PersonContainsKeywordsPredicate.isNumericKeyword(keyword)) {
+                numberSubstrings.addPersonsContaining(keyword, person -> person.getPhone().value.contains(keyword)
+                        || person.getPostalCode().value.contains(keyword), matches);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Calls {@code action} with each whitespace-separated word of {@code text}, case-folded.
+     */
+    private static void forEachWord(String text, Consumer<String> action) {
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isWordCharacter = i < text.length() && !isWhitespace(text.charAt(i));
+            if (isWordCharacter && start == -1) {
+                start = i;
+            } else if (!isWordCharacter && start != -1) {
+                action.accept(foldCase(text.substring(start, i)));
+                start = -1;
+            }
+        }
+    }
+
+    /**
+     * Returns true if {@code c} is a whitespace character as matched by the regex {@code \s}.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Returns {@code text} with every character mapped so that two strings are equal after folding
+     * if and only if they are equal ignoring case.
+     */
+    private static String foldCase(String text) {
+        char[] folded = new char[text.length()];
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = Character.toLowerCase(Character.toUpperCase(text.charAt(i)));
+        }
+        return new String(folded);
+    }
+
+    private static void addPosting(Map<String, Set<Person>> postings, String word, Person person) {
+        postings.computeIfAbsent(word, unused -> newIdentitySet()).add(person);
+    }
+
+    /**
+     * Removes {@code person} from the postings of {@code word}, and drops {@code word} once nobody has it.
+     */
+    private static void removePosting(Map<String, Set<Person>> postings, String word, Person person) {
+        Set<Person> persons = postings.get(word);
+        if (persons != null) {
+            persons.remove(person);
+            if (persons.isEmpty()) {
+                postings.remove(word);
+            }
+        }
+    }
+
+    /**
+     * Adds every person with {@code word} to {@code matches}.
+     */
+    private static void addPostings(Set<ReadOnlyPerson> matches, Map<String, Set<Person>> postings, String word) {
+        Set<Person> persons = postings.get(word);
+        if (persons != null) {
+            matches.addAll(persons);
+        }
+    }
+
+    private static <T> Set<T> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+}
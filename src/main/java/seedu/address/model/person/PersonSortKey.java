@@ -0,0 +1,73 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.Locale;
+
+/**
+ * The precomputed key that persons are ordered by: favourites first, then by name.
+ * Comparing two keys does not allocate, so a key can be cached per person and reused across sorts.
+ *
+ * Names are compared by their raw characters, or with the {@link Collator} that the key was built with.
+ * Only keys built with the same collator should be compared.
+ */
+public class PersonSortKey implements Comparable<PersonSortKey> {
+
+    private final boolean isFavourite;
+    private final String name;
+    private final Collator collator;
+    private final CollationKey collationKey;
+
+    private PersonSortKey(boolean isFavourite, String name, Collator collator) {
+        this.isFavourite = isFavourite;
+        this.name = name;
+        this.collator = collator;
+        this.collationKey = (collator == null) ? null : collator.getCollationKey(name);
+    }
+
+    /**
+     * Builds the sort key of {@code person} that compares names by their raw characters.
+     */
+    public static PersonSortKey of(ReadOnlyPerson person) {
+        return of(person, null);
+    }
+
+    /**
+     * Builds the sort key of {@code person} that collates names with {@code collator},
+     * or compares them by their raw characters if {@code collator} is null.
+     */
+    public static PersonSortKey of(ReadOnlyPerson person, Collator collator) {
+        requireNonNull(person);
+        return new PersonSortKey(person.getFavourite().getFavourite(), person.getName().fullName, collator);
+    }
+
+    /**
+     * Returns a new collator of the locale given as an IETF language tag such as "en-SG",
+     * or null for an empty tag, which stands for ordering by raw characters.
+     */
+    public static Collator getCollator(String languageTag) {
+        requireNonNull(languageTag);
+        return languageTag.isEmpty() ? null : Collator.getInstance(Locale.forLanguageTag(languageTag));
+    }
+
+    /**
+     * Returns true if this key was built with {@code collator}.
+     */
+    public boolean isBuiltWith(Collator collator) {
+        return this.collator == collator;
+    }
+
+    @Override
+    public int compareTo(PersonSortKey other) {
+        if (isFavourite != other.isFavourite) {
+            return isFavourite ? -1 : 1;
+        }
+        if (collationKey != null && other.collationKey != null) {
+            return collationKey.compareTo(other.collationKey);
+        }
+        return name.compareTo(other.name);
+    }
+
+}
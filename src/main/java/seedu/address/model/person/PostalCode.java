@@ -2,6 +2,8 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.regex.Pattern;
+
 import seedu.address.commons.exceptions.IllegalValueException;
 
 //@@author johnweikangong
@@ -16,6 +18,7 @@ public class PostalCode {
             "Postal codes can only contain numbers, should be exactly 6 digits long and less than 800000";
     public static final String POSTALCODE_VALIDATION_REGEX = "(?<!\\d)\\d{6}(?!\\d)";
     public static final int POSTALCODE_UPPER_RANGE = 800000;
+    private static final Pattern POSTALCODE_VALIDATION_PATTERN = Pattern.compile(POSTALCODE_VALIDATION_REGEX);
     public final Boolean isPresent;
     public final String value;
 
@@ -45,7 +48,8 @@ public class PostalCode {
      * Returns true if a given string is a valid person postal code.
      */
     public static boolean isValidPostalCode(String test) {
-        return test.matches(POSTALCODE_VALIDATION_REGEX) && Integer.parseInt(test) <= POSTALCODE_UPPER_RANGE;
+        return POSTALCODE_VALIDATION_PATTERN.matcher(test).matches()
+                && Integer.parseInt(test) <= POSTALCODE_UPPER_RANGE;
     }
 
     /**
@@ -1,8 +1,9 @@
 package seedu.address.model.person;
 
+import java.text.Collator;
 import java.util.Set;
 
-import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ReadOnlyObjectProperty;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.tag.UniqueTagList;
 
@@ -12,23 +13,37 @@ import seedu.address.model.tag.UniqueTagList;
  */
 public interface ReadOnlyPerson {
 
-    ObjectProperty<Name> nameProperty();
+    ReadOnlyObjectProperty<Name> nameProperty();
     Name getName();
-    ObjectProperty<Phone> phoneProperty();
+    ReadOnlyObjectProperty<Phone> phoneProperty();
     Phone getPhone();
-    ObjectProperty<Birthday> birthdayProperty();
+    ReadOnlyObjectProperty<Birthday> birthdayProperty();
     Birthday getBirthday();
-    ObjectProperty<Email> emailProperty();
+    ReadOnlyObjectProperty<Email> emailProperty();
     Email getEmail();
-    ObjectProperty<Address> addressProperty();
+    ReadOnlyObjectProperty<Address> addressProperty();
     Address getAddress();
-    ObjectProperty<PostalCode> postalCodeProperty();
+    ReadOnlyObjectProperty<PostalCode> postalCodeProperty();
     PostalCode getPostalCode();
-    ObjectProperty<Favourite> favProperty();
+    ReadOnlyObjectProperty<Favourite> favProperty();
     Favourite getFavourite();
-    ObjectProperty<UniqueTagList> tagProperty();
+    ReadOnlyObjectProperty<UniqueTagList> tagProperty();
     Set<Tag> getTags();
 
+    /**
+     * Returns the key that this person is ordered by in an address book that compares names by raw characters.
+     */
+    default PersonSortKey getSortKey() {
+        return getSortKey(null);
+    }
+
+    /**
+     * Returns the key that this person is ordered by in an address book that collates names with {@code collator}.
+     */
+    default PersonSortKey getSortKey(Collator collator) {
+        return PersonSortKey.of(this, collator);
+    }
+
     /**
      * Returns true if both have the same state. (interfaces cannot override .equals)
      */
@@ -0,0 +1,150 @@
+package seedu.address.model.person;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * An n-gram index from the substrings of {@link #GRAM_LENGTH} characters of some text of each person to those
+ * persons, which narrows a substring search down to a few candidates instead of scanning every person.
+ *
+ * Substrings of exactly {@link #GRAM_LENGTH} characters are indexed, and so are the shorter substrings among the
+ * last {@code GRAM_LENGTH - 1} characters of each text, which keeps the index to about one entry per character of
+ * each text. A keyword longer than that is answered by the persons having the keyword's rarest n-gram, who are
+ * then checked. A shorter keyword starts either an n-gram or one of the last substrings of every text containing
+ * it, so it is answered exactly by the persons of the indexed substrings that it is a prefix of.
+ * Matching is case sensitive, like {@link String#contains(CharSequence)}.
+ */
+class SubstringIndex {
+
+    static final int GRAM_LENGTH = 3;
+
+    private final Map<String, Set<Person>> grams = new HashMap<>();
+    // the indexed substrings that start with each substring shorter than an n-gram
+    private final Map<String, Set<String>> gramsByPrefix = new HashMap<>();
+
+    /**
+     * Indexes the substrings of {@code text} as belonging to {@code person}.
+     */
+    void add(Person person, String text) {
+        forEachIndexedSubstring(text, substring -> grams.computeIfAbsent(substring, this::newPostings).add(person));
+    }
+
+    /**
+     * Removes {@code person} from the postings of every substring of {@code text}.
+     * {@code text} must be a text that {@code person} was added with, and the other texts of {@code person} must
+     * be removed along with it, as they may share substrings.
+     */
+    void remove(Person person, String text) {
+        forEachIndexedSubstring(text, substring -> {
+            Set<Person> persons = grams.get(substring);
+            if (persons != null) {
+                persons.remove(person);
+                if (persons.isEmpty()) {
+                    grams.remove(substring);
+                    forEachShortPrefix(substring, prefix -> removePrefix(prefix, substring));
+                }
+            }
+        });
+    }
+
+    /**
+     * Removes every person from the index.
+     */
+    void clear() {
+        grams.clear();
+        gramsByPrefix.clear();
+    }
+
+    /**
+     * Adds the persons with a text containing {@code keyword}, which must not be empty, to {@code matches}.
+     *
+     * @param containsKeyword tests whether a person has a text containing {@code keyword}, which is only needed for
+     *     the candidates of a keyword longer than {@link #GRAM_LENGTH}.
+     */
+    void addPersonsContaining(String keyword, Predicate<Person> containsKeyword, Set<? super Person> matches) {
+        assert !keyword.isEmpty();
+        if (keyword.length() < GRAM_LENGTH) {
+            for (String substring : gramsByPrefix.getOrDefault(keyword, Collections.emptySet())) {
+                matches.addAll(grams.get(substring));
+            }
+            return;
+        }
+        Set<Person> rarest = null;
+        for (int start = 0; start + GRAM_LENGTH <= keyword.length(); start++) {
+            Set<Person> persons = grams.get(keyword.substring(start, start + GRAM_LENGTH));
+            if (persons == null) {
+                return;
+            }
+            if (rarest == null || persons.size() < rarest.size()) {
+                rarest = persons;
+            }
+        }
+        if (keyword.length() == GRAM_LENGTH) {
+            matches.addAll(rarest);
+            return;
+        }
+        for (Person person : rarest) {
+            if (!matches.contains(person) && containsKeyword.test(person)) {
+                matches.add(person);
+            }
+        }
+    }
+
+    /**
+     * Returns the postings of a newly indexed {@code substring}, which is recorded under its short prefixes.
+     */
+    private Set<Person> newPostings(String substring) {
+        forEachShortPrefix(substring, prefix ->
+                gramsByPrefix.computeIfAbsent(prefix, unused -> new HashSet<>()).add(substring));
+        return newIdentitySet();
+    }
+
+    /**
+     * Forgets that {@code substring}, which is no longer indexed, starts with {@code prefix}.
+     */
+    private void removePrefix(String prefix, String substring) {
+        Set<String> substrings = gramsByPrefix.get(prefix);
+        if (substrings != null) {
+            substrings.remove(substring);
+            if (substrings.isEmpty()) {
+                gramsByPrefix.remove(prefix);
+            }
+        }
+    }
+
+    /**
+     * Calls {@code action} with each n-gram of {@code text}, and with each shorter substring that starts within
+     * the last {@code GRAM_LENGTH - 1} characters of {@code text}.
+     */
+    private static void forEachIndexedSubstring(String text, Consumer<String> action) {
+        final int lastGramStart = text.length() - GRAM_LENGTH;
+        for (int start = 0; start <= lastGramStart; start++) {
+            action.accept(text.substring(start, start + GRAM_LENGTH));
+        }
+        for (int start = Math.max(0, lastGramStart + 1); start < text.length(); start++) {
+            for (int end = start + 1; end <= text.length() && end - start < GRAM_LENGTH; end++) {
+                action.accept(text.substring(start, end));
+            }
+        }
+    }
+
+    /**
+     * Calls {@code action} with each prefix of {@code substring} that is shorter than an n-gram.
+     */
+    private static void forEachShortPrefix(String substring, Consumer<String> action) {
+        for (int end = 1; end < GRAM_LENGTH && end <= substring.length(); end++) {
+            action.accept(substring.substring(0, end));
+        }
+    }
+
+    private static <T> Set<T> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+}
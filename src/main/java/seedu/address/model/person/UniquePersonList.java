@@ -2,14 +2,25 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.Collections;
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
 
 import org.fxmisc.easybind.EasyBind;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ModifiableObservableListBase;
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.CollectionUtil;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
@@ -17,28 +28,77 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
+ * The list is always kept sorted by {@link #comparePeople(ReadOnlyPerson, ReadOnlyPerson)}.
  *
  * Supports a minimal set of list operations.
+ * Duplicate checks are answered by a side index keyed on each person's identity fields, and positions are
+ * found by binary search, so single-person mutations only move the affected element and fire one
+ * fine-grained change instead of re-sorting the whole list.
  *
  * @see Person#equals(Object)
  * @see CollectionUtil#elementsAreUnique(Collection)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final PersonList internalList = new PersonList();
     // used by asObservableList()
     private final ObservableList<ReadOnlyPerson> mappedList = EasyBind.map(internalList, (person) -> person);
+    // maps each person in internalList, as a key of its identity fields, to itself
+    private final Map<ReadOnlyPerson, Person> personIndex = new HashMap<>();
+    // finds the persons in internalList whose fields contain a keyword, without scanning the list
+    private final PersonSearchIndex searchIndex = new PersonSearchIndex();
+    // collates the names that the list is sorted by, or null if names are compared by their raw characters
+    private Collator collator = null;
+    // copies each person that is put into the list, so that the list holds its own persons
+    private final Function<? super ReadOnlyPerson, Person> toStoredPerson;
+
+    public UniquePersonList() {
+        this(Person::new);
+    }
+
+    /**
+     * Creates a list that holds the persons made by {@code toStoredPerson} from the persons put into it.
+     * {@code toStoredPerson} must return a new person that is equal to its argument.
+     */
+    public UniquePersonList(Function<? super ReadOnlyPerson, Person> toStoredPerson) {
+        this.toStoredPerson = requireNonNull(toStoredPerson);
+    }
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(ReadOnlyPerson toCheck) {
         requireNonNull(toCheck);
-        return internalList.contains(toCheck);
+        return personIndex.containsKey(toCheck);
+    }
+
+    /**
+     * Returns the position of the equivalent person in the list, or -1 if there is no such person.
+     */
+    public int indexOf(ReadOnlyPerson toFind) {
+        requireNonNull(toFind);
+        final Person storedPerson = personIndex.get(toFind);
+        if (storedPerson == null) {
+            return -1;
+        }
+        // the stored person may differ from toFind in fields that equals() ignores but the order does not, such as
+        // the favourite status, so the search starts from the stored person's own position in the order.
+        // Persons that compare as equal to it are adjacent, so only that run needs to be checked.
+        for (int i = lowerBound(storedPerson); i < internalList.size(); i++) {
+            Person person = internalList.get(i);
+            if (person == storedPerson) {
+                return i;
+            }
+            if (comparePeople(person, storedPerson) > 0) {
+                break;
+            }
+        }
+        assert false : "personIndex and internalList should hold the same persons";
+        return -1;
     }
 
     /**
-     * Adds a person to the list.
+     * Adds a person to the list at its sorted position.
      *
      * @throws DuplicatePersonException if the person to add is a duplicate of an existing person in the list.
      */
@@ -47,11 +107,40 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(new Person(toAdd));
+        Person newPerson = toStoredPerson.apply(toAdd);
+        personIndex.put(newPerson, newPerson);
+        searchIndex.add(newPerson);
+        internalList.add(upperBound(newPerson), newPerson);
+    }
+
+    /**
+     * Adds all {@code toAdd} to the list by merging them, sorted, into the list in one pass,
+     * which fires a single change that adds each run of new persons, instead of one change per person.
+     *
+     * @throws DuplicatePersonException if a person to add is a duplicate of an existing person in the list,
+     *      or of another person to add. The list is left unchanged in that case.
+     */
+    public void addAll(List<? extends ReadOnlyPerson> toAdd) throws DuplicatePersonException {
+        requireNonNull(toAdd);
+        final List<Person> newPersons = new ArrayList<>();
+        final Map<ReadOnlyPerson, Person> newPersonIndex = new HashMap<>();
+        for (ReadOnlyPerson person : toAdd) {
+            Person newPerson = toStoredPerson.apply(person);
+            if (contains(newPerson) || newPersonIndex.putIfAbsent(newPerson, newPerson) != null) {
+                throw new DuplicatePersonException();
+            }
+            newPersons.add(newPerson);
+        }
+        newPersons.sort(this::comparePeople);
+        personIndex.putAll(newPersonIndex);
+        newPersons.forEach(searchIndex::add);
+        internalList.merge(newPersons, this::comparePeople);
     }
 
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
+     * The edited person is replaced in place if it keeps its sorted position, and is moved otherwise.
+     * Either way, the list fires a single change.
      *
      * @throws DuplicatePersonException if the replacement is equivalent to another existing person in the list.
      * @throws PersonNotFoundException if {@code target} could not be found in the list.
@@ -60,16 +149,25 @@ public class UniquePersonList implements Iterable<Person> {
             throws DuplicatePersonException, PersonNotFoundException {
         requireNonNull(editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
 
-        if (!target.equals(editedPerson) && internalList.contains(editedPerson)) {
+        if (!target.equals(editedPerson) && contains(editedPerson)) {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, new Person(editedPerson));
+        Person newPerson = toStoredPerson.apply(editedPerson);
+        personIndex.remove(target);
+        personIndex.put(newPerson, newPerson);
+        searchIndex.remove(internalList.get(index));
+        searchIndex.add(newPerson);
+        if (isInOrderAt(index, newPerson)) {
+            internalList.set(index, newPerson);
+        } else {
+            internalList.move(index, newPerson, this::upperBound);
+        }
     }
 
     /**
@@ -79,25 +177,72 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean removeAll(List<ReadOnlyPerson> personsToRemove) throws PersonNotFoundException {
         requireNonNull(personsToRemove);
-        final boolean personFoundAndDeleted = internalList.removeAll(personsToRemove);
+        // a hashed view keeps the removal a single linear pass instead of a scan of the argument per person
+        final Set<ReadOnlyPerson> toRemove = new HashSet<>(personsToRemove);
+        final List<Person> storedPersons = new ArrayList<>();
+        for (ReadOnlyPerson person : toRemove) {
+            int index = indexOf(person);
+            if (index != -1) {
+                storedPersons.add(internalList.get(index));
+            }
+        }
+        final boolean personFoundAndDeleted = internalList.removeAll(toRemove);
         if (!personFoundAndDeleted) {
             throw new PersonNotFoundException();
         }
+        personIndex.keySet().removeAll(toRemove);
+        storedPersons.forEach(searchIndex::remove);
         return personFoundAndDeleted;
     }
 
+    /**
+     * Replaces the contents of this list with the persons of {@code replacement},
+     * sorted by the collation of this list.
+     */
     public void setPersons(UniquePersonList replacement) {
-        this.internalList.setAll(replacement.internalList);
+        if (replacement.collator == collator) {
+            this.internalList.setAll(replacement.internalList);
+        } else {
+            final List<Person> sorted = new ArrayList<>(replacement.internalList);
+            sorted.sort(this::comparePeople);
+            this.internalList.setAll(sorted);
+        }
+        this.personIndex.clear();
+        this.personIndex.putAll(replacement.personIndex);
+        this.searchIndex.clear();
+        this.internalList.forEach(searchIndex::add);
     }
 
+    /**
+     * Replaces the contents of this list with copies of {@code persons}, sorted once as a whole.
+     *
+     * @throws DuplicatePersonException if {@code persons} contains equivalent persons.
+     */
     public void setPersons(List<? extends ReadOnlyPerson> persons) throws DuplicatePersonException {
-        final UniquePersonList replacement = new UniquePersonList();
+        final UniquePersonList replacement = new UniquePersonList(toStoredPerson);
+        replacement.collator = collator;
         for (final ReadOnlyPerson person : persons) {
-            replacement.add(new Person(person));
+            Person newPerson = toStoredPerson.apply(person);
+            if (replacement.personIndex.putIfAbsent(newPerson, newPerson) != null) {
+                throw new DuplicatePersonException();
+            }
+            replacement.internalList.add(newPerson);
         }
+        replacement.sort();
         setPersons(replacement);
     }
 
+    /**
+     * Returns the persons in the list that match any of {@code keywords}, as an identity set
+     * of the elements of {@link #asObservableList()}.
+     * The result is the same as filtering the list with a {@link PersonContainsKeywordsPredicate}, but the
+     * keywords are looked up in an index instead of being tested against every person.
+     */
+    public Set<ReadOnlyPerson> search(List<String> keywords) {
+        requireNonNull(keywords);
+        return searchIndex.search(keywords);
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -105,40 +250,80 @@ public class UniquePersonList implements Iterable<Person> {
         return FXCollections.unmodifiableObservableList(mappedList);
     }
 
+    /**
+     * Sets the locale that names are collated by, given as an IETF language tag such as "en-SG",
+     * and re-sorts the list by it. An empty tag restores the default ordering by raw characters.
+     */
+    public void setCollationLocale(String languageTag) {
+        final Collator newCollator = PersonSortKey.getCollator(languageTag);
+        if (Objects.equals(newCollator, collator)) {
+            return;
+        }
+        collator = newCollator;
+        sort();
+    }
+
     //@@author Valerieyue
     /**
      * Sorts person name in alphabetical order
      */
     public void sort() {
         Comparator<Person> comparator = (p1, p2) -> (comparePeople(p1, p2));
-        Collections.sort(internalList, comparator);
+        internalList.sort(comparator);
     }
     //@@author
 
-    // @@author pwenzhe
     /**
-     * Compare Persons by favourite status and then name
+     * Returns the index of the first person that does not come before {@code key}.
      */
-    public int comparePeople(Person p1, Person p2) {
-        int compare;
-        String p1Fav = "";
-        String p2Fav = "";
-        if (p1.getFavourite().getFavourite()) {
-            p1Fav = "1";
-        } else {
-            p1Fav = "2";
-        }
-        if (p2.getFavourite().getFavourite()) {
-            p2Fav = "1";
-        } else {
-            p2Fav = "2";
+    private int lowerBound(ReadOnlyPerson key) {
+        int low = 0;
+        int high = internalList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparePeople(internalList.get(mid), key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
         }
-        compare = p1Fav.compareTo(p2Fav);
-        if (compare == 0) {
-            compare = p1.getName().toString().compareTo(p2.getName().toString());
+        return low;
+    }
+
+    /**
+     * Returns the index of the first person that comes after {@code key},
+     * so that persons which compare as equal keep their insertion order.
+     */
+    private int upperBound(ReadOnlyPerson key) {
+        int low = 0;
+        int high = internalList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparePeople(internalList.get(mid), key) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
         }
+        return low;
+    }
+
+    /**
+     * Returns true if {@code person} can replace the person at {@code index} without breaking the sort order.
+     */
+    private boolean isInOrderAt(int index, ReadOnlyPerson person) {
+        boolean isAfterPrevious = index == 0 || comparePeople(internalList.get(index - 1), person) <= 0;
+        boolean isBeforeNext = index == internalList.size() - 1
+                || comparePeople(person, internalList.get(index + 1)) <= 0;
+        return isAfterPrevious && isBeforeNext;
+    }
 
-        return compare;
+    // @@author pwenzhe
+    /**
+     * Compare Persons by favourite status and then name
+     */
+    public int comparePeople(ReadOnlyPerson p1, ReadOnlyPerson p2) {
+        return p1.getSortKey(collator).compareTo(p2.getSortKey(collator));
     }
     // @@author
 
@@ -159,4 +344,132 @@ public class UniquePersonList implements Iterable<Person> {
     public int hashCode() {
         return internalList.hashCode();
     }
+
+    /**
+     * An observable array list of persons that can move a person in a single change, and that fires a sort as a
+     * single permutation.
+     */
+    private static class PersonList extends ModifiableObservableListBase<Person> {
+
+        private List<Person> persons = new ArrayList<>();
+
+        /**
+         * Removes the person at {@code from}, and inserts {@code person} at the index that {@code position}
+         * returns for it once the removed person is gone, all in a single change.
+         */
+        void move(int from, Person person, ToIntFunction<Person> position) {
+            beginChange();
+            try {
+                remove(from);
+                add(position.applyAsInt(person), person);
+            } finally {
+                endChange();
+            }
+        }
+
+        /**
+         * Merges {@code newPersons}, which are sorted by {@code comparator}, into this list, which is sorted by it
+         * too. Existing persons come first among equals, as they would with repeated insertion at the upper bound.
+         * Fires a single change that adds each run of new persons where it lands, and persons that all come after
+         * the existing ones are appended without copying the list.
+         */
+        void merge(List<Person> newPersons, Comparator<? super Person> comparator) {
+            if (newPersons.isEmpty()) {
+                return;
+            }
+            beginChange();
+            try {
+                final int oldSize = persons.size();
+                if (oldSize == 0 || comparator.compare(persons.get(oldSize - 1), newPersons.get(0)) <= 0) {
+                    persons.addAll(newPersons);
+                    nextAdd(oldSize, persons.size());
+                    return;
+                }
+                final List<Person> merged = new ArrayList<>(oldSize + newPersons.size());
+                // the runs of new persons in merged, as pairs of their start and end indices
+                final List<Integer> addedRuns = new ArrayList<>();
+                int i = 0;
+                int j = 0;
+                while (j < newPersons.size()) {
+                    if (i < oldSize && comparator.compare(persons.get(i), newPersons.get(j)) <= 0) {
+                        merged.add(persons.get(i++));
+                        continue;
+                    }
+                    addedRuns.add(merged.size());
+                    while (j < newPersons.size()
+                            && (i == oldSize || comparator.compare(persons.get(i), newPersons.get(j)) > 0)) {
+                        merged.add(newPersons.get(j++));
+                    }
+                    addedRuns.add(merged.size());
+                }
+                merged.addAll(persons.subList(i, oldSize));
+                persons = merged;
+                // the runs are added in ascending order, so each is at its final position when it is added
+                for (int k = 0; k < addedRuns.size(); k += 2) {
+                    nextAdd(addedRuns.get(k), addedRuns.get(k + 1));
+                }
+            } finally {
+                endChange();
+            }
+        }
+
+        @Override
+        public void sort(Comparator<? super Person> comparator) {
+            final Integer[] order = new Integer[persons.size()];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (i, j) -> comparator.compare(persons.get(i), persons.get(j)));
+            final List<Person> sorted = new ArrayList<>(persons.size());
+            final int[] permutation = new int[order.length];
+            boolean isMoved = false;
+            for (int newIndex = 0; newIndex < order.length; newIndex++) {
+                sorted.add(persons.get(order[newIndex]));
+                permutation[order[newIndex]] = newIndex;
+                isMoved |= order[newIndex] != newIndex;
+            }
+            if (!isMoved) {
+                return;
+            }
+            beginChange();
+            persons = sorted;
+            nextPermutation(0, permutation.length, permutation);
+            endChange();
+        }
+
+        @Override
+        public boolean setAll(Collection<? extends Person> replacement) {
+            beginChange();
+            final List<Person> removed = persons;
+            persons = new ArrayList<>(replacement);
+            nextReplace(0, persons.size(), removed);
+            endChange();
+            return true;
+        }
+
+        @Override
+        public Person get(int index) {
+            return persons.get(index);
+        }
+
+        @Override
+        public int size() {
+            return persons.size();
+        }
+
+        @Override
+        protected void doAdd(int index, Person element) {
+            persons.add(index, element);
+        }
+
+        @Override
+        protected Person doSet(int index, Person element) {
+            return persons.set(index, element);
+        }
+
+        @Override
+        protected Person doRemove(int index) {
+            return persons.remove(index);
+        }
+    }
 }
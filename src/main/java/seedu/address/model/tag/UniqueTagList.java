@@ -3,6 +3,7 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Set;
@@ -16,12 +17,15 @@ import seedu.address.commons.util.CollectionUtil;
  * A list of tags that enforces no nulls and uniqueness between its elements.
  *
  * Supports minimal set of list operations for the app's features.
+ * Membership checks are answered by a side set that is kept in sync with the backing list.
  *
  * @see Tag#equals(Object)
  */
 public class UniqueTagList implements Iterable<Tag> {
 
     private final ObservableList<Tag> internalList = FXCollections.observableArrayList();
+    // holds exactly the tags in internalList
+    private final Set<Tag> tagIndex = new HashSet<>();
 
     /**
      * Constructs empty TagList.
@@ -35,6 +39,7 @@ public class UniqueTagList implements Iterable<Tag> {
     public UniqueTagList(Set<Tag> tags) {
         requireAllNonNull(tags);
         internalList.addAll(tags);
+        tagIndex.addAll(tags);
 
         assert CollectionUtil.elementsAreUnique(internalList);
     }
@@ -45,7 +50,7 @@ public class UniqueTagList implements Iterable<Tag> {
      */
     public Set<Tag> toSet() {
         assert CollectionUtil.elementsAreUnique(internalList);
-        return new HashSet<>(internalList);
+        return new HashSet<>(tagIndex);
     }
 
     /**
@@ -54,6 +59,8 @@ public class UniqueTagList implements Iterable<Tag> {
     public void setTags(Set<Tag> tags) {
         requireAllNonNull(tags);
         internalList.setAll(tags);
+        tagIndex.clear();
+        tagIndex.addAll(tags);
         assert CollectionUtil.elementsAreUnique(internalList);
     }
 
@@ -61,9 +68,8 @@ public class UniqueTagList implements Iterable<Tag> {
      * Ensures every tag in the argument list exists in this object.
      */
     public void mergeFrom(UniqueTagList from) {
-        final Set<Tag> alreadyInside = this.toSet();
         from.internalList.stream()
-                .filter(tag -> !alreadyInside.contains(tag))
+                .filter(tagIndex::add)
                 .forEach(internalList::add);
 
         assert CollectionUtil.elementsAreUnique(internalList);
@@ -74,7 +80,7 @@ public class UniqueTagList implements Iterable<Tag> {
      */
     public boolean contains(Tag toCheck) {
         requireNonNull(toCheck);
-        return internalList.contains(toCheck);
+        return tagIndex.contains(toCheck);
     }
 
     /**
@@ -88,10 +94,21 @@ public class UniqueTagList implements Iterable<Tag> {
             throw new DuplicateTagException();
         }
         internalList.add(toAdd);
+        tagIndex.add(toAdd);
 
         assert CollectionUtil.elementsAreUnique(internalList);
     }
 
+    /**
+     * Removes the equivalent tags from the list, in a single pass over the list.
+     */
+    public void removeAll(Collection<Tag> toRemove) {
+        requireNonNull(toRemove);
+        final Set<Tag> tagsToRemove = new HashSet<>(toRemove);
+        internalList.removeAll(tagsToRemove);
+        tagIndex.removeAll(tagsToRemove);
+    }
+
     @Override
     public Iterator<Tag> iterator() {
         assert CollectionUtil.elementsAreUnique(internalList);
@@ -121,7 +138,7 @@ public class UniqueTagList implements Iterable<Tag> {
     public boolean equalsOrderInsensitive(UniqueTagList other) {
         assert CollectionUtil.elementsAreUnique(internalList);
         assert CollectionUtil.elementsAreUnique(other.internalList);
-        return this == other || new HashSet<>(this.internalList).equals(new HashSet<>(other.internalList));
+        return this == other || this.tagIndex.equals(other.tagIndex);
     }
 
     @Override
@@ -1,6 +1,8 @@
 package seedu.address.model.util;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -90,6 +92,26 @@ public class SampleDataUtil {
         }
     }
 
+    /**
+     * Returns {@code count} distinct persons, made by taking the sample persons in turn and numbering their names.
+     * Used to fill address books that are larger than the sample one, e.g. in benchmarks.
+     */
+    public static List<Person> getSamplePersons(int count) {
+        final Person[] samplePersons = getSamplePersons();
+        final List<Person> persons = new ArrayList<>(count);
+        try {
+            for (int i = 0; i < count; i++) {
+                Person samplePerson = samplePersons[i % samplePersons.length];
+                persons.add(new Person(new Name(samplePerson.getName().fullName + " " + i), samplePerson.getPhone(),
+                        samplePerson.getBirthday(), samplePerson.getEmail(), samplePerson.getAddress(),
+                        samplePerson.getPostalCode(), samplePerson.getFavourite(), samplePerson.getTags()));
+            }
+        } catch (IllegalValueException e) {
+            throw new AssertionError("numbered sample names cannot be invalid", e);
+        }
+        return persons;
+    }
+
     public static ReadOnlyAddressBook getSampleAddressBook() {
         try {
             AddressBook sampleAb = new AddressBook();
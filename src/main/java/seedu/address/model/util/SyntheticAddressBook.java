@@ -0,0 +1,195 @@
+package seedu.address.model.util;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Birthday;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Favourite;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.PostalCode;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A read-only address book of any number of generated persons, for load tests and benchmarks.
+ *
+ * A person is generated whenever its index in {@link #getPersonList()} is read, from the seed and the index alone,
+ * so the same seed always gives the same book, and the persons are never held in memory together. Every person is
+ * valid and distinct. Tags follow a Zipfian distribution over {@link #TAG_COUNT} tags, so that a few tags are on
+ * most persons and most tags are rare, and about one in {@link #FAVOURITE_DIVISOR} persons is a favourite.
+ */
+public class SyntheticAddressBook implements ReadOnlyAddressBook {
+
+    public static final int TAG_COUNT = 200;
+    public static final int FAVOURITE_DIVISOR = 10;
+
+    private static final String[] FIRST_NAMES = {"Alex", "Bernice", "Charlotte", "David", "Irfan", "John", "Mary",
+        "Peter", "Roy", "Valerie", "Wei Kang", "Wenzhe", "Siti", "Kumar", "Hui Min", "Jun Jie", "Aisyah", "Priya",
+        "Daniel", "Rachel", "Marcus", "Nicole", "Ahmad", "Grace", "Ethan", "Chloe", "Ravi", "Mei Ling", "Zhi Hao",
+        "Nurul"};
+    private static final String[] LAST_NAMES = {"Tan", "Lim", "Lee", "Ng", "Ong", "Wong", "Goh", "Chua", "Chan", "Koh",
+        "Teo", "Ang", "Yeo", "Low", "Sim", "Pang", "Yu", "Li", "Bin Ibrahim", "Binte Ahmad", "Kumar", "Pillai",
+        "Balakrishnan", "Oliveiro", "Van Dyke"};
+    private static final String[] STREETS = {"Ang Mo Kio Avenue", "Bedok North Road", "Bishan Street",
+        "Bukit Batok Street", "Choa Chu Kang Street", "Clementi Avenue", "Geylang Street", "Hougang Avenue",
+        "Jurong West Street", "Pasir Ris Drive", "Punggol Field", "Sembawang Avenue", "Serangoon Gardens Street",
+        "Tampines Street", "Toa Payoh Lorong", "Woodlands Drive", "Yishun Ring Road"};
+    // the most used tags, in order; the rarer tags are numbered groups
+    private static final String[] COMMON_TAG_NAMES = {"friends", "colleagues", "family", "classmates", "neighbours",
+        "gym", "clients", "relatives", "teammates", "church", "suppliers", "school", "soccer", "reservists", "book"};
+    private static final String RARE_TAG_PREFIX = "group";
+    private static final int MIN_POSTAL_CODE = 10000;
+    private static final int MIN_BIRTH_YEAR = 1940;
+    private static final int BIRTH_YEAR_COUNT = 66;
+    // the share of persons with 0, 1, 2 and 3 tags, in percent
+    private static final int[] TAG_COUNT_PERCENTAGES = {20, 40, 25, 15};
+
+    private final long seed;
+    private final PersonList persons;
+    private final ObservableList<Tag> tags;
+    // the cumulative Zipfian weights of the tags, in which the weight of the tag at index k is 1 / (k + 1)
+    private final double[] cumulativeTagWeights = new double[TAG_COUNT];
+
+    /**
+     * @param personCount the number of persons in the book.
+     * @param seed the seed from which the persons are generated.
+     */
+    public SyntheticAddressBook(int personCount, long seed) {
+        if (personCount < 0) {
+            throw new IllegalArgumentException("The number of persons cannot be negative");
+        }
+        this.seed = seed;
+        this.persons = new PersonList(personCount);
+
+        final List<Tag> tagList = new ArrayList<>();
+        double totalWeight = 0;
+        try {
+            for (int k = 0; k < TAG_COUNT; k++) {
+                tagList.add(new Tag(k < COMMON_TAG_NAMES.length
+                        ? COMMON_TAG_NAMES[k]
+                        : RARE_TAG_PREFIX + (k - COMMON_TAG_NAMES.length + 1)));
+                totalWeight += 1.0 / (k + 1);
+                cumulativeTagWeights[k] = totalWeight;
+            }
+        } catch (IllegalValueException ive) {
+            throw new AssertionError("generated tag names cannot be invalid", ive);
+        }
+        this.tags = FXCollections.unmodifiableObservableList(FXCollections.observableList(tagList));
+    }
+
+    /**
+     * Returns the generated persons. The list cannot be changed, and generates a new person object on every read.
+     */
+    @Override
+    public ObservableList<ReadOnlyPerson> getPersonList() {
+        return persons;
+    }
+
+    /**
+     * Returns every tag that a person may have, from the most to the least used.
+     */
+    @Override
+    public ObservableList<Tag> getTagList() {
+        return tags;
+    }
+
+    /**
+     * Returns the person at {@code index}, which only depends on the seed and {@code index}.
+     */
+    private Person generatePerson(int index) {
+        final SplittableRandom random = new SplittableRandom(mix(seed ^ mix(index)));
+        final String firstName = pick(random, FIRST_NAMES);
+        final String lastName = pick(random, LAST_NAMES);
+        final LocalDate birthday = LocalDate.of(MIN_BIRTH_YEAR + random.nextInt(BIRTH_YEAR_COUNT), 1, 1)
+                .plusDays(random.nextInt(365));
+        try {
+            return new Person(
+                    new Name(firstName + " " + lastName),
+                    new Phone((random.nextBoolean() ? "8" : "9") + String.format("%07d", random.nextInt(10000000))),
+                    new Birthday(birthday.getDayOfMonth() + " " + birthday.getMonthValue() + " " + birthday.getYear()),
+                    // the index in the email makes every person distinct
+                    new Email((firstName + "." + lastName).replace(' ', '.').toLowerCase() + index + "@example.com"),
+                    new Address("Blk " + (1 + random.nextInt(999)) + " " + pick(random, STREETS) + " "
+                            + (1 + random.nextInt(99)) + ", #" + String.format("%02d-%02d",
+                            1 + random.nextInt(40), 1 + random.nextInt(99))),
+                    new PostalCode(String.format("%06d", MIN_POSTAL_CODE
+                            + random.nextInt(PostalCode.POSTALCODE_UPPER_RANGE - MIN_POSTAL_CODE))),
+                    new Favourite(random.nextInt(FAVOURITE_DIVISOR) == 0 ? "yes" : "no"),
+                    generateTags(random));
+        } catch (IllegalValueException ive) {
+            throw new AssertionError("generated persons cannot be invalid", ive);
+        }
+    }
+
+    /**
+     * Returns the tags of a person, drawn from the Zipfian distribution of the tags.
+     */
+    private Set<Tag> generateTags(SplittableRandom random) {
+        int tagCount = 0;
+        for (int percentile = random.nextInt(100); percentile >= TAG_COUNT_PERCENTAGES[tagCount]; tagCount++) {
+            percentile -= TAG_COUNT_PERCENTAGES[tagCount];
+        }
+        final Set<Tag> personTags = new HashSet<>();
+        while (personTags.size() < tagCount) {
+            double weight = random.nextDouble() * cumulativeTagWeights[TAG_COUNT - 1];
+            int position = Arrays.binarySearch(cumulativeTagWeights, weight);
+            personTags.add(tags.get(position >= 0 ? position : -(position + 1)));
+        }
+        return personTags;
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    /**
+     * Returns {@code value} with its bits scrambled, so that close values give unrelated random streams.
+     * This is the finalizer of the SplitMix64 generator.
+     */
+    private static long mix(long value) {
+        long z = value + 0x9e3779b97f4a7c15L;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * The person list of the book, which generates persons as they are read.
+     */
+    private class PersonList extends ObservableListBase<ReadOnlyPerson> {
+
+        private final int size;
+
+        private PersonList(int size) {
+            this.size = size;
+        }
+
+        @Override
+        public ReadOnlyPerson get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            return generatePerson(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+}
@@ -0,0 +1,81 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.File;
+import java.io.IOException;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.util.SyntheticAddressBook;
+
+/**
+ * Writes a {@link SyntheticAddressBook} to a file in one of the storage formats, to make the large address books
+ * that load tests and benchmarks need. The persons are written as they are generated, so a book of any size is
+ * written in the same small amount of memory, and the same seed always writes the same book.
+ *
+ * Usage: {@code AddressBookGenerator FORMAT FILE_PATH PERSON_COUNT [SEED]}, where FORMAT is one of
+ * {@code xml}, {@code csv}, {@code binary} and {@code mapped}.
+ */
+public class AddressBookGenerator {
+
+    public static final String FORMAT_XML = "xml";
+    public static final String FORMAT_CSV = "csv";
+    public static final String FORMAT_BINARY = "binary";
+    public static final String FORMAT_MAPPED = "mapped";
+    public static final long DEFAULT_SEED = 42;
+
+    public static final String MESSAGE_USAGE = "Usage: AddressBookGenerator FORMAT FILE_PATH PERSON_COUNT [SEED]\n"
+            + "FORMAT is one of " + FORMAT_XML + ", " + FORMAT_CSV + ", " + FORMAT_BINARY + " and " + FORMAT_MAPPED
+            + ".";
+
+    /**
+     * Writes a book of {@code personCount} persons generated from {@code seed} to {@code filePath} in {@code format}.
+     *
+     * @throws IllegalArgumentException if {@code format} is not a known format.
+     */
+    public static void generate(String format, String filePath, int personCount, long seed) throws IOException {
+        requireNonNull(format);
+        requireNonNull(filePath);
+        final SyntheticAddressBook addressBook = new SyntheticAddressBook(personCount, seed);
+        final File file = new File(filePath);
+        FileUtil.createParentDirsOfFile(file);
+        switch (format) {
+        case FORMAT_XML:
+            XmlAddressBookWriter.writeAddressBook(file, addressBook);
+            break;
+        case FORMAT_CSV:
+            new CsvFileStorage(filePath).saveToCsvFile(addressBook);
+            break;
+        case FORMAT_BINARY:
+            new BinaryAddressBookStorage(filePath).saveAddressBook(addressBook);
+            break;
+        case FORMAT_MAPPED:
+            new MappedAddressBookStorage(filePath).saveAddressBook(addressBook);
+            break;
+        default:
+            throw new IllegalArgumentException("Unknown format: " + format);
+        }
+    }
+
+    /**
+     * Writes the book described by {@code args}, or prints the usage if they are invalid.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3 || args.length > 4) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+        try {
+            int personCount = Integer.parseInt(args[2]);
+            long seed = args.length == 4 ? Long.parseLong(args[3]) : DEFAULT_SEED;
+            long start = System.nanoTime();
+            generate(args[0], args[1], personCount, seed);
+            System.out.println("Wrote " + personCount + " persons to " + args[1] + " in "
+                    + (System.nanoTime() - start) / 1000000 + " ms");
+        } catch (IllegalArgumentException iae) {
+            System.err.println(iae.getMessage() + "\n" + MESSAGE_USAGE);
+            System.exit(1);
+        }
+    }
+
+}
@@ -0,0 +1,257 @@
+package seedu.address.storage;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.person.ReadOnlyPerson;
+
+/**
+ * An append-only file of the changes made to an address book since its snapshot was last saved.
+ *
+ * The file starts with a header that holds the checksum of the snapshot the changes apply to, so a journal that
+ * was left behind by a crash between saving a snapshot and resetting the journal is recognised as stale.
+ * Each change is one record holding its length and CRC32, so a record that was only partly written when
+ * the app crashed is recognised and dropped, together with anything after it.
+ */
+class AddressBookJournal {
+
+    private static final int MAGIC = 0x42564a4c; // "BVJL"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 16;
+    private static final int RECORD_HEADER_BYTES = 8;
+    private static final int MAX_RECORD_BYTES = 256 * 1024 * 1024;
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private final File file;
+    // the length of the valid part of the file, or -1 if the file must be reset before changes are appended to it
+    private long validLength = -1;
+    // the number of removed and added persons recorded in the valid part of the file
+    private int recordedPersonCount = 0;
+
+    AddressBookJournal(File file) {
+        this.file = file;
+    }
+
+    /**
+     * Returns the changes in the journal, in the order they were made,
+     * if the journal applies to the snapshot whose checksum is {@code snapshotChecksum}.
+     * Returns an empty list if there is no journal, or if it applies to another snapshot.
+     *
+     * @throws IllegalValueException if a complete record holds an invalid person.
+     */
+    List<AddressBookChange> readChanges(long snapshotChecksum) throws IOException, IllegalValueException {
+        validLength = -1;
+        recordedPersonCount = 0;
+        if (!FileUtil.isFileExists(file)) {
+            return Collections.emptyList();
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            try {
+                if (in.readInt() != MAGIC || in.readInt() != VERSION || in.readLong() != snapshotChecksum) {
+                    return Collections.emptyList();
+                }
+            } catch (EOFException eofe) {
+                return Collections.emptyList();
+            }
+
+            final List<AddressBookChange> changes = new ArrayList<>();
+            long position = HEADER_BYTES;
+            byte[] payload;
+            while ((payload = readRecord(in)) != null) {
+                AddressBookChange change = decodeChange(payload);
+                changes.add(change);
+                recordedPersonCount += change.getRemovedPersons().size() + change.getAddedPersons().size();
+                position += RECORD_HEADER_BYTES + payload.length;
+            }
+            validLength = position;
+            return changes;
+        }
+    }
+
+    /**
+     * Returns true if changes can be appended without resetting the journal first.
+     */
+    boolean isReadyForAppend() {
+        return validLength >= 0;
+    }
+
+    /**
+     * Returns the number of removed and added persons that the journal records.
+     */
+    int getRecordedPersonCount() {
+        return recordedPersonCount;
+    }
+
+    /**
+     * Appends {@code changes} to the journal and syncs it to the storage device.
+     * Anything after the last complete record, such as a partly written record, is dropped first.
+     *
+     * @throws RecordTooLargeException if the record of a change would be too large to be read back,
+     *     in which case nothing is appended.
+     */
+    void append(List<AddressBookChange> changes) throws IOException {
+        assert isReadyForAppend() : "the journal should be read or reset before changes are appended";
+        final List<ByteBuffer> records = new ArrayList<>();
+        int personCount = 0;
+        for (AddressBookChange change : changes) {
+            records.add(encodeRecord(change));
+            personCount += change.getRemovedPersons().size() + change.getAddedPersons().size();
+        }
+
+        long length = validLength;
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.WRITE)) {
+            channel.truncate(validLength);
+            channel.position(validLength);
+            for (ByteBuffer record : records) {
+                length += record.remaining();
+                while (record.hasRemaining()) {
+                    channel.write(record);
+                }
+            }
+            channel.force(false);
+        }
+        validLength = length;
+        recordedPersonCount += personCount;
+    }
+
+    /**
+     * Replaces the journal with an empty one that applies to the snapshot whose checksum is {@code snapshotChecksum}.
+     */
+    void reset(long snapshotChecksum) throws IOException {
+        File tempFile = new File(file.getPath() + TEMP_FILE_SUFFIX);
+        FileUtil.createParentDirsOfFile(tempFile);
+        try (DataOutputStream out = new DataOutputStream(new FileOutputStream(tempFile))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(snapshotChecksum);
+        }
+        FileUtil.replaceAtomically(tempFile, file);
+        validLength = HEADER_BYTES;
+        recordedPersonCount = 0;
+    }
+
+    /**
+     * Returns the payload of the next record, or null if there is no further complete and intact record.
+     */
+    private static byte[] readRecord(DataInputStream in) throws IOException {
+        try {
+            int length = in.readInt();
+            int checksum = in.readInt();
+            if (length < 0 || length > MAX_RECORD_BYTES) {
+                return null;
+            }
+            byte[] payload = new byte[length];
+            in.readFully(payload);
+            CRC32 crc = new CRC32();
+            crc.update(payload);
+            return ((int) crc.getValue() == checksum) ? payload : null;
+        } catch (EOFException eofe) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the record of {@code change}: its header, then its removed persons, then its added persons.
+     * The record is encoded straight into the buffer it is written from, with its header filled in last.
+     */
+    private static ByteBuffer encodeRecord(AddressBookChange change) throws IOException {
+        final RecordBuffer buffer = new RecordBuffer();
+        final DataOutputStream out = new DataOutputStream(buffer);
+        out.write(new byte[RECORD_HEADER_BYTES]);
+        writePersons(out, buffer, change.getRemovedPersons());
+        writePersons(out, buffer, change.getAddedPersons());
+        out.flush();
+        return buffer.toRecord();
+    }
+
+    /**
+     * Returns the change whose record has {@code payload}.
+     */
+    private static AddressBookChange decodeChange(byte[] payload) throws IOException, IllegalValueException {
+        final DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        final List<ReadOnlyPerson> removedPersons = readPersons(in);
+        final List<ReadOnlyPerson> addedPersons = readPersons(in);
+        return new AddressBookChange(removedPersons, addedPersons);
+    }
+
+    /**
+     * Writes the number of {@code persons}, followed by each of them, to {@code out}, which writes to {@code buffer}.
+     *
+     * @throws RecordTooLargeException once the payload in {@code buffer} grows beyond {@code MAX_RECORD_BYTES}.
+     */
+    private static void writePersons(DataOutputStream out, RecordBuffer buffer, List<ReadOnlyPerson> persons)
+            throws IOException {
+        out.writeInt(persons.size());
+        for (ReadOnlyPerson person : persons) {
+            BinaryPersonFormat.writePerson(out, person);
+            if (buffer.getPayloadLength() > MAX_RECORD_BYTES) {
+                throw new RecordTooLargeException();
+            }
+        }
+    }
+
+    /**
+     * Reads persons written by {@link #writePersons(DataOutputStream, RecordBuffer, List)}.
+     */
+    private static List<ReadOnlyPerson> readPersons(DataInputStream in) throws IOException, IllegalValueException {
+        final int count = BinaryPersonFormat.readCount(in);
+        final List<ReadOnlyPerson> persons = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            persons.add(BinaryPersonFormat.readPerson(in));
+        }
+        return persons;
+    }
+
+    /**
+     * Signals that the record of a change is larger than {@code MAX_RECORD_BYTES}, so it cannot be journaled,
+     * and the change has to be saved in a snapshot instead.
+     */
+    static class RecordTooLargeException extends IOException {
+        RecordTooLargeException() {
+            super("The change is too large to be journaled");
+        }
+    }
+
+    /**
+     * A buffer of one record, which starts with room for the record header.
+     */
+    private static class RecordBuffer extends ByteArrayOutputStream {
+
+        int getPayloadLength() {
+            return count - RECORD_HEADER_BYTES;
+        }
+
+        /**
+         * Fills in the header with the length and CRC32 of the payload,
+         * and returns the record without copying it.
+         */
+        ByteBuffer toRecord() {
+            final CRC32 crc = new CRC32();
+            crc.update(buf, RECORD_HEADER_BYTES, getPayloadLength());
+            final ByteBuffer record = ByteBuffer.wrap(buf, 0, count);
+            record.putInt(0, getPayloadLength());
+            record.putInt(4, (int) crc.getValue());
+            return record;
+        }
+    }
+
+}
@@ -1,9 +1,11 @@
 package seedu.address.storage;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
@@ -41,4 +43,50 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, String filePath) throws IOException;
 
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook, String)}, and returns the CRC32 of the saved file.
+     * Storages that can compute it while they write the file override this, so that the file is not read back.
+     */
+    default long saveAddressBookWithChecksum(ReadOnlyAddressBook addressBook, String filePath) throws IOException {
+        saveAddressBook(addressBook, filePath);
+        return FileUtil.getChecksum(new File(filePath));
+    }
+
+    /**
+     * Returns the time the data was last modified, in milliseconds since the epoch, or 0 if there is no data.
+     */
+    default long getLastModified() {
+        return new File(getAddressBookFilePath()).lastModified();
+    }
+
+    /**
+     * Returns true if the data, if any, is stored in the current version of this storage's format.
+     * Storages whose format has versions override this.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    default boolean isCurrentFormat() throws IOException {
+        return true;
+    }
+
+    /**
+     * Saves the address book of {@code source} to this storage, if this storage has no data yet, or its data is
+     * older than the data in {@code source} or in an older version of its format.
+     * The data in {@code source} is left as it is.
+     *
+     * @return true if the address book was copied.
+     * @throws DataConversionException if the data in {@code source} is not in the expected format.
+     */
+    default boolean migrateFrom(AddressBookStorage source) throws DataConversionException, IOException {
+        final long lastModified = getLastModified();
+        if (lastModified != 0 && lastModified >= source.getLastModified() && isCurrentFormat()) {
+            return false;
+        }
+        Optional<ReadOnlyAddressBook> addressBook = source.readAddressBook();
+        if (!addressBook.isPresent()) {
+            return false;
+        }
+        saveAddressBook(addressBook.get());
+        return true;
+    }
+
 }
@@ -0,0 +1,195 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Saves an address book to a {@code JournaledAddressBookStorage} on a background thread.
+ *
+ * Changes are appended to the journal as soon as possible, with the changes made while the previous append was
+ * written merged into one, so that e.g. a person that is added and then removed is never journaled. The whole book
+ * is only saved as a snapshot when a change cannot be journaled, e.g. because the snapshot was missing or failed to
+ * load, or once the journal holds {@code compactionThreshold} persons. A change of that many persons is saved in a
+ * snapshot straight away, which also keeps every journal record well below the size the journal can read back.
+ * A snapshot waits for {@code debounceMillis} before it is written, and all changes made in that window are
+ * coalesced into it.
+ */
+public class AsyncAddressBookSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncAddressBookSaver.class);
+
+    private final JournaledAddressBookStorage addressBookStorage;
+    private final long debounceMillis;
+    private final int compactionThreshold;
+    private final Consumer<IOException> failureHandler;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "AddressBook saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // changes that have not been appended to the journal yet
+    private final List<AddressBookChange> pendingChanges = new ArrayList<>();
+    // a copy of the data to save as the next snapshot, or null if no snapshot is pending
+    private ReadOnlyAddressBook pendingSnapshot;
+    private boolean isSnapshotScheduled = false;
+    // true if the next change has to be saved in a snapshot, because the journal is full or failed
+    private boolean isSnapshotNeeded = false;
+    // the data of the latest request, which is only copied on the thread that requests saves
+    private ReadOnlyAddressBook latestData;
+
+    /**
+     * @param failureHandler is called on the background thread with the exception of every failed write.
+     */
+    public AsyncAddressBookSaver(JournaledAddressBookStorage addressBookStorage, long debounceMillis,
+                                 int compactionThreshold, Consumer<IOException> failureHandler) {
+        requireNonNull(addressBookStorage);
+        requireNonNull(failureHandler);
+        if (debounceMillis < 0 || compactionThreshold < 0) {
+            throw new IllegalArgumentException("debounceMillis and compactionThreshold cannot be negative");
+        }
+        this.addressBookStorage = addressBookStorage;
+        this.debounceMillis = debounceMillis;
+        this.compactionThreshold = compactionThreshold;
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Requests that {@code data} be saved, after {@code change} was made to it.
+     * Must be called on the thread that changes {@code data}, which may keep changing it afterwards.
+     *
+     * @param change the change that was made, or null if the change is not known and the whole book must be saved.
+     */
+    public synchronized void requestSave(ReadOnlyAddressBook data, AddressBookChange change) {
+        requireNonNull(data);
+        latestData = data;
+        if (change == null || isSnapshotNeeded || pendingSnapshot != null || !addressBookStorage.canAppendChanges()
+                || getPersonCount(change) >= compactionThreshold) {
+            requestSnapshot(data);
+            return;
+        }
+        if (pendingChanges.isEmpty()) {
+            executor.execute(this::writePendingChanges);
+        }
+        pendingChanges.add(change);
+    }
+
+    /**
+     * Writes everything pending without waiting for the debounce window to pass,
+     * and blocks until every save requested so far has been written.
+     * Must be called while the data of the requests is not being changed.
+     */
+    public void flush() {
+        synchronized (this) {
+            if (isSnapshotNeeded && latestData != null) {
+                requestSnapshot(latestData);
+            }
+        }
+        try {
+            executor.submit(() -> {
+                writePendingChanges();
+                writePendingSnapshot();
+            }).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ee) {
+            throw new AssertionError("Writing the address book should not throw", ee.getCause());
+        }
+    }
+
+    /**
+     * Flushes everything pending, then stops the background thread. No save can be requested afterwards.
+     */
+    public void shutdown() {
+        flush();
+        executor.shutdown();
+    }
+
+    /**
+     * Replaces any pending snapshot and changes with a copy of {@code data}, which already holds those changes.
+     */
+    private synchronized void requestSnapshot(ReadOnlyAddressBook data) {
+        pendingSnapshot = ImmutableAddressBook.copyOf(data);
+        pendingChanges.clear();
+        isSnapshotNeeded = false;
+        if (!isSnapshotScheduled) {
+            isSnapshotScheduled = true;
+            executor.schedule(this::writePendingSnapshot, debounceMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private synchronized void markSnapshotNeeded() {
+        isSnapshotNeeded = true;
+    }
+
+    /**
+     * Appends the pending changes to the journal as one merged change, if any. Only runs on the background thread.
+     */
+    private void writePendingChanges() {
+        AddressBookChange mergedChange = null;
+        synchronized (this) {
+            for (AddressBookChange change : pendingChanges) {
+                mergedChange = (mergedChange == null) ? change : mergedChange.merge(change);
+            }
+            pendingChanges.clear();
+        }
+        if (mergedChange == null || mergedChange.isEmpty()) {
+            return;
+        }
+        try {
+            addressBookStorage.appendChanges(Collections.singletonList(mergedChange));
+            if (addressBookStorage.getJournaledPersonCount() >= compactionThreshold) {
+                markSnapshotNeeded();
+            }
+        } catch (AddressBookJournal.RecordTooLargeException rtle) {
+            // the change is saved with the snapshot of the next request, or when the saver is flushed
+            logger.info("Saving the next snapshot instead of journaling a change: " + rtle.getMessage());
+            markSnapshotNeeded();
+        } catch (IOException e) {
+            logger.warning("Failed to append to the address book journal: " + e.getMessage());
+            markSnapshotNeeded();
+            failureHandler.accept(e);
+        }
+    }
+
+    private static int getPersonCount(AddressBookChange change) {
+        return change.getRemovedPersons().size() + change.getAddedPersons().size();
+    }
+
+    /**
+     * Saves the pending snapshot, if any. Only runs on the background thread, so writes never overlap.
+     */
+    private void writePendingSnapshot() {
+        final ReadOnlyAddressBook snapshot;
+        synchronized (this) {
+            snapshot = pendingSnapshot;
+            pendingSnapshot = null;
+            isSnapshotScheduled = false;
+        }
+        if (snapshot == null) {
+            return;
+        }
+        try {
+            addressBookStorage.saveAddressBook(snapshot);
+        } catch (IOException e) {
+            logger.warning("Failed to save address book: " + e.getMessage());
+            markSnapshotNeeded();
+            failureHandler.accept(e);
+        }
+    }
+
+}
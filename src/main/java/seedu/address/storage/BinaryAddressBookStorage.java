@@ -0,0 +1,297 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored in a compact binary file on the hard disk.
+ *
+ * The file starts with a header of a magic number, the format version and flags. The rest of the file is a
+ * sequence of blocks, each holding its length, its payload and, if the file is checksummed, the CRC32 of the payload.
+ * The first block is the tag dictionary, which names every tag once, and the second holds the number of person
+ * blocks that follow. Each person block holds up to {@code PERSONS_PER_BLOCK} persons, whose fields are
+ * length-prefixed UTF-8 strings and whose tags are ids in the tag dictionary.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private static final int MAGIC = 0x42564142; // "BVAB"
+    private static final int VERSION = 1;
+    private static final int FLAG_BLOCK_CHECKSUMS = 1;
+    private static final int PERSONS_PER_BLOCK = 256;
+    private static final int MAX_BLOCK_BYTES = 256 * 1024 * 1024;
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private String filePath;
+    private final boolean hasBlockChecksums;
+
+    public BinaryAddressBookStorage(String filePath) {
+        this(filePath, true);
+    }
+
+    /**
+     * @param hasBlockChecksums whether saved files hold a checksum of each block, which is verified when reading.
+     */
+    public BinaryAddressBookStorage(String filePath, boolean hasBlockChecksums) {
+        this.filePath = filePath;
+        this.hasBlockChecksums = hasBlockChecksums;
+    }
+
+    public String getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(String filePath) throws DataConversionException,
+                                                                                 IOException {
+        requireNonNull(filePath);
+
+        File addressBookFile = new File(filePath);
+
+        if (!addressBookFile.exists()) {
+            logger.info("AddressBook file "  + addressBookFile + " not found");
+            return Optional.empty();
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(addressBookFile)))) {
+            return Optional.of(readBlocks(in));
+        } catch (EOFException eofe) {
+            throw new DataConversionException(eofe);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}
+     * @param filePath location of the data. Cannot be null
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, String filePath) throws IOException {
+        saveAddressBookWithChecksum(addressBook, filePath);
+    }
+
+    @Override
+    public long saveAddressBookWithChecksum(ReadOnlyAddressBook addressBook, String filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        // the data is written next to the file and then swapped in, so a crash never leaves a half-written file
+        File file = new File(filePath);
+        File tempFile = new File(filePath + TEMP_FILE_SUFFIX);
+        FileUtil.createParentDirsOfFile(file);
+        Files.deleteIfExists(tempFile.toPath());
+        final CheckedOutputStream checkedOut = new CheckedOutputStream(new FileOutputStream(tempFile), new CRC32());
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(checkedOut))) {
+            writeBlocks(out, addressBook);
+        } catch (IOException | RuntimeException e) {
+            // the last good file is kept, and the partly written one is not swapped in
+            Files.deleteIfExists(tempFile.toPath());
+            throw e;
+        }
+        FileUtil.replaceAtomically(tempFile, file);
+        return checkedOut.getChecksum().getValue();
+    }
+
+    /**
+     * Returns true if this storage's file does not exist, or its header names the current version of the format.
+     */
+    @Override
+    public boolean isCurrentFormat() throws IOException {
+        File file = new File(filePath);
+        if (!file.exists()) {
+            return true;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            return in.readInt() == MAGIC && in.readInt() == VERSION;
+        } catch (EOFException eofe) {
+            return false;
+        }
+    }
+
+    /**
+     * Writes the header and blocks of {@code addressBook} to {@code out}.
+     */
+    private void writeBlocks(DataOutputStream out, ReadOnlyAddressBook addressBook) throws IOException {
+        final List<ReadOnlyPerson> persons = addressBook.getPersonList();
+        final Map<Tag, Integer> tagIds = new LinkedHashMap<>();
+        addressBook.getTagList().forEach(tag -> tagIds.putIfAbsent(tag, tagIds.size()));
+        persons.forEach(person -> person.getTags().forEach(tag -> tagIds.putIfAbsent(tag, tagIds.size())));
+
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(hasBlockChecksums ? FLAG_BLOCK_CHECKSUMS : 0);
+
+        ByteArrayOutputStream block = new ByteArrayOutputStream();
+        DataOutputStream blockOut = new DataOutputStream(block);
+        blockOut.writeInt(tagIds.size());
+        for (Tag tag : tagIds.keySet()) {
+            BinaryPersonFormat.writeString(blockOut, tag.tagName);
+        }
+        writeBlock(out, block);
+
+        int blockCount = (persons.size() + PERSONS_PER_BLOCK - 1) / PERSONS_PER_BLOCK;
+        blockOut.writeInt(blockCount);
+        writeBlock(out, block);
+
+        for (int start = 0; start < persons.size(); start += PERSONS_PER_BLOCK) {
+            List<ReadOnlyPerson> blockPersons = persons.subList(start,
+                    Math.min(start + PERSONS_PER_BLOCK, persons.size()));
+            blockOut.writeInt(blockPersons.size());
+            for (ReadOnlyPerson person : blockPersons) {
+                BinaryPersonFormat.writePersonWithTagIds(blockOut, person, tagIds);
+            }
+            writeBlock(out, block);
+        }
+    }
+
+    /**
+     * Writes the content of {@code block} as one block, and then empties {@code block} for the next one.
+     */
+    private void writeBlock(DataOutputStream out, ByteArrayOutputStream block) throws IOException {
+        out.writeInt(block.size());
+        block.writeTo(out);
+        if (hasBlockChecksums) {
+            CRC32 crc = new CRC32();
+            crc.update(block.toByteArray());
+            out.writeInt((int) crc.getValue());
+        }
+        block.reset();
+    }
+
+    /**
+     * Reads an address book written by {@link #writeBlocks(DataOutputStream, ReadOnlyAddressBook)}.
+     */
+    private static ReadOnlyAddressBook readBlocks(DataInputStream in) throws DataConversionException, IOException {
+        if (in.readInt() != MAGIC) {
+            throw new DataConversionException(new IllegalValueException("Not a binary address book file"));
+        }
+        int version = in.readInt();
+        if (version != VERSION) {
+            throw new DataConversionException(
+                    new IllegalValueException("Unsupported binary address book version " + version));
+        }
+        boolean isChecksummed = (in.readInt() & FLAG_BLOCK_CHECKSUMS) != 0;
+
+        try {
+            final List<Tag> tags = new ArrayList<>();
+            DataInputStream block = readBlock(in, isChecksummed);
+            int tagCount = readCount(block);
+            for (int i = 0; i < tagCount; i++) {
+                tags.add(new Tag(readString(block)));
+            }
+
+            final List<ReadOnlyPerson> persons = new ArrayList<>();
+            int blockCount = readCount(readBlock(in, isChecksummed));
+            for (int i = 0; i < blockCount; i++) {
+                block = readBlock(in, isChecksummed);
+                int personCount = readCount(block);
+                for (int j = 0; j < personCount; j++) {
+                    persons.add(readPerson(block, tags));
+                }
+            }
+            return new ImmutableAddressBook(persons, tags);
+        } catch (IllegalValueException ive) {
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Reads a count from the payload of a block.
+     * The payload is in memory once it is read, so failing to read from it means the block is malformed.
+     */
+    private static int readCount(DataInputStream block) throws DataConversionException {
+        try {
+            return BinaryPersonFormat.readCount(block);
+        } catch (IOException ioe) {
+            throw new DataConversionException(ioe);
+        }
+    }
+
+    /**
+     * Reads a string from the payload of a block.
+     */
+    private static String readString(DataInputStream block) throws DataConversionException {
+        try {
+            return BinaryPersonFormat.readString(block);
+        } catch (IOException ioe) {
+            throw new DataConversionException(ioe);
+        }
+    }
+
+    /**
+     * Reads a person from the payload of a block, whose tags are ids in {@code tags}.
+     */
+    private static ReadOnlyPerson readPerson(DataInputStream block, List<Tag> tags)
+            throws DataConversionException, IllegalValueException {
+        try {
+            return BinaryPersonFormat.readPersonWithTagIds(block, tags);
+        } catch (IOException ioe) {
+            throw new DataConversionException(ioe);
+        }
+    }
+
+    /**
+     * Reads the next block and returns a stream of its payload.
+     *
+     * @throws DataConversionException if the block is cut off, or its payload does not match its checksum.
+     */
+    private static DataInputStream readBlock(DataInputStream in, boolean isChecksummed)
+            throws DataConversionException, IOException {
+        int length = in.readInt();
+        if (length < 0 || length > MAX_BLOCK_BYTES) {
+            throw new DataConversionException(new IllegalValueException("Invalid block length " + length));
+        }
+        byte[] payload = new byte[length];
+        in.readFully(payload);
+        if (isChecksummed) {
+            CRC32 crc = new CRC32();
+            crc.update(payload);
+            if (in.readInt() != (int) crc.getValue()) {
+                throw new DataConversionException(new IllegalValueException("Block does not match its checksum"));
+            }
+        }
+        return new DataInputStream(new ByteArrayInputStream(payload));
+    }
+
+}
@@ -0,0 +1,160 @@
+package seedu.address.storage;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Birthday;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Favourite;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.PostalCode;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Writes and reads persons as binary records of length-prefixed UTF-8 fields.
+ * Tags are written either by name, or by their id in a tag dictionary that is stored elsewhere.
+ */
+class BinaryPersonFormat {
+
+    // guards against allocating huge arrays when reading a corrupted length
+    private static final int MAX_STRING_BYTES = 1 << 20;
+    // name, phone, birthday, email, address, postal code and favourite
+    private static final int FIELD_COUNT = 7;
+
+    /**
+     * Writes the fields of {@code person} to {@code out}, with the names of its tags.
+     */
+    static void writePerson(DataOutput out, ReadOnlyPerson person) throws IOException {
+        writeFields(out, person);
+        out.writeInt(person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            writeString(out, tag.tagName);
+        }
+    }
+
+    /**
+     * Reads a person written by {@link #writePerson(DataOutput, ReadOnlyPerson)}.
+     *
+     * @throws IllegalValueException if a field of the person is invalid.
+     */
+    static Person readPerson(DataInput in) throws IOException, IllegalValueException {
+        final String[] fields = readFields(in);
+        final int tagCount = readCount(in);
+        final Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(new Tag(readString(in)));
+        }
+        return toPerson(fields, tags);
+    }
+
+    /**
+     * Writes the fields of {@code person} to {@code out}, with the ids that {@code tagIds} gives its tags.
+     */
+    static void writePersonWithTagIds(DataOutput out, ReadOnlyPerson person, Map<Tag, Integer> tagIds)
+            throws IOException {
+        writeFields(out, person);
+        out.writeInt(person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            out.writeInt(tagIds.get(tag));
+        }
+    }
+
+    /**
+     * Reads a person written by {@link #writePersonWithTagIds(DataOutput, ReadOnlyPerson, Map)},
+     * where {@code tags} holds the tag of each id.
+     *
+     * @throws IllegalValueException if a field of the person is invalid.
+     */
+    static Person readPersonWithTagIds(DataInput in, List<Tag> tags) throws IOException, IllegalValueException {
+        final String[] fields = readFields(in);
+        final int tagCount = readCount(in);
+        final Set<Tag> personTags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            int tagId = in.readInt();
+            if (tagId < 0 || tagId >= tags.size()) {
+                throw new IOException("Invalid tag id " + tagId);
+            }
+            personTags.add(tags.get(tagId));
+        }
+        return toPerson(fields, personTags);
+    }
+
+    /**
+     * Writes the fields of {@code person}, other than its tags, to {@code out}.
+     */
+    private static void writeFields(DataOutput out, ReadOnlyPerson person) throws IOException {
+        writeString(out, person.getName().fullName);
+        writeString(out, person.getPhone().value);
+        writeString(out, person.getBirthday().value);
+        writeString(out, person.getEmail().value);
+        writeString(out, person.getAddress().value);
+        writeString(out, person.getPostalCode().value);
+        writeString(out, person.getFavourite().value);
+    }
+
+    /**
+     * Reads the fields written by {@link #writeFields(DataOutput, ReadOnlyPerson)}, in the order they were written.
+     */
+    private static String[] readFields(DataInput in) throws IOException {
+        final String[] fields = new String[FIELD_COUNT];
+        for (int i = 0; i < FIELD_COUNT; i++) {
+            fields[i] = readString(in);
+        }
+        return fields;
+    }
+
+    /**
+     * Returns the person with {@code fields}, as read by {@link #readFields(DataInput)}, and {@code tags}.
+     *
+     * @throws IllegalValueException if a field is invalid.
+     */
+    private static Person toPerson(String[] fields, Set<Tag> tags) throws IllegalValueException {
+        return new Person(new Name(fields[0]), new Phone(fields[1]), new Birthday(fields[2]), new Email(fields[3]),
+                new Address(fields[4]), new PostalCode(fields[5]), new Favourite(fields[6]), tags);
+    }
+
+    /**
+     * Writes {@code value} as its length in bytes followed by its UTF-8 bytes.
+     */
+    static void writeString(DataOutput out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads a string written by {@link #writeString(DataOutput, String)}.
+     */
+    static String readString(DataInput in) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > MAX_STRING_BYTES) {
+            throw new IOException("Invalid string length " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a non-negative count of items.
+     */
+    static int readCount(DataInput in) throws IOException {
+        int count = in.readInt();
+        if (count < 0) {
+            throw new IOException("Invalid count " + count);
+        }
+        return count;
+    }
+
+}
@@ -1,14 +1,18 @@
 package seedu.address.storage;
 
-import java.io.FileWriter;
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
 import java.io.IOException;
-import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.Arrays;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
+import seedu.address.commons.util.CsvWriter;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.PersonField;
 import seedu.address.model.person.ReadOnlyPerson;
 import seedu.address.model.tag.Tag;
 
@@ -17,7 +21,6 @@ import seedu.address.model.tag.Tag;
  * Stores the addressbook in a CSV file.
  */
 public class CsvFileStorage implements FileStorage {
-    private static final String WORD_SEPARATOR = ",";
 
     private String filePath;
 
@@ -40,44 +43,62 @@ public class CsvFileStorage implements FileStorage {
      */
     @Override
     public void saveToCsvFile(ReadOnlyAddressBook addressBook, String filePath) throws IOException {
-        try {
-            FileWriter writer = new FileWriter(filePath);
-            List<ReadOnlyPerson> persons = addressBook.getPersonList();
+        requireNonNull(addressBook);
+        saveToCsvFile(addressBook.getPersonList(), Arrays.asList(PersonField.values()), filePath);
+    }
+    // @@author
 
-            writeLine(writer, Arrays.asList("Name", "Phone", "Birthday", "Email", "Address", "Postal Code",
-                    "Favourite", "Tags"), new HashSet<>());
+    /**
+     * Saves the {@code columns} of {@code persons} to the specified file, one row per person after a header row.
+     * The rows are streamed to the file, so the file content is never held in memory as a whole.
+     */
+    @Override
+    public void saveToCsvFile(List<? extends ReadOnlyPerson> persons, List<PersonField> columns, String filePath)
+            throws IOException {
+        requireAllNonNull(persons, columns, filePath);
+        try (CsvWriter writer = new CsvWriter(Files.newBufferedWriter(Paths.get(filePath), StandardCharsets.UTF_8))) {
+            for (PersonField column : columns) {
+                writer.writeField(column.getDisplayName());
+            }
+            writer.endRow();
 
             for (ReadOnlyPerson person : persons) {
-                writeLine(writer, Arrays.asList(person.getName().fullName, person.getPhone().value,
-                        person.getBirthday().value, person.getEmail().value, person.getAddress().value,
-                        person.getPostalCode().value, person.getFavourite().value), person.getTags());
+                for (PersonField column : columns) {
+                    writer.writeField(getFieldText(person, column));
+                }
+                writer.endRow();
             }
-
-            writer.flush();
-            writer.close();
-        } catch (IOException ioe) {
-            assert false : "Unexpected exception " + ioe.getMessage();
         }
     }
 
     /**
-     * Using {@code writer}, writes the {@code personData} and {@code tags} into a line on the file
-     * @throws IOException if there was any problem writing to the file.
+     * Returns the text of the {@code field} of {@code person}. Tags are written as {@code [tag1][tag2]}.
      */
-    public void writeLine(Writer writer, List<String> personData, Set<Tag> tags) throws IOException {
-        StringBuilder sb = new StringBuilder();
-
-        for (String data : personData) {
-            if (data.contains(",")) {
-                data = data.replace(",", "");
+    private static String getFieldText(ReadOnlyPerson person, PersonField field) {
+        switch (field) {
+        case NAME:
+            return person.getName().fullName;
+        case PHONE:
+            return person.getPhone().value;
+        case BIRTHDAY:
+            return person.getBirthday().value;
+        case EMAIL:
+            return person.getEmail().value;
+        case ADDRESS:
+            return person.getAddress().value;
+        case POSTAL_CODE:
+            return person.getPostalCode().value;
+        case FAVOURITE:
+            return person.getFavourite().value;
+        case TAGS:
+            StringBuilder tags = new StringBuilder();
+            for (Tag tag : person.getTags()) {
+                tags.append(tag);
             }
-
-            sb.append(data);
-            sb.append(WORD_SEPARATOR);
+            return tags.toString();
+        default:
+            throw new AssertionError("Unknown person field " + field);
         }
-
-        tags.forEach(tag -> sb.append(tag));
-        sb.append("\n");
-        writer.append(sb.toString());
     }
+
 }
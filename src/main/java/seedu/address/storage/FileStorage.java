@@ -1,8 +1,11 @@
 package seedu.address.storage;
 
 import java.io.IOException;
+import java.util.List;
 
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.PersonField;
+import seedu.address.model.person.ReadOnlyPerson;
 
 // @@author johnweikangong
 /**
@@ -26,4 +29,12 @@ public interface FileStorage {
      * @see #saveToCsvFile(ReadOnlyAddressBook)
      */
     void saveToCsvFile(ReadOnlyAddressBook addressBook, String filePath) throws IOException;
+    // @@author
+
+    /**
+     * Saves the {@code columns} of {@code persons} to the CSV file at {@code filePath}.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveToCsvFile(List<? extends ReadOnlyPerson> persons, List<PersonField> columns, String filePath)
+            throws IOException;
 }
@@ -0,0 +1,50 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A {@code ReadOnlyAddressBook} whose persons and tags never change, which can be handed to another thread.
+ * The persons and tags themselves are shared, not copied, as the model never changes them once they are stored.
+ */
+class ImmutableAddressBook implements ReadOnlyAddressBook {
+
+    private final ObservableList<ReadOnlyPerson> persons;
+    private final ObservableList<Tag> tags;
+
+    /**
+     * Wraps {@code persons} and {@code tags}, which the caller must not change afterwards.
+     */
+    ImmutableAddressBook(List<ReadOnlyPerson> persons, List<Tag> tags) {
+        this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableList(persons));
+        this.tags = FXCollections.unmodifiableObservableList(FXCollections.observableList(tags));
+    }
+
+    /**
+     * Returns a copy of the current persons and tags of {@code addressBook}.
+     */
+    static ImmutableAddressBook copyOf(ReadOnlyAddressBook addressBook) {
+        if (addressBook instanceof ImmutableAddressBook) {
+            return (ImmutableAddressBook) addressBook;
+        }
+        return new ImmutableAddressBook(new ArrayList<>(addressBook.getPersonList()),
+                new ArrayList<>(addressBook.getTagList()));
+    }
+
+    @Override
+    public ObservableList<ReadOnlyPerson> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Tag> getTagList() {
+        return tags;
+    }
+
+}
@@ -0,0 +1,178 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+
+/**
+ * An {@code AddressBookStorage} that keeps an {@link AddressBookJournal} next to the file of another storage.
+ * Changes are appended to the journal, which costs time in proportion to the change instead of the whole book,
+ * and the other storage's file is only rewritten as a snapshot when the book is saved in full.
+ * Reading the book loads the snapshot and then replays the journal on top of it.
+ *
+ * Changes are only journaled against a snapshot that this storage read or saved itself, as the journal of a
+ * snapshot that is missing or failed to load would be replayed against the wrong data on the next read.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+    private static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private final AddressBookStorage snapshotStorage;
+    private final AddressBookJournal journal;
+    // true if the snapshot at the address book file path holds the data that changes are made to,
+    // because this storage read it successfully or saved it last
+    private volatile boolean isSnapshotCurrent = false;
+    // the checksum of the snapshot at the address book file path, if isSnapshotCurrent
+    private long snapshotChecksum;
+
+    public JournaledAddressBookStorage(AddressBookStorage snapshotStorage) {
+        requireNonNull(snapshotStorage);
+        this.snapshotStorage = snapshotStorage;
+        this.journal = new AddressBookJournal(getJournalFile(snapshotStorage.getAddressBookFilePath()));
+    }
+
+    @Override
+    public String getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    /**
+     * Returns the time the snapshot or the journal was last modified, whichever is later.
+     */
+    @Override
+    public long getLastModified() {
+        return Math.max(snapshotStorage.getLastModified(), getJournalFile(getAddressBookFilePath()).lastModified());
+    }
+
+    @Override
+    public boolean isCurrentFormat() throws IOException {
+        return snapshotStorage.isCurrentFormat();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(String filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        final boolean isOwnFile = filePath.equals(getAddressBookFilePath());
+        if (isOwnFile) {
+            isSnapshotCurrent = false;
+        }
+        final Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        final long checksum = FileUtil.getChecksum(new File(filePath));
+        final List<AddressBookChange> changes;
+        try {
+            changes = getJournal(filePath).readChanges(checksum);
+        } catch (IllegalValueException ive) {
+            throw new DataConversionException(ive);
+        }
+        if (changes.isEmpty()) {
+            markSnapshotCurrent(isOwnFile && snapshot.isPresent(), checksum);
+            return snapshot;
+        }
+
+        logger.info("Replaying " + changes.size() + " changes from the journal of " + filePath);
+        final AddressBook addressBook = snapshot.map(AddressBook::new).orElseGet(AddressBook::new);
+        try {
+            for (AddressBookChange change : changes) {
+                addressBook.applyChange(change);
+            }
+        } catch (PersonNotFoundException | DuplicatePersonException e) {
+            throw new DataConversionException(e);
+        }
+        markSnapshotCurrent(isOwnFile && snapshot.isPresent(), checksum);
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Saves {@code addressBook} in full as the snapshot at {@code filePath}, and then empties its journal.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, String filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        final boolean isOwnFile = filePath.equals(getAddressBookFilePath());
+        if (isOwnFile) {
+            isSnapshotCurrent = false;
+        }
+        final long checksum = snapshotStorage.saveAddressBookWithChecksum(addressBook, filePath);
+        getJournal(filePath).reset(checksum);
+        markSnapshotCurrent(isOwnFile, checksum);
+    }
+
+    /**
+     * Returns true if changes can be appended to the journal of the address book file, because its snapshot was
+     * read successfully or saved by this storage since. Does not wait for a read or save in progress to finish.
+     */
+    public boolean canAppendChanges() {
+        return isSnapshotCurrent;
+    }
+
+    /**
+     * Appends {@code changes} to the journal of the address book file, and syncs it to the storage device.
+     * If the journal was not read before, it is reset to apply to the current snapshot first.
+     *
+     * @throws IllegalStateException if changes cannot be appended, see {@link #canAppendChanges()}.
+     */
+    public synchronized void appendChanges(List<AddressBookChange> changes) throws IOException {
+        requireNonNull(changes);
+        if (!isSnapshotCurrent) {
+            throw new IllegalStateException("Changes can only be journaled against a snapshot that was read or saved");
+        }
+        if (!journal.isReadyForAppend()) {
+            journal.reset(snapshotChecksum);
+        }
+        journal.append(changes);
+    }
+
+    /**
+     * Returns the number of removed and added persons that the journal of the address book file records.
+     */
+    public synchronized int getJournaledPersonCount() {
+        return journal.getRecordedPersonCount();
+    }
+
+    /**
+     * Records that the snapshot at the address book file path, whose checksum is {@code checksum}, holds the data
+     * that changes are made to, if {@code isCurrent}.
+     */
+    private void markSnapshotCurrent(boolean isCurrent, long checksum) {
+        if (isCurrent) {
+            snapshotChecksum = checksum;
+            isSnapshotCurrent = true;
+        }
+    }
+
+    private AddressBookJournal getJournal(String filePath) {
+        return filePath.equals(getAddressBookFilePath()) ? journal : new AddressBookJournal(getJournalFile(filePath));
+    }
+
+    private static File getJournalFile(String filePath) {
+        return new File(filePath + JOURNAL_FILE_SUFFIX);
+    }
+
+}
@@ -0,0 +1,274 @@
+package seedu.address.storage;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A {@code ReadOnlyAddressBook} backed by a memory-mapped file written by {@link MappedAddressBookStorage}.
+ *
+ * A person is only decoded from the file when its index in {@link #getPersonList()} is read, e.g. by a list cell that
+ * shows it or a command that uses it, and only the most recently read persons are kept in memory.
+ * The file is never written to. Persons are added, removed and replaced in an overlay instead, which the list reflects
+ * straight away, and which is merged into the file when the book is saved with {@link MappedAddressBookStorage}:
+ * the records of the persons that the overlay leaves as they are are copied to the new file without being decoded.
+ */
+public class MappedAddressBook implements ReadOnlyAddressBook {
+
+    private static final int CACHE_CAPACITY = 1024;
+
+    private final ByteBuffer buffer;
+    private final int filePersonCount;
+    private final long tagDictionaryOffset;
+    private final List<Tag> fileTags;
+    private final PersonList persons = new PersonList();
+    private final ObservableList<Tag> tags;
+    private final ObservableList<Tag> unmodifiableTags;
+    private final Set<Tag> tagSet;
+
+    // the overlay: indices in the file of removed persons, in ascending order
+    private final List<Integer> removedFileIndices = new ArrayList<>();
+    // the overlay: persons that replace the person at an index in the file
+    private final Map<Integer, ReadOnlyPerson> replacedPersons = new HashMap<>();
+    // the overlay: persons added after the ones in the file
+    private final List<ReadOnlyPerson> addedPersons = new ArrayList<>();
+
+    // the persons most recently decoded from the file, by their index in the file
+    private final Map<Integer, ReadOnlyPerson> cache = new LinkedHashMap<Integer, ReadOnlyPerson>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, ReadOnlyPerson> eldest) {
+            return size() > CACHE_CAPACITY;
+        }
+    };
+
+    /**
+     * @param buffer the mapped file, whose header and tag dictionary were read already.
+     */
+    MappedAddressBook(ByteBuffer buffer, int filePersonCount, long tagDictionaryOffset, List<Tag> fileTags) {
+        this.buffer = buffer;
+        this.filePersonCount = filePersonCount;
+        this.tagDictionaryOffset = tagDictionaryOffset;
+        this.fileTags = fileTags;
+        this.tags = FXCollections.observableArrayList(fileTags);
+        this.unmodifiableTags = FXCollections.unmodifiableObservableList(tags);
+        this.tagSet = new HashSet<>(fileTags);
+    }
+
+    /**
+     * Returns the persons of the file with the overlay applied. The list cannot be changed directly.
+     */
+    @Override
+    public ObservableList<ReadOnlyPerson> getPersonList() {
+        return persons;
+    }
+
+    /**
+     * Returns the tags of the file, in the order of the file's tag dictionary, followed by the tags that the overlay
+     * added, so that the tag ids of the records in the file stay valid in a file saved from this book.
+     */
+    @Override
+    public ObservableList<Tag> getTagList() {
+        return unmodifiableTags;
+    }
+
+    /**
+     * Adds {@code person} to the end of the person list.
+     */
+    public synchronized void addPerson(ReadOnlyPerson person) {
+        addedPersons.add(person);
+        addTags(person);
+        persons.fireAdded(persons.size() - 1);
+    }
+
+    /**
+     * Replaces the person at {@code index} in the person list with {@code person}.
+     */
+    public synchronized void setPerson(int index, ReadOnlyPerson person) {
+        ReadOnlyPerson previous = persons.get(index);
+        int visibleFileCount = getVisibleFilePersonCount();
+        if (index < visibleFileCount) {
+            replacedPersons.put(toFileIndex(index), person);
+        } else {
+            addedPersons.set(index - visibleFileCount, person);
+        }
+        addTags(person);
+        persons.fireReplaced(index, previous);
+    }
+
+    /**
+     * Removes the person at {@code index} in the person list.
+     */
+    public synchronized void removePerson(int index) {
+        ReadOnlyPerson previous = persons.get(index);
+        int visibleFileCount = getVisibleFilePersonCount();
+        if (index < visibleFileCount) {
+            int fileIndex = toFileIndex(index);
+            removedFileIndices.add(-(Collections.binarySearch(removedFileIndices, fileIndex) + 1), fileIndex);
+            replacedPersons.remove(fileIndex);
+            cache.remove(fileIndex);
+        } else {
+            addedPersons.remove(index - visibleFileCount);
+        }
+        persons.fireRemoved(index, previous);
+    }
+
+    /**
+     * Returns true if persons were added, removed or replaced since the file was read.
+     */
+    public synchronized boolean hasChanges() {
+        return !removedFileIndices.isEmpty() || !replacedPersons.isEmpty() || !addedPersons.isEmpty();
+    }
+
+    /**
+     * Returns the number of persons decoded from the file that are kept in memory.
+     */
+    synchronized int getCachedPersonCount() {
+        return cache.size();
+    }
+
+    /**
+     * Returns the bytes of the record in the file of the person at {@code index} in the person list, or null if that
+     * person was added or replaced in the overlay. The tag ids in the record refer to the start of
+     * {@link #getTagList()}.
+     */
+    synchronized ByteBuffer getFileRecord(int index) {
+        if (index >= getVisibleFilePersonCount()) {
+            return null;
+        }
+        int fileIndex = toFileIndex(index);
+        if (replacedPersons.containsKey(fileIndex)) {
+            return null;
+        }
+        long start = getRecordOffset(fileIndex);
+        long end = (fileIndex + 1 < filePersonCount) ? getRecordOffset(fileIndex + 1) : tagDictionaryOffset;
+        ByteBuffer record = buffer.duplicate();
+        record.limit((int) end).position((int) start);
+        return record.slice();
+    }
+
+    private synchronized ReadOnlyPerson getPerson(int index) {
+        int visibleFileCount = getVisibleFilePersonCount();
+        if (index >= visibleFileCount) {
+            return addedPersons.get(index - visibleFileCount);
+        }
+        int fileIndex = toFileIndex(index);
+        ReadOnlyPerson replacedPerson = replacedPersons.get(fileIndex);
+        if (replacedPerson != null) {
+            return replacedPerson;
+        }
+        return cache.computeIfAbsent(fileIndex, this::readPerson);
+    }
+
+    private synchronized int getPersonCount() {
+        return getVisibleFilePersonCount() + addedPersons.size();
+    }
+
+    private int getVisibleFilePersonCount() {
+        return filePersonCount - removedFileIndices.size();
+    }
+
+    /**
+     * Returns the index in the file of the person at {@code index} in the person list, which is before any
+     * added persons. That is the smallest file index that has {@code index} persons in the file before it
+     * that are not removed.
+     */
+    private int toFileIndex(int index) {
+        int fileIndex = index;
+        while (true) {
+            int nextFileIndex = index + countRemovedAtOrBefore(fileIndex);
+            if (nextFileIndex == fileIndex) {
+                return fileIndex;
+            }
+            fileIndex = nextFileIndex;
+        }
+    }
+
+    private int countRemovedAtOrBefore(int fileIndex) {
+        int position = Collections.binarySearch(removedFileIndices, fileIndex);
+        return position >= 0 ? position + 1 : -(position + 1);
+    }
+
+    /**
+     * Decodes the person at {@code fileIndex} in the file.
+     */
+    private ReadOnlyPerson readPerson(int fileIndex) {
+        ByteBuffer record = buffer.duplicate();
+        try {
+            record.position((int) getRecordOffset(fileIndex));
+            return BinaryPersonFormat.readPersonWithTagIds(
+                    new DataInputStream(new ByteBufferInputStream(record)), fileTags);
+        } catch (IOException | IllegalValueException | IllegalArgumentException e) {
+            throw new IllegalStateException("The record of person " + fileIndex + " is corrupted", e);
+        }
+    }
+
+    private long getRecordOffset(int fileIndex) {
+        return buffer.getLong(
+                MappedAddressBookStorage.HEADER_BYTES + fileIndex * MappedAddressBookStorage.OFFSET_BYTES);
+    }
+
+    /**
+     * Adds the tags of {@code person} that are not in the tag list yet.
+     */
+    private void addTags(ReadOnlyPerson person) {
+        for (Tag tag : person.getTags()) {
+            if (tagSet.add(tag)) {
+                tags.add(tag);
+            }
+        }
+    }
+
+    /**
+     * The person list of the book, which decodes persons as they are read.
+     */
+    private class PersonList extends ObservableListBase<ReadOnlyPerson> {
+
+        @Override
+        public ReadOnlyPerson get(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+            }
+            return getPerson(index);
+        }
+
+        @Override
+        public int size() {
+            return getPersonCount();
+        }
+
+        private void fireAdded(int index) {
+            beginChange();
+            nextAdd(index, index + 1);
+            endChange();
+        }
+
+        private void fireReplaced(int index, ReadOnlyPerson previous) {
+            beginChange();
+            nextSet(index, previous);
+            endChange();
+        }
+
+        private void fireRemoved(int index, ReadOnlyPerson previous) {
+            beginChange();
+            nextRemove(index, previous);
+            endChange();
+        }
+    }
+
+}
@@ -0,0 +1,239 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored in a file that is memory-mapped when read, for books too large to hold
+ * in memory as persons.
+ *
+ * The file starts with a header of a magic number, the format version, the number of persons, flags and the offset
+ * of the tag dictionary. Then comes a table of the offset of each person's record, so the record of any person is
+ * found without reading the ones before it, followed by the records, in the format of
+ * {@link BinaryPersonFormat#writePersonWithTagIds}, and the tag dictionary at the end.
+ *
+ * Reading the file returns a {@link MappedAddressBook}, which only decodes persons when they are used. Saving a
+ * {@code MappedAddressBook} copies the records of the persons it has not changed from its mapping as they are.
+ */
+public class MappedAddressBookStorage implements AddressBookStorage {
+
+    static final int MAGIC = 0x42564d41; // "BVMA"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 24;
+    static final int OFFSET_BYTES = Long.BYTES;
+    // the header has room for flags, which no version of the format uses yet
+    private static final int NO_FLAGS = 0;
+
+    private static final Logger logger = LogsCenter.getLogger(MappedAddressBookStorage.class);
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private String filePath;
+
+    public MappedAddressBookStorage(String filePath) {
+        this.filePath = filePath;
+    }
+
+    public String getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(String filePath) throws DataConversionException,
+                                                                                 IOException {
+        requireNonNull(filePath);
+
+        File addressBookFile = new File(filePath);
+
+        if (!addressBookFile.exists()) {
+            logger.info("AddressBook file "  + addressBookFile + " not found");
+            return Optional.empty();
+        }
+
+        try (FileChannel channel = FileChannel.open(addressBookFile.toPath(), StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("AddressBook file " + addressBookFile + " is too large to be mapped");
+            }
+            // the mapping stays valid after the channel is closed, until the buffer is garbage collected
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return Optional.of(readMappedAddressBook(buffer));
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * If {@code addressBook} is a {@link MappedAddressBook}, the changes in its overlay are merged into the file.
+     * @param filePath location of the data. Cannot be null
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, String filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        // the file is written next to the old one and then swapped in, which also keeps any mapping of the old
+        // file valid while the persons in it are read to be written to the new one
+        File file = new File(filePath);
+        File tempFile = new File(filePath + TEMP_FILE_SUFFIX);
+        FileUtil.createParentDirsOfFile(file);
+        Files.deleteIfExists(tempFile.toPath());
+        try (FileChannel channel = FileChannel.open(tempFile.toPath(), StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.WRITE)) {
+            writeAddressBook(channel, addressBook);
+        } catch (IOException | RuntimeException e) {
+            // the last good file is kept, and the partly written one is not swapped in
+            Files.deleteIfExists(tempFile.toPath());
+            throw e;
+        }
+        FileUtil.replaceAtomically(tempFile, file);
+    }
+
+    /**
+     * Returns true if this storage's file does not exist, or its header names the current version of the format.
+     */
+    @Override
+    public boolean isCurrentFormat() throws IOException {
+        File file = new File(filePath);
+        if (!file.exists()) {
+            return true;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            return in.readInt() == MAGIC && in.readInt() == VERSION;
+        } catch (EOFException eofe) {
+            return false;
+        }
+    }
+
+    /**
+     * Writes the header, offset table, records and tag dictionary of {@code addressBook} to {@code channel}.
+     * The records that a {@link MappedAddressBook} holds unchanged are copied from its mapping, which is valid as
+     * its tag list starts with the tags of its file, in order, so those tags keep their ids.
+     */
+    private static void writeAddressBook(FileChannel channel, ReadOnlyAddressBook addressBook) throws IOException {
+        final MappedAddressBook mapped = addressBook instanceof MappedAddressBook ? (MappedAddressBook) addressBook
+                : null;
+        final List<ReadOnlyPerson> persons = addressBook.getPersonList();
+        final int personCount = persons.size();
+        final Map<Tag, Integer> tagIds = new LinkedHashMap<>();
+        addressBook.getTagList().forEach(tag -> tagIds.putIfAbsent(tag, tagIds.size()));
+
+        // the records are written first, as the tags of the persons may add to the tag dictionary
+        final long[] recordOffsets = new long[personCount];
+        long position = HEADER_BYTES + (long) personCount * OFFSET_BYTES;
+        channel.position(position);
+        final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        final DataOutputStream bufferOut = new DataOutputStream(buffer);
+        final OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel));
+        for (int i = 0; i < personCount; i++) {
+            recordOffsets[i] = position;
+            ByteBuffer fileRecord = (mapped == null) ? null : mapped.getFileRecord(i);
+            if (fileRecord != null) {
+                byte[] record = new byte[fileRecord.remaining()];
+                fileRecord.get(record);
+                out.write(record);
+                position += record.length;
+                continue;
+            }
+            ReadOnlyPerson person = persons.get(i);
+            person.getTags().forEach(tag -> tagIds.putIfAbsent(tag, tagIds.size()));
+            BinaryPersonFormat.writePersonWithTagIds(bufferOut, person, tagIds);
+            position += buffer.size();
+            buffer.writeTo(out);
+            buffer.reset();
+        }
+        final long tagDictionaryOffset = position;
+        bufferOut.writeInt(tagIds.size());
+        for (Tag tag : tagIds.keySet()) {
+            BinaryPersonFormat.writeString(bufferOut, tag.tagName);
+        }
+        buffer.writeTo(out);
+        out.flush();
+
+        final ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES + personCount * OFFSET_BYTES);
+        header.putInt(MAGIC).putInt(VERSION).putInt(personCount).putInt(NO_FLAGS).putLong(tagDictionaryOffset);
+        for (long recordOffset : recordOffsets) {
+            header.putLong(recordOffset);
+        }
+        header.flip();
+        channel.position(0);
+        while (header.hasRemaining()) {
+            channel.write(header);
+        }
+    }
+
+    /**
+     * Returns the address book whose file is mapped to {@code buffer}, after reading its header and tag dictionary.
+     */
+    private static MappedAddressBook readMappedAddressBook(ByteBuffer buffer) throws DataConversionException {
+        try {
+            if (buffer.limit() < HEADER_BYTES || buffer.getInt(0) != MAGIC) {
+                throw new DataConversionException(new IllegalValueException("Not a mapped address book file"));
+            }
+            int version = buffer.getInt(Integer.BYTES);
+            if (version != VERSION) {
+                throw new DataConversionException(
+                        new IllegalValueException("Unsupported mapped address book version " + version));
+            }
+            int personCount = buffer.getInt(2 * Integer.BYTES);
+            long tagDictionaryOffset = buffer.getLong(4 * Integer.BYTES);
+            if (personCount < 0 || tagDictionaryOffset < HEADER_BYTES + (long) personCount * OFFSET_BYTES
+                    || tagDictionaryOffset > buffer.limit()) {
+                throw new DataConversionException(new IllegalValueException("Invalid header"));
+            }
+
+            ByteBuffer tagDictionary = buffer.duplicate();
+            tagDictionary.position((int) tagDictionaryOffset);
+            DataInputStream in = new DataInputStream(new ByteBufferInputStream(tagDictionary));
+            int tagCount = BinaryPersonFormat.readCount(in);
+            List<Tag> tags = new ArrayList<>();
+            for (int i = 0; i < tagCount; i++) {
+                tags.add(new Tag(BinaryPersonFormat.readString(in)));
+            }
+            return new MappedAddressBook(buffer, personCount, tagDictionaryOffset, tags);
+        } catch (IOException | IllegalValueException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+}
@@ -5,6 +5,7 @@ import java.util.Optional;
 
 import seedu.address.commons.events.model.AddressBookChangedEvent;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
+import seedu.address.commons.events.storage.ExportToFileRequestEvent;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
@@ -46,9 +47,23 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage, FileStora
     // @@author
 
     /**
-     * Saves the current version of the Address Book to the hard disk.
+     * Exports the persons in the event to the CSV file on a background thread, so a large export does not hold up
+     * the caller. Raises {@link DataSavingExceptionEvent}, from that thread, if there was an error during exporting.
+     */
+    void handleExportToFileRequestEvent(ExportToFileRequestEvent event);
+
+    /**
+     * Saves the current version of the Address Book to the hard disk in the background.
+     *   The change in the event is appended to a journal; the whole book is only written when the journal
+     *   is compacted, and changes that arrive in quick succession are then saved together in one write.
      *   Creates the data file if it is missing.
-     * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
+     * Raises {@link DataSavingExceptionEvent}, from the saving thread, if there was an error during saving.
      */
     void handleAddressBookChangedEvent(AddressBookChangedEvent abce);
+
+    /**
+     * Blocks until every change passed to {@link #handleAddressBookChangedEvent(AddressBookChangedEvent)}
+     * so far has been saved, and every export requested so far has been written.
+     */
+    void flushPendingSaves();
 }
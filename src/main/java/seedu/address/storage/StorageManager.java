@@ -1,7 +1,11 @@
 package seedu.address.storage;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
@@ -10,25 +14,52 @@ import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
+import seedu.address.commons.events.storage.ExportToFileRequestEvent;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.PersonField;
+import seedu.address.model.person.ReadOnlyPerson;
 /**
  * Manages storage of AddressBook data in local storage.
  */
 public class StorageManager extends ComponentManager implements Storage {
 
+    public static final long DEFAULT_SAVE_DEBOUNCE_MILLIS = 500;
+    public static final int DEFAULT_JOURNAL_COMPACTION_THRESHOLD = 1000;
+
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
-    private AddressBookStorage addressBookStorage;
+    private JournaledAddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
     private FileStorage csvFileStorage;
+    private AsyncAddressBookSaver addressBookSaver;
+    // exports run one at a time, in the order they are requested, without holding up the caller
+    private final ExecutorService csvExportExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "CSV exporter");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
                           FileStorage csvFileStorage) {
+        this(addressBookStorage, userPrefsStorage, csvFileStorage, DEFAULT_SAVE_DEBOUNCE_MILLIS,
+                DEFAULT_JOURNAL_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * The address book is kept as a snapshot in {@code addressBookStorage} plus a journal of the changes since.
+     *
+     * @param saveDebounceMillis how long changes are collected before a snapshot of the address book is saved.
+     * @param journalCompactionThreshold how many persons the journal may record before a new snapshot is saved.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+                          FileStorage csvFileStorage, long saveDebounceMillis, int journalCompactionThreshold) {
         super();
-        this.addressBookStorage = addressBookStorage;
+        this.addressBookStorage = new JournaledAddressBookStorage(addressBookStorage);
         this.userPrefsStorage = userPrefsStorage;
         this.csvFileStorage = csvFileStorage;
+        this.addressBookSaver = new AsyncAddressBookSaver(this.addressBookStorage, saveDebounceMillis,
+            journalCompactionThreshold, e -> raise(new DataSavingExceptionEvent(e)));
     }
 
     // ================ UserPrefs methods ==============================
@@ -99,15 +130,44 @@ public class StorageManager extends ComponentManager implements Storage {
     }
     // @@author
 
+    @Override
+    public void saveToCsvFile(List<? extends ReadOnlyPerson> persons, List<PersonField> columns, String filePath)
+            throws IOException {
+        logger.fine("Attempting to write data to CSV file: " + filePath);
+        csvFileStorage.saveToCsvFile(persons, columns, filePath);
+    }
+
     @Override
     @Subscribe
-    public void handleAddressBookChangedEvent(AddressBookChangedEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event, " Local data changed, saving to file"));
+    public void handleExportToFileRequestEvent(ExportToFileRequestEvent event) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(event, " Exporting to CSV file"));
+        csvExportExecutor.execute(() -> {
+            try {
+                saveToCsvFile(event.persons, event.columns, getCsvFilePath());
+            } catch (IOException e) {
+                logger.warning("Failed to export to CSV file: " + e.getMessage());
+                raise(new DataSavingExceptionEvent(e));
+            }
+        });
+    }
+
+    @Override
+    public void flushPendingSaves() {
+        addressBookSaver.flush();
         try {
-            saveAddressBook(event.data);
-        } catch (IOException e) {
-            raise(new DataSavingExceptionEvent(e));
+            csvExportExecutor.submit(() -> { }).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ee) {
+            throw new AssertionError("An empty task should not throw", ee.getCause());
         }
     }
 
+    @Override
+    @Subscribe
+    public void handleAddressBookChangedEvent(AddressBookChangedEvent event) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(event, " Local data changed, saving to file"));
+        addressBookSaver.requestSave(event.data, event.change);
+    }
+
 }
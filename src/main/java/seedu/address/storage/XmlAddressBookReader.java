@@ -0,0 +1,218 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.BiConsumer;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.XmlRecordReader;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Birthday;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Favourite;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.PostalCode;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Reads an address book saved in the XML format of {@link XmlSerializableAddressBook} with the streaming
+ * {@link XmlRecordReader}, which also reads the XML files that are imported.
+ * The {@code <persons>} elements are read in chunks, and each chunk is turned into {@link Person}s on the common
+ * fork-join pool while the next chunk is read, so neither the document nor the {@link XmlAdaptedPerson}s are held
+ * in memory alongside the persons, and the persons are validated on every core. The persons keep the order of the
+ * file, so a duplicate is found just as if they were converted one by one.
+ */
+public class XmlAddressBookReader {
+
+    private static final String PERSON_ELEMENT = "persons";
+    private static final String TAG_ELEMENT = "tags";
+    private static final String PERSON_TAG_ELEMENT = "tagged";
+    // large enough that handing a chunk to the pool costs little next to converting it
+    private static final int PERSONS_PER_CHUNK = 1024;
+
+    /**
+     * Returns the address book in {@code file}.
+     *
+     * @throws FileNotFoundException if the file is missing.
+     * @throws DataConversionException if the file is not in the correct format or holds invalid data.
+     */
+    public static ReadOnlyAddressBook readAddressBook(File file) throws FileNotFoundException,
+                                                                        DataConversionException {
+        requireNonNull(file);
+        try (InputStream in = new BufferedInputStream(new FileInputStream(file));
+                XmlRecordReader reader = new XmlRecordReader(in, PERSON_ELEMENT, TAG_ELEMENT)) {
+            return readAddressBook(reader);
+        } catch (FileNotFoundException fnfe) {
+            throw fnfe;
+        } catch (IOException | IllegalValueException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Reads the persons and tags of the address book.
+     * The elements are parsed on this thread, and every {@code PERSONS_PER_CHUNK} parsed persons are handed to
+     * the common fork-join pool to be validated and converted while the next ones are parsed.
+     */
+    private static ReadOnlyAddressBook readAddressBook(XmlRecordReader reader)
+            throws IOException, IllegalValueException {
+        final List<ForkJoinTask<List<Person>>> chunks = new ArrayList<>();
+        final List<Tag> tags = new ArrayList<>();
+        List<PersonElement> chunk = new ArrayList<>();
+        PersonElement person = new PersonElement();
+        while (reader.readRecord(person)) {
+            if (reader.getRecordElement().equals(TAG_ELEMENT)) {
+                tags.add(new Tag(reader.getRecordText()));
+                continue;
+            }
+            chunk.add(person);
+            person = new PersonElement();
+            if (chunk.size() == PERSONS_PER_CHUNK) {
+                chunks.add(submitConversion(chunk));
+                chunk = new ArrayList<>();
+            }
+        }
+        chunks.add(submitConversion(chunk));
+        return new ImmutableAddressBook(joinConversions(chunks), tags);
+    }
+
+    /**
+     * Starts converting the persons of {@code chunk} on the common fork-join pool.
+     */
+    private static ForkJoinTask<List<Person>> submitConversion(List<PersonElement> chunk) {
+        return ForkJoinPool.commonPool().submit(() -> {
+            final List<Person> persons = new ArrayList<>(chunk.size());
+            for (PersonElement element : chunk) {
+                persons.add(element.toModelType());
+            }
+            return persons;
+        });
+    }
+
+    /**
+     * Returns the persons converted by {@code chunks}, in the order that they were read.
+     *
+     * @throws IllegalValueException of the first person in the file that is invalid.
+     */
+    private static List<ReadOnlyPerson> joinConversions(List<ForkJoinTask<List<Person>>> chunks)
+            throws IllegalValueException {
+        final List<ReadOnlyPerson> persons = new ArrayList<>();
+        try {
+            for (ForkJoinTask<List<Person>> chunk : chunks) {
+                persons.addAll(chunk.get());
+            }
+        } catch (ExecutionException ee) {
+            chunks.forEach(chunk -> chunk.cancel(false));
+            // the pool wraps checked exceptions of a task in runtime exceptions
+            for (Throwable cause = ee.getCause(); cause != null; cause = cause.getCause()) {
+                if (cause instanceof IllegalValueException) {
+                    throw (IllegalValueException) cause;
+                }
+            }
+            throw new IllegalStateException("Converting persons failed unexpectedly", ee.getCause());
+        } catch (InterruptedException ie) {
+            chunks.forEach(chunk -> chunk.cancel(false));
+            Thread.currentThread().interrupt();
+            throw new IllegalValueException("Interrupted while converting persons");
+        }
+        return persons;
+    }
+
+    /**
+     * Returns {@code value}, the text of the required element {@code elementName}.
+     *
+     * @throws IllegalValueException if the element was missing.
+     */
+    private static String require(String value, String elementName) throws IllegalValueException {
+        if (value == null) {
+            throw new IllegalValueException("Person is missing the <" + elementName + "> element");
+        }
+        return value;
+    }
+
+    /**
+     * The texts of a {@code <persons>} element, as they are read.
+     * A tag element, which is read into it too, has no fields and leaves it empty.
+     */
+    private static class PersonElement implements BiConsumer<String, String> {
+        private String name;
+        private String phone;
+        private String birthday;
+        private String email;
+        private String address;
+        private String postalCode;
+        private String favourite;
+        private final List<String> tags = new ArrayList<>();
+
+        /**
+         * Keeps {@code text}, the text of the child element {@code elementName}. Unknown elements are ignored.
+         */
+        @Override
+        public void accept(String elementName, String text) {
+            switch (elementName) {
+            case "name":
+                name = text;
+                break;
+            case "phone":
+                phone = text;
+                break;
+            case "birthday":
+                birthday = text;
+                break;
+            case "email":
+                email = text;
+                break;
+            case "address":
+                address = text;
+                break;
+            case "postalCode":
+                postalCode = text;
+                break;
+            case "favourite":
+                favourite = text;
+                break;
+            case PERSON_TAG_ELEMENT:
+                tags.add(text);
+                break;
+            default:
+                break;
+            }
+        }
+
+        /**
+         * Returns the person that the texts describe.
+         *
+         * @throws IllegalValueException if a field is missing or invalid.
+         * @see XmlAdaptedPerson#toModelType()
+         */
+        private Person toModelType() throws IllegalValueException {
+            final Set<Tag> personTags = new HashSet<>();
+            for (String tag : tags) {
+                personTags.add(new Tag(tag));
+            }
+            return new Person(new Name(require(name, "name")), new Phone(require(phone, "phone")),
+                    new Birthday(require(birthday, "birthday")), new Email(require(email, "email")),
+                    new Address(require(address, "address")), new PostalCode(require(postalCode, "postalCode")),
+                    new Favourite(require(favourite, "favourite")), personTags);
+        }
+    }
+
+}
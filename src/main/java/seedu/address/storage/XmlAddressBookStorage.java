@@ -2,11 +2,17 @@ package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.util.Optional;
 import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
@@ -19,11 +25,21 @@ import seedu.address.model.ReadOnlyAddressBook;
 public class XmlAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(XmlAddressBookStorage.class);
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
 
     private String filePath;
+    private final boolean isFormattedOutput;
 
     public XmlAddressBookStorage(String filePath) {
+        this(filePath, true);
+    }
+
+    /**
+     * @param isFormattedOutput whether the file is indented when saved.
+     */
+    public XmlAddressBookStorage(String filePath, boolean isFormattedOutput) {
         this.filePath = filePath;
+        this.isFormattedOutput = isFormattedOutput;
     }
 
     public String getAddressBookFilePath() {
@@ -51,7 +67,7 @@ public class XmlAddressBookStorage implements AddressBookStorage {
             return Optional.empty();
         }
 
-        ReadOnlyAddressBook addressBookOptional = XmlFileStorage.loadDataFromSaveFile(new File(filePath));
+        ReadOnlyAddressBook addressBookOptional = XmlAddressBookReader.readAddressBook(addressBookFile);
 
         return Optional.of(addressBookOptional);
     }
@@ -66,12 +82,29 @@ public class XmlAddressBookStorage implements AddressBookStorage {
      * @param filePath location of the data. Cannot be null
      */
     public void saveAddressBook(ReadOnlyAddressBook addressBook, String filePath) throws IOException {
+        saveAddressBookWithChecksum(addressBook, filePath);
+    }
+
+    @Override
+    public long saveAddressBookWithChecksum(ReadOnlyAddressBook addressBook, String filePath) throws IOException {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
+        // the data is written next to the file and then swapped in, so a crash never leaves a half-written file
         File file = new File(filePath);
-        FileUtil.createIfMissing(file);
-        XmlFileStorage.saveDataToFile(file, new XmlSerializableAddressBook(addressBook));
+        File tempFile = new File(filePath + TEMP_FILE_SUFFIX);
+        FileUtil.createParentDirsOfFile(file);
+        Files.deleteIfExists(tempFile.toPath());
+        final CheckedOutputStream checkedOut = new CheckedOutputStream(new FileOutputStream(tempFile), new CRC32());
+        try (OutputStream out = new BufferedOutputStream(checkedOut)) {
+            XmlFileStorage.saveDataToStream(out, new XmlSerializableAddressBook(addressBook), isFormattedOutput);
+        } catch (IOException | RuntimeException e) {
+            // the last good file is kept, and the partly written one is not swapped in
+            Files.deleteIfExists(tempFile.toPath());
+            throw e;
+        }
+        FileUtil.replaceAtomically(tempFile, file);
+        return checkedOut.getChecksum().getValue();
     }
 
 }
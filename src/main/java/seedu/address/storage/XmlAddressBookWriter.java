@@ -0,0 +1,95 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Writes an address book in the XML format of {@link XmlSerializableAddressBook} with a streaming writer.
+ * The persons are written one at a time as they are read from the book, so they never need to be in memory together,
+ * e.g. when they are generated as they are read. The file is not indented.
+ *
+ * @see XmlAddressBookReader
+ */
+public class XmlAddressBookWriter {
+
+    private static final String ROOT_ELEMENT = "addressbook";
+    private static final String PERSON_ELEMENT = "persons";
+    private static final String TAG_ELEMENT = "tags";
+    private static final String PERSON_TAG_ELEMENT = "tagged";
+
+    private static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory.newInstance();
+
+    /**
+     * Writes {@code addressBook} to {@code file}, replacing its content.
+     */
+    public static void writeAddressBook(File file, ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(file);
+        requireNonNull(addressBook);
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(file))) {
+            XMLStreamWriter writer = OUTPUT_FACTORY.createXMLStreamWriter(out, StandardCharsets.UTF_8.name());
+            try {
+                writeAddressBook(writer, addressBook);
+            } finally {
+                writer.close();
+            }
+        } catch (XMLStreamException xse) {
+            throw new IOException(xse.getMessage(), xse);
+        }
+    }
+
+    /**
+     * Writes the document of {@code addressBook}, with the persons before the tags as JAXB writes them.
+     */
+    private static void writeAddressBook(XMLStreamWriter writer, ReadOnlyAddressBook addressBook)
+            throws XMLStreamException {
+        writer.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0");
+        writer.writeStartElement(ROOT_ELEMENT);
+        for (ReadOnlyPerson person : addressBook.getPersonList()) {
+            writePerson(writer, person);
+        }
+        for (Tag tag : addressBook.getTagList()) {
+            writeElement(writer, TAG_ELEMENT, tag.tagName);
+        }
+        writer.writeEndElement();
+        writer.writeEndDocument();
+    }
+
+    /**
+     * Writes the {@code <persons>} element of {@code person}, with the child elements of {@link XmlAdaptedPerson}.
+     */
+    private static void writePerson(XMLStreamWriter writer, ReadOnlyPerson person) throws XMLStreamException {
+        writer.writeStartElement(PERSON_ELEMENT);
+        writeElement(writer, "name", person.getName().fullName);
+        writeElement(writer, "phone", person.getPhone().value);
+        writeElement(writer, "birthday", person.getBirthday().value);
+        writeElement(writer, "email", person.getEmail().value);
+        writeElement(writer, "address", person.getAddress().value);
+        writeElement(writer, "postalCode", person.getPostalCode().value);
+        writeElement(writer, "favourite", person.getFavourite().value);
+        for (Tag tag : person.getTags()) {
+            writeElement(writer, PERSON_TAG_ELEMENT, tag.tagName);
+        }
+        writer.writeEndElement();
+    }
+
+    private static void writeElement(XMLStreamWriter writer, String name, String text) throws XMLStreamException {
+        writer.writeStartElement(name);
+        writer.writeCharacters(text);
+        writer.writeEndElement();
+    }
+
+}
@@ -2,6 +2,8 @@ package seedu.address.storage;
 
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.OutputStream;
 
 import javax.xml.bind.JAXBException;
 
@@ -17,13 +19,35 @@ public class XmlFileStorage {
      */
     public static void saveDataToFile(File file, XmlSerializableAddressBook addressBook)
             throws FileNotFoundException {
+        saveDataToFile(file, addressBook, true);
+    }
+
+    /**
+     * Saves the given addressbook data to the specified file, indented if {@code isFormattedOutput} is true.
+     */
+    public static void saveDataToFile(File file, XmlSerializableAddressBook addressBook, boolean isFormattedOutput)
+            throws FileNotFoundException {
         try {
-            XmlUtil.saveDataToFile(file, addressBook);
+            XmlUtil.saveDataToFile(file, addressBook, isFormattedOutput);
         } catch (JAXBException e) {
             assert false : "Unexpected exception " + e.getMessage();
         }
     }
 
+    /**
+     * Writes the given addressbook data to {@code out}, indented if {@code isFormattedOutput} is true.
+     *
+     * @throws IOException if the data cannot be marshalled, in which case {@code out} may hold part of it.
+     */
+    public static void saveDataToStream(OutputStream out, XmlSerializableAddressBook addressBook,
+                                        boolean isFormattedOutput) throws IOException {
+        try {
+            XmlUtil.saveDataToStream(out, addressBook, isFormattedOutput);
+        } catch (JAXBException e) {
+            throw new IOException("Failed to write the address book as XML: " + e.getMessage(), e);
+        }
+    }
+
     /**
      * Returns address book in the file or an empty address book
      */
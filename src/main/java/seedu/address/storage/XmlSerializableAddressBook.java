@@ -45,7 +45,8 @@ public class XmlSerializableAddressBook implements ReadOnlyAddressBook {
 
     @Override
     public ObservableList<ReadOnlyPerson> getPersonList() {
-        final ObservableList<ReadOnlyPerson> persons = this.persons.stream().map(p -> {
+        // each person is converted on its own, so the persons are converted in parallel, keeping their order
+        final ObservableList<ReadOnlyPerson> persons = this.persons.parallelStream().map(p -> {
             try {
                 return p.toModelType();
             } catch (IllegalValueException e) {
@@ -1,13 +1,16 @@
 package seedu.address.ui;
 
 import java.text.DateFormatSymbols;
-import java.util.Arrays;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
 
-import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
@@ -15,10 +18,12 @@ import javafx.scene.chart.BarChart;
 import javafx.scene.chart.CategoryAxis;
 import javafx.scene.chart.XYChart;
 import javafx.scene.layout.Region;
+import seedu.address.commons.core.HandleOn;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.ThreadMode;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
-import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.commons.events.model.AddressBookLoadingEvent;
+import seedu.address.model.AddressBookStatistics;
 //@@author Valerieyue
 /**
  * The birthday statistics panel of the App.
@@ -34,89 +39,60 @@ public class BirthdayStatisticsPanel extends UiPart<Region> {
     private CategoryAxis xAxis;
 
     private final Logger logger = LogsCenter.getLogger(this.getClass());
-    private ObservableList<String> monthNames = FXCollections.observableArrayList();
+    private final AddressBookStatistics statistics;
+    private final ObservableList<String> monthNames = FXCollections.observableArrayList();
+    // the bar of each month, in the order of the months
+    private final List<XYChart.Data<String, Integer>> bars = new ArrayList<>();
 
-    public BirthdayStatisticsPanel(ReadOnlyAddressBook readOnlyAddressBook) {
+    public BirthdayStatisticsPanel(AddressBookStatistics statistics) {
         super(FXML);
+        this.statistics = statistics;
 
         // Get an array with the English month names.
         String[] months = DateFormatSymbols.getInstance(Locale.ENGLISH).getShortMonths();
-        // Convert it to a list and add it to our ObservableList of months.
-        monthNames.addAll(Arrays.asList(months));
+        XYChart.Series<String, Integer> series = new XYChart.Series<>();
+        for (Month month : Month.values()) {
+            monthNames.add(months[month.ordinal()]);
+            XYChart.Data<String, Integer> bar = new XYChart.Data<>(months[month.ordinal()],
+                    statistics.getBirthdayCount(month));
+            bars.add(bar);
+            series.getData().add(bar);
+        }
 
         // Assign the month names as categories for the horizontal axis.
         xAxis.setCategories(monthNames);
-        setPersonData(readOnlyAddressBook);
+        barChart.getData().add(series);
+        barChart.setLegendVisible(false);
         barChart.setCategoryGap(10);
         barChart.setTitle("Birthday Statistics");
         xAxis.setLabel("Month");
         registerAsAnEventHandler(this);
     }
 
-    private void setPersonData(ReadOnlyAddressBook readOnlyAddressBook) {
-        XYChart.Series<String, Integer> series = new XYChart.Series<>();
-        // Count the number of people having their birthday in a specific month.
-        int[] monthCounter = new int[12];
-        int monthInt;
-        for (ReadOnlyPerson p : readOnlyAddressBook.getPersonList()) {
-            String month = p.getBirthday().toString().replaceAll("[^a-zA-Z]+", "");
-            switch(month) {
-            case "Feb":
-                monthInt = 1;
-                break;
-            case "Mar":
-                monthInt = 2;
-                break;
-            case "Apr":
-                monthInt = 3;
-                break;
-            case "May":
-                monthInt = 4;
-                break;
-            case "Jun":
-                monthInt = 5;
-                break;
-            case "Jul":
-                monthInt = 6;
-                break;
-            case "Aug":
-                monthInt = 7;
-                break;
-            case "Sep":
-                monthInt = 8;
-                break;
-            case "Oct":
-                monthInt = 9;
-                break;
-            case "Nov":
-                monthInt = 10;
-                break;
-            case "Dec":
-                monthInt = 11;
-                break;
-            default: // Jan
-                monthInt = 0;
-                break;
-            }
-            monthCounter[monthInt]++;
-        }
-
-        // Create a XYChart.Data object for each month. Add it to the series.
-        for (int i = 0; i < monthCounter.length; i++) {
-            series.getData().add(new XYChart.Data<>(monthNames.get(i), monthCounter[i]));
+    /**
+     * Redraws the bars of {@code months} only.
+     */
+    private void redrawBars(Collection<Month> months) {
+        for (Month month : months) {
+            bars.get(month.ordinal()).setYValue(statistics.getBirthdayCount(month));
         }
-
-        Platform.runLater(()-> {
-            barChart.getData().clear();
-            barChart.getData().add(series);
-            barChart.setLegendVisible(false);
-        });
-
     }
 
     @Subscribe
+    @HandleOn(ThreadMode.FX_THREAD)
     public void handleAddressBookChangedEvent(AddressBookChangedEvent abce) {
         logger.info("Birthday statistics updated.");
-        setPersonData(abce.data);
+        redrawBars(abce.change == null
+                ? EnumSet.allOf(Month.class)
+                : AddressBookStatistics.getBirthdayMonths(abce.change));
+    }
+
+    @Subscribe
+    @HandleOn(ThreadMode.FX_THREAD)
+    public void handleAddressBookLoadingEvent(AddressBookLoadingEvent event) {
+        // the statistics are only drawn once all persons are loaded
+        if (event.isFinished()) {
+            redrawBars(EnumSet.allOf(Month.class));
+        }
     }
 }
@@ -10,8 +10,11 @@ import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
 import javafx.scene.text.Text;
+import seedu.address.commons.core.HandleOn;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.ThreadMode;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.commons.events.model.AddressBookLoadingEvent;
 import seedu.address.model.ReadOnlyAddressBook;
 
 // @@author johnweikangong
@@ -55,8 +58,15 @@ public class HomePanel extends UiPart<Region> {
     }
 
     @Subscribe
+    @HandleOn(ThreadMode.FX_THREAD)
     public void handleAddressBookChangedEvent(AddressBookChangedEvent abce) {
         logger.info("Home panel new status: " + abce.data.getPersonList().size() + " persons ");
         setAppData(abce.data.getPersonList().size(), abce.data.getTagList().size());
     }
+
+    @Subscribe
+    @HandleOn(ThreadMode.FX_THREAD)
+    public void handleAddressBookLoadingEvent(AddressBookLoadingEvent event) {
+        setAppData(event.data.getPersonList().size(), event.data.getTagList().size());
+    }
 }
@@ -169,10 +169,10 @@ public class MainWindow extends UiPart<Region> {
         helpPanel = new HelpPanel();
         informationPanelPlaceholder.getChildren().add(helpPanel.getRoot());
 
-        birthdayStatisticsPanel = new BirthdayStatisticsPanel(logic.getAddressBook());
+        birthdayStatisticsPanel = new BirthdayStatisticsPanel(logic.getStatistics());
         informationPanelPlaceholder.getChildren().add(birthdayStatisticsPanel.getRoot());
 
-        tagStatisticsPanel = new TagStatisticsPanel(logic.getAddressBook());
+        tagStatisticsPanel = new TagStatisticsPanel(logic.getStatistics());
         informationPanelPlaceholder.getChildren().add(tagStatisticsPanel.getRoot());
 
         homePanel = new HomePanel(logic.getAddressBook());
@@ -4,13 +4,14 @@ import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
 
-import javafx.application.Platform;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextArea;
 import javafx.scene.layout.Region;
+import seedu.address.commons.core.HandleOn;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.ThreadMode;
 import seedu.address.commons.events.ui.NewResultAvailableEvent;
 
 /**
@@ -33,9 +34,10 @@ public class ResultDisplay extends UiPart<Region> {
     }
 
     @Subscribe
+    @HandleOn(ThreadMode.FX_THREAD)
     private void handleNewResultAvailableEvent(NewResultAvailableEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
-        Platform.runLater(() -> displayed.setValue(event.message));
+        displayed.setValue(event.message);
     }
 
 }
@@ -11,8 +11,11 @@ import com.google.common.eventbus.Subscribe;
 import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.layout.Region;
+import seedu.address.commons.core.HandleOn;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.ThreadMode;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.commons.events.model.AddressBookLoadingEvent;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
@@ -21,6 +24,8 @@ public class StatusBarFooter extends UiPart<Region> {
 
     public static final String SYNC_STATUS_INITIAL = "Not updated yet in this session";
     public static final String SYNC_STATUS_UPDATED = "Last Updated: %s";
+    public static final String SYNC_STATUS_READING = "Loading contacts...";
+    public static final String SYNC_STATUS_LOADING = "Loading contacts: %1$d of %2$d";
 
     /**
      * Used to generate time stamps.
@@ -72,6 +77,7 @@ public class StatusBarFooter extends UiPart<Region> {
     }
 
     @Subscribe
+    @HandleOn(ThreadMode.FX_THREAD)
     public void handleAddressBookChangedEvent(AddressBookChangedEvent abce) {
         long now = clock.millis();
         String lastUpdated = new Date(now).toString();
@@ -79,4 +85,16 @@ public class StatusBarFooter extends UiPart<Region> {
                 + lastUpdated));
         setSyncStatus(String.format(SYNC_STATUS_UPDATED, lastUpdated));
     }
+
+    @Subscribe
+    @HandleOn(ThreadMode.FX_THREAD)
+    public void handleAddressBookLoadingEvent(AddressBookLoadingEvent event) {
+        if (event.isFinished()) {
+            setSyncStatus(SYNC_STATUS_INITIAL);
+        } else if (event.totalCount == AddressBookLoadingEvent.UNKNOWN_TOTAL) {
+            setSyncStatus(SYNC_STATUS_READING);
+        } else {
+            setSyncStatus(String.format(SYNC_STATUS_LOADING, event.loadedCount, event.totalCount));
+        }
+    }
 }
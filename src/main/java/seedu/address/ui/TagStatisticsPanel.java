@@ -1,11 +1,14 @@
 package seedu.address.ui;
 
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
 
-import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
@@ -13,16 +16,18 @@ import javafx.scene.chart.BarChart;
 import javafx.scene.chart.CategoryAxis;
 import javafx.scene.chart.XYChart;
 import javafx.scene.layout.Region;
+import seedu.address.commons.core.HandleOn;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.ThreadMode;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
-import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.commons.events.model.AddressBookLoadingEvent;
+import seedu.address.model.AddressBookStatistics;
 import seedu.address.model.tag.Tag;
 
 //@@author Valerieyue
 
 /**
- * The birthday statistics panel of the App.
+ * The tag statistics panel of the App.
  */
 public class TagStatisticsPanel extends UiPart<Region> {
 
@@ -35,65 +40,82 @@ public class TagStatisticsPanel extends UiPart<Region> {
     private CategoryAxis xAxis;
 
     private final Logger logger = LogsCenter.getLogger(this.getClass());
-    private ObservableList<String> tagNames = FXCollections.observableArrayList();
+    private final AddressBookStatistics statistics;
+    private final ObservableList<String> tagNames = FXCollections.observableArrayList();
+    private final XYChart.Series<String, Integer> series = new XYChart.Series<>();
+    // the bar of each tag that a person has
+    private final Map<Tag, XYChart.Data<String, Integer>> bars = new HashMap<>();
 
-    public TagStatisticsPanel(ReadOnlyAddressBook readOnlyAddressBook) {
+    public TagStatisticsPanel(AddressBookStatistics statistics) {
         super(FXML);
-        setPersonData(readOnlyAddressBook);
+        this.statistics = statistics;
+        xAxis.setCategories(tagNames);
+        barChart.getData().add(series);
+        barChart.setLegendVisible(false);
+        redrawAllBars();
         barChart.setCategoryGap(10);
         barChart.setTitle("Tags Statistics");
         xAxis.setLabel("Tags");
         registerAsAnEventHandler(this);
     }
 
-    private void setPersonData(ReadOnlyAddressBook readOnlyAddressBook) {
-        XYChart.Series<String, Integer> series = new XYChart.Series<>();
-
-        // Get an array with the tags.
-        tagNames.clear();
-        for (ReadOnlyPerson person : readOnlyAddressBook.getPersonList()) {
-            Set<Tag> personTags = person.getTags();
-            for (Tag tag : personTags) {
-                // to prevent adding duplicated tags
-                if (!tagNames.contains(tag.getTagName())) {
-                    tagNames.add(tag.getTagName());
-                }
-            }
+    /**
+     * Replaces the bars with a bar for every tag that a person has.
+     */
+    private void redrawAllBars() {
+        final List<String> newTagNames = new ArrayList<>();
+        final List<XYChart.Data<String, Integer>> newBars = new ArrayList<>();
+        bars.clear();
+        for (Tag tag : statistics.getTags()) {
+            XYChart.Data<String, Integer> bar = new XYChart.Data<>(tag.tagName, statistics.getTagCount(tag));
+            bars.put(tag, bar);
+            newTagNames.add(tag.tagName);
+            newBars.add(bar);
         }
-        Logger.getLogger(tagNames.toString());
-
-        // Assign the tag as categories for the horizontal axis.
-        xAxis.setCategories(tagNames);
+        tagNames.setAll(newTagNames);
+        series.getData().setAll(newBars);
+    }
 
-        // Count the number of people who have the same tag.
-        int[] tagCounter = new int[tagNames.size()];
-        for (ReadOnlyPerson p : readOnlyAddressBook.getPersonList()) {
-            String tagString = p.getTags().toString();
-            String[] tagArray = tagString.split(",");
-            for (int k = 0; k < tagArray.length; k++) {
-                String tag = tagArray[k].replaceAll("[^a-zA-Z]+", "");
-                if (tagNames.indexOf(tag) >= 0 && tagNames.indexOf(tag) < tagNames.size()) {
-                    tagCounter[tagNames.indexOf(tag)]++;
-                }
+    /**
+     * Redraws the bars of {@code tags} only. A tag that no person has any more loses its bar, and a tag that
+     * persons have gained gets one.
+     */
+    private void redrawBars(Collection<Tag> tags) {
+        for (Tag tag : tags) {
+            int count = statistics.getTagCount(tag);
+            XYChart.Data<String, Integer> bar = bars.get(tag);
+            if (count == 0 && bar != null) {
+                bars.remove(tag);
+                series.getData().remove(bar);
+                tagNames.remove(tag.tagName);
+            } else if (count > 0 && bar == null) {
+                bar = new XYChart.Data<>(tag.tagName, count);
+                bars.put(tag, bar);
+                tagNames.add(tag.tagName);
+                series.getData().add(bar);
+            } else if (bar != null) {
+                bar.setYValue(count);
             }
         }
-
-        // Create a XYChart.Data object for each month. Add it to the series.
-        for (int i = 0; i < tagCounter.length; i++) {
-            series.getData().add(new XYChart.Data<>(tagNames.get(i), tagCounter[i]));
-        }
-
-        Platform.runLater(()-> {
-            barChart.getData().clear();
-            barChart.getData().add(series);
-            barChart.setLegendVisible(false);
-        });
-
     }
 
     @Subscribe
+    @HandleOn(ThreadMode.FX_THREAD)
     public void handleAddressBookChangedEvent(AddressBookChangedEvent abce) {
         logger.info("Tag statistics updated.");
-        setPersonData(abce.data);
+        if (abce.change == null) {
+            redrawAllBars();
+        } else {
+            redrawBars(abce.change.getTagCountChanges().keySet());
+        }
+    }
+
+    @Subscribe
+    @HandleOn(ThreadMode.FX_THREAD)
+    public void handleAddressBookLoadingEvent(AddressBookLoadingEvent event) {
+        // the statistics are only drawn once all persons are loaded
+        if (event.isFinished()) {
+            redrawAllBars();
+        }
     }
 }
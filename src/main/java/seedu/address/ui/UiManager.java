@@ -12,7 +12,9 @@ import javafx.stage.Stage;
 import seedu.address.MainApp;
 import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.Config;
+import seedu.address.commons.core.HandleOn;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.ThreadMode;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
 import seedu.address.commons.events.ui.ChangeInformationPanelRequestEvent;
 import seedu.address.commons.util.StringUtil;
@@ -146,6 +148,7 @@ public class UiManager extends ComponentManager implements Ui {
     //============================ Event Handling Code =================================//
 
     @Subscribe
+    @HandleOn(ThreadMode.FX_THREAD)
     private void handleDataSavingExceptionEvent(DataSavingExceptionEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
         showFileOperationAlertAndWait(FILE_OPS_ERROR_DIALOG_HEADER_MESSAGE, FILE_OPS_ERROR_DIALOG_CONTENT_MESSAGE,
@@ -57,6 +57,8 @@ public abstract class AddressBookGuiTest {
 
         mainWindowHandle = new MainWindowHandle(stage);
         mainWindowHandle.focus();
+        // the panels show the loaded address book once they have handled its loading events
+        guiRobot.waitForQueuedEvents();
     }
 
     /**
@@ -7,6 +7,7 @@ import org.testfx.api.FxRobot;
 
 import guitests.guihandles.exceptions.StageNotFoundException;
 import javafx.stage.Stage;
+import seedu.address.commons.core.EventsCenter;
 
 /**
  * Robot used to simulate user actions on the GUI.
@@ -71,6 +72,16 @@ public class GuiRobot extends FxRobot {
         pauseForHuman();
     }
 
+    /**
+     * Waits for the event handlers that run on the JavaFX thread or in the background, such as those of the
+     * result display and the status bar, to finish handling the events posted so far.
+     *
+     * @see EventsCenter#hasQueuedEvents()
+     */
+    public void waitForQueuedEvents() {
+        waitForEvent(() -> !EventsCenter.getInstance().hasQueuedEvents());
+    }
+
     /**
      * Returns true if the window with {@code stageTitle} is currently open.
      */
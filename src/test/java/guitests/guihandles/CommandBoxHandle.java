@@ -34,7 +34,8 @@ public class CommandBoxHandle extends NodeHandle<TextField> {
 
         guiRobot.type(KeyCode.ESCAPE); // Hides the suggestions popup menu (if any) before continuing.
         guiRobot.type(KeyCode.ENTER);
-
+        // the result display and status bar are updated after the command returns
+        guiRobot.waitForQueuedEvents();
 
         return !getStyleClass().contains(CommandBox.ERROR_STYLE_CLASS);
     }
@@ -76,6 +76,7 @@ public class TestApp extends MainApp {
      */
     public AddressBook readStorageAddressBook() {
         try {
+            storage.flushPendingSaves();
             return new AddressBook(storage.readAddressBook().get());
         } catch (DataConversionException dce) {
             throw new AssertionError("Data is not in the AddressBook format.");
@@ -120,6 +121,8 @@ public class TestApp extends MainApp {
     @Override
     public void start(Stage primaryStage) {
         ui.start(primaryStage);
+        // loaded on this thread, so the tests see the whole address book as soon as the app is started
+        loadAddressBook();
     }
 
     public static void main(String[] args) {
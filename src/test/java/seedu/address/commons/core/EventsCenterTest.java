@@ -0,0 +1,229 @@
+package seedu.address.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import com.google.common.eventbus.Subscribe;
+
+import seedu.address.commons.events.BaseEvent;
+import seedu.address.commons.events.CoalescibleEvent;
+
+public class EventsCenterTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final QueuedExecutor fxThreadExecutor = new QueuedExecutor();
+    private final QueuedExecutor backgroundThreadExecutor = new QueuedExecutor();
+    private final EventsCenter eventsCenter = new EventsCenter(fxThreadExecutor, backgroundThreadExecutor);
+    private final List<String> handled = new ArrayList<>();
+
+    @Test
+    public void post_inlineHandlers_nestedEventsHandledAfterCurrentOne() {
+        eventsCenter.registerHandler(new Object() {
+            @Subscribe
+            private void handleFirstEvent(FirstEvent event) {
+                handled.add("first by A");
+                eventsCenter.post(new SecondEvent());
+            }
+
+            @Subscribe
+            private void handleSecondEvent(SecondEvent event) {
+                handled.add("second by A");
+            }
+        });
+        eventsCenter.registerHandler(new Object() {
+            @Subscribe
+            private void handleFirstEvent(FirstEvent event) {
+                handled.add("first by B");
+            }
+        });
+
+        eventsCenter.post(new FirstEvent());
+        assertEquals(Arrays.asList("first by A", "first by B", "second by A"), handled);
+    }
+
+    @Test
+    public void post_fxThreadAndBackgroundHandlers_queuedWithoutHoldingUpPoster() {
+        eventsCenter.registerHandler(new ModeHandlers());
+
+        eventsCenter.post(new FirstEvent());
+        eventsCenter.post(new SecondEvent());
+        assertEquals(Arrays.asList("first inline", "second inline"), handled);
+
+        // each handler is handed one event at a time, so it receives them in the order they were posted
+        assertEquals(1, fxThreadExecutor.tasks.size());
+        assertEquals(1, backgroundThreadExecutor.tasks.size());
+        fxThreadExecutor.runAll();
+        assertTrue(eventsCenter.hasQueuedEvents());
+        backgroundThreadExecutor.runAll();
+        assertFalse(eventsCenter.hasQueuedEvents());
+        assertEquals(Arrays.asList("first inline", "second inline", "first on fx thread", "second on fx thread",
+                "first in background", "second in background"), handled);
+    }
+
+    @Test
+    public void post_coalescibleEventsWhileHandlerIsBehind_pendingEventsCoalesced() {
+        eventsCenter.registerHandler(new Object() {
+            @Subscribe
+            @HandleOn(ThreadMode.FX_THREAD)
+            private void handleCountingEvent(CountingEvent event) {
+                handled.add(event.toString());
+            }
+
+            @Subscribe
+            @HandleOn(ThreadMode.FX_THREAD)
+            private void handleFirstEvent(FirstEvent event) {
+                handled.add(event.toString());
+            }
+        });
+
+        eventsCenter.post(new CountingEvent(1));
+        eventsCenter.post(new CountingEvent(2));
+        eventsCenter.post(new FirstEvent());
+        eventsCenter.post(new CountingEvent(4));
+        fxThreadExecutor.runAll();
+        eventsCenter.post(new CountingEvent(8));
+        fxThreadExecutor.runAll();
+        // the events a handler has not started handling are coalesced, whatever other handlers receive in between
+        assertEquals(Arrays.asList("7", "first", "8"), handled);
+    }
+
+    @Test
+    public void post_handlerThrows_otherHandlersStillRun() {
+        eventsCenter.registerHandler(new Object() {
+            @Subscribe
+            private void handleFirstEvent(FirstEvent event) {
+                throw new IllegalStateException("handler failure");
+            }
+        });
+        eventsCenter.registerHandler(new ModeHandlers());
+
+        eventsCenter.post(new FirstEvent());
+        assertEquals(Arrays.asList("first inline"), handled);
+    }
+
+    @Test
+    public void registerHandler_inheritedHandlerOfSupertypeEvent_receivesSubtypeEvents() {
+        eventsCenter.registerHandler(new InheritingHandlers());
+
+        eventsCenter.post(new FirstEvent());
+        assertEquals(Arrays.asList("base event"), handled);
+    }
+
+    @Test
+    public void registerHandler_handlerWithoutParameter_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        eventsCenter.registerHandler(new Object() {
+            @Subscribe
+            private void handleNothing() {
+            }
+        });
+    }
+
+    /**
+     * Handlers of the same events in every thread mode.
+     */
+    private class ModeHandlers {
+        @Subscribe
+        private void handleFirstEvent(FirstEvent event) {
+            handled.add("first inline");
+        }
+
+        @Subscribe
+        private void handleSecondEvent(SecondEvent event) {
+            handled.add("second inline");
+        }
+
+        @Subscribe
+        @HandleOn(ThreadMode.FX_THREAD)
+        private void handleEventOnFxThread(BaseEvent event) {
+            handled.add((event instanceof FirstEvent ? "first" : "second") + " on fx thread");
+        }
+
+        @Subscribe
+        @HandleOn(ThreadMode.BACKGROUND)
+        private void handleEventInBackground(BaseEvent event) {
+            handled.add((event instanceof FirstEvent ? "first" : "second") + " in background");
+        }
+    }
+
+    private class BaseHandlers {
+        @Subscribe
+        private void handleBaseEvent(BaseEvent event) {
+            handled.add("base event");
+        }
+    }
+
+    private class InheritingHandlers extends BaseHandlers {
+    }
+
+    /**
+     * An executor that runs its tasks when told to.
+     */
+    private static class QueuedExecutor implements Executor {
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable task) {
+            tasks.add(task);
+        }
+
+        /**
+         * Runs the queued tasks, including those queued while they run.
+         */
+        void runAll() {
+            for (Runnable task = tasks.poll(); task != null; task = tasks.poll()) {
+                task.run();
+            }
+        }
+    }
+
+    /**
+     * An event that coalesces by adding up its counts.
+     */
+    private static class CountingEvent extends BaseEvent implements CoalescibleEvent<CountingEvent> {
+        private final int count;
+
+        CountingEvent(int count) {
+            this.count = count;
+        }
+
+        @Override
+        public CountingEvent coalesce(CountingEvent later) {
+            return new CountingEvent(count + later.count);
+        }
+
+        @Override
+        public String toString() {
+            return String.valueOf(count);
+        }
+    }
+
+    private static class FirstEvent extends BaseEvent {
+        @Override
+        public String toString() {
+            return "first";
+        }
+    }
+
+    private static class SecondEvent extends BaseEvent {
+        @Override
+        public String toString() {
+            return "second";
+        }
+    }
+
+}
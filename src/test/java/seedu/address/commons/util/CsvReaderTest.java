@@ -0,0 +1,66 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+public class CsvReaderTest {
+
+    @Test
+    public void readRow_plainRows_success() throws Exception {
+        CsvReader reader = new CsvReader(new StringReader("\uFEFFName,Phone\r\nAlice,85355255\n\nBob,\rCarl"));
+        assertEquals(Arrays.asList("Name", "Phone"), reader.readRow());
+        assertEquals(Arrays.asList("Alice", "85355255"), reader.readRow());
+        // empty lines are skipped, and an empty last field is kept
+        assertEquals(Arrays.asList("Bob", ""), reader.readRow());
+        assertEquals(Arrays.asList("Carl"), reader.readRow());
+        assertNull(reader.readRow());
+    }
+
+    @Test
+    public void readRow_quotedFields_success() throws Exception {
+        CsvReader reader = new CsvReader(new StringReader("\"123, Jurong\",\"say \"\"hi\"\"\",\"two\r\nlines\"\r\n"));
+        assertEquals(Arrays.asList("123, Jurong", "say \"hi\"", "two\r\nlines"), reader.readRow());
+        assertNull(reader.readRow());
+    }
+
+    @Test
+    public void getLineNumber_rows_lineOnWhichRowStarts() throws Exception {
+        CsvReader reader = new CsvReader(new StringReader("Name,Address\r\n\r\nAlice,\"two\r\nlines\"\rBob,x\n"));
+        reader.readRow();
+        assertEquals(1, reader.getLineNumber());
+        // an empty line is skipped but counted
+        reader.readRow();
+        assertEquals(3, reader.getLineNumber());
+        // a quoted line break is counted
+        reader.readRow();
+        assertEquals(5, reader.getLineNumber());
+    }
+
+    @Test
+    public void readRow_writtenByCsvWriter_sameFields() throws Exception {
+        List<List<String>> rows = Arrays.asList(
+                Arrays.asList("Name", "Address", "Tags"),
+                Arrays.asList("Alice", "123, \"Jurong\" West", "[friends][colleagues]"),
+                Arrays.asList("", "line\nbreak", ","));
+        StringWriter out = new StringWriter();
+        try (CsvWriter writer = new CsvWriter(out)) {
+            for (List<String> row : rows) {
+                writer.writeRow(row);
+            }
+        }
+
+        try (CsvReader reader = new CsvReader(new StringReader(out.toString()))) {
+            for (List<String> row : rows) {
+                assertEquals(row, reader.readRow());
+            }
+            assertNull(reader.readRow());
+        }
+    }
+}
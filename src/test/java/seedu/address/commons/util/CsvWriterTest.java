@@ -0,0 +1,46 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.StringWriter;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+public class CsvWriterTest {
+
+    @Test
+    public void writeField_plainFields_notQuoted() throws Exception {
+        assertEquals("Alice,85355255,\r\n", write("Alice", "85355255", ""));
+    }
+
+    @Test
+    public void writeField_specialCharacters_quoted() throws Exception {
+        assertEquals("\"123, Jurong West\",\"say \"\"hi\"\"\",\"two\nlines\",\"cr\rhere\"\r\n",
+                write("123, Jurong West", "say \"hi\"", "two\nlines", "cr\rhere"));
+    }
+
+    @Test
+    public void writeRow_severalRows_eachEndsWithCrLf() throws Exception {
+        StringWriter out = new StringWriter();
+        try (CsvWriter writer = new CsvWriter(out)) {
+            writer.writeRow(Arrays.asList("Name", "Phone"));
+            writer.writeRow(Arrays.asList("Alice", "85355255"));
+        }
+        assertEquals("Name,Phone\r\nAlice,85355255\r\n", out.toString());
+    }
+
+    /**
+     * Returns the text of one row of {@code fields} written by a {@code CsvWriter}.
+     */
+    private String write(String... fields) throws Exception {
+        StringWriter out = new StringWriter();
+        try (CsvWriter writer = new CsvWriter(out)) {
+            for (String field : fields) {
+                writer.writeField(field);
+            }
+            writer.endRow();
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class XmlRecordReaderTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void readRecord_records_fieldsInOrder() throws Exception {
+        String xml = "<?xml version=\"1.0\"?><addressbook>"
+                + "<persons><name>Alice</name><tagged>friends</tagged><tagged>family</tagged></persons>"
+                + "<tags>friends</tags>"
+                + "<persons><name>Bob &amp; Co</name><address/></persons>"
+                + "</addressbook>";
+        try (XmlRecordReader reader = new XmlRecordReader(new StringReader(xml), "persons")) {
+            Map<String, List<String>> alice = new LinkedHashMap<>();
+            alice.put("name", Collections.singletonList("Alice"));
+            alice.put("tagged", Arrays.asList("friends", "family"));
+            assertEquals(alice, reader.readRecord());
+
+            Map<String, List<String>> bob = new LinkedHashMap<>();
+            bob.put("name", Collections.singletonList("Bob & Co"));
+            bob.put("address", Collections.singletonList(""));
+            assertEquals(bob, reader.readRecord());
+
+            assertNull(reader.readRecord());
+        }
+    }
+
+    @Test
+    public void readRecord_severalRecordElements_nameAndTextOfEach() throws Exception {
+        String xml = "<addressbook><persons><name>Alice</name></persons><tags>friends</tags></addressbook>";
+        try (XmlRecordReader reader = new XmlRecordReader(new StringReader(xml), "persons", "tags")) {
+            assertEquals(Collections.singletonMap("name", Collections.singletonList("Alice")), reader.readRecord());
+            assertEquals("persons", reader.getRecordElement());
+
+            assertEquals(Collections.emptyMap(), reader.readRecord());
+            assertEquals("tags", reader.getRecordElement());
+            assertEquals("friends", reader.getRecordText());
+            assertNull(reader.readRecord());
+        }
+    }
+
+    @Test
+    public void getLineNumber_recordsOnLines_lineOfStartTag() throws Exception {
+        String xml = "<?xml version=\"1.0\"?>\n<addressbook>\n<persons>\n<name>Alice</name>\n</persons>"
+                + "<persons><name>Bob</name></persons>\n</addressbook>";
+        try (XmlRecordReader reader = new XmlRecordReader(new StringReader(xml), "persons")) {
+            reader.readRecord();
+            assertEquals(3, reader.getLineNumber());
+            reader.readRecord();
+            assertEquals(5, reader.getLineNumber());
+        }
+    }
+
+    @Test
+    public void readRecord_malformedXml_throwsIoException() throws Exception {
+        try (XmlRecordReader reader = new XmlRecordReader(new StringReader("<a><persons><name>x</persons>"),
+                "persons")) {
+            thrown.expect(IOException.class);
+            reader.readRecord();
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package seedu.address.commons.util;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 
 import javax.xml.bind.JAXBException;
 
@@ -94,4 +98,56 @@ public class XmlUtilTest {
         dataFromFile = XmlUtil.getDataFromFile(TEMP_FILE, XmlSerializableAddressBook.class);
         assertEquals((new AddressBook(dataToWrite)).toString(), (new AddressBook(dataFromFile)).toString());
     }
+
+    @Test
+    public void saveDataToFile_unformattedOutput_dataSavedOnOneLine() throws Exception {
+        TEMP_FILE.createNewFile();
+        XmlSerializableAddressBook dataToWrite = new XmlSerializableAddressBook(new AddressBookBuilder()
+                .withPerson(new PersonBuilder().build()).withTag("Friends").build());
+
+        XmlUtil.saveDataToFile(TEMP_FILE, dataToWrite, false);
+        String unformatted = new String(Files.readAllBytes(TEMP_FILE.toPath()), StandardCharsets.UTF_8);
+        assertFalse(unformatted.trim().contains("\n"));
+        XmlSerializableAddressBook dataFromFile = XmlUtil.getDataFromFile(TEMP_FILE, XmlSerializableAddressBook.class);
+        assertEquals((new AddressBook(dataToWrite)).toString(), (new AddressBook(dataFromFile)).toString());
+
+        // the reused marshaller does not keep the setting of the previous save
+        XmlUtil.saveDataToFile(TEMP_FILE, dataToWrite);
+        String formatted = new String(Files.readAllBytes(TEMP_FILE.toPath()), StandardCharsets.UTF_8);
+        assertTrue(formatted.trim().contains("\n"));
+    }
+
+    @Test
+    public void saveDataToFile_concurrentSaves_dataSaved() throws Exception {
+        XmlSerializableAddressBook dataToWrite = new XmlSerializableAddressBook(new AddressBookBuilder()
+                .withPerson(new PersonBuilder().build()).withTag("Friends").build());
+        File[] files = new File[4];
+        Thread[] savers = new Thread[files.length];
+        Exception[] failures = new Exception[files.length];
+        for (int i = 0; i < files.length; i++) {
+            final int saver = i;
+            files[i] = new File(TestUtil.getFilePathInSandboxFolder("tempAddressBook" + i + ".xml"));
+            files[i].createNewFile();
+            savers[i] = new Thread(() -> {
+                try {
+                    for (int j = 0; j < 20; j++) {
+                        XmlUtil.saveDataToFile(files[saver], dataToWrite, j % 2 == 0);
+                    }
+                } catch (Exception e) {
+                    failures[saver] = e;
+                }
+            });
+            savers[i].start();
+        }
+
+        for (int i = 0; i < files.length; i++) {
+            savers[i].join();
+            if (failures[i] != null) {
+                throw failures[i];
+            }
+            XmlSerializableAddressBook dataFromFile = XmlUtil.getDataFromFile(files[i],
+                    XmlSerializableAddressBook.class);
+            assertEquals((new AddressBook(dataToWrite)).toString(), (new AddressBook(dataFromFile)).toString());
+        }
+    }
 }
@@ -1,27 +1,49 @@
 package seedu.address.logic;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Queue;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
 
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.commons.events.model.AddressBookLoadingEvent;
+import seedu.address.commons.events.ui.NewResultAvailableEvent;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.HistoryCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.ui.testutil.EventsCollectorRule;
 
 
 public class LogicManagerTest {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
     private Model model = new ModelManager();
     private Logic logic = new LogicManager(model);
 
@@ -46,6 +68,87 @@ public class LogicManagerTest {
         assertHistoryCorrect(listCommand);
     }
 
+    @Test
+    public void execute_whileLoading_queuedUntilLoaded() throws Exception {
+        Model loadedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        EventsCenter.getInstance().post(new AddressBookLoadingEvent(model.getAddressBook(), 0,
+                AddressBookLoadingEvent.UNKNOWN_TOTAL));
+
+        String deleteCommand = "delete 1";
+        CommandResult result = logic.execute(deleteCommand);
+        assertEquals(String.format(LogicManager.MESSAGE_COMMAND_QUEUED, deleteCommand), result.feedbackToUser);
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof AddressBookLoadingEvent);
+
+        int personCount = loadedModel.getAddressBook().getPersonList().size();
+        model.addLoadedData(loadedModel.getAddressBook().getTagList(), loadedModel.getAddressBook().getPersonList());
+        EventsCenter.getInstance().post(new AddressBookLoadingEvent(model.getAddressBook(), personCount,
+                personCount));
+
+        // the queued command ran once loading finished, and its result was raised
+        assertEquals(personCount - 1, model.getAddressBook().getPersonList().size());
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof NewResultAvailableEvent);
+        assertHistoryCorrect(deleteCommand);
+
+        // commands run straight away after loading
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+    }
+
+    @Test
+    public void execute_failingCommandWhileLoading_laterQueuedCommandsStillExecuted() throws Exception {
+        Model loadedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        EventsCenter.getInstance().post(new AddressBookLoadingEvent(model.getAddressBook(), 0,
+                AddressBookLoadingEvent.UNKNOWN_TOTAL));
+
+        int personCount = loadedModel.getAddressBook().getPersonList().size();
+        String invalidDeleteCommand = "delete " + (personCount + 1);
+        String deleteCommand = "delete 1";
+        logic.execute(invalidDeleteCommand);
+        logic.execute(deleteCommand);
+        assertTrue(model.getAddressBook().getPersonList().isEmpty());
+
+        model.addLoadedData(loadedModel.getAddressBook().getTagList(), loadedModel.getAddressBook().getPersonList());
+        eventsCollectorRule.eventsCollector.reset();
+        EventsCenter.getInstance().post(new AddressBookLoadingEvent(model.getAddressBook(), personCount,
+                personCount));
+
+        // loading event, result of the failed command, change of the deletion, result of the deletion
+        assertEquals(4, eventsCollectorRule.eventsCollector.getSize());
+        assertEquals(personCount - 1, model.getAddressBook().getPersonList().size());
+        NewResultAvailableEvent lastResult = (NewResultAvailableEvent) eventsCollectorRule.eventsCollector
+                .getMostRecent();
+        assertTrue(lastResult.message.startsWith(String.format(DeleteCommand.MESSAGE_DELETE_PERSON_SUCCESS, 1, "")));
+        assertHistoryCorrect(deleteCommand, invalidDeleteCommand);
+    }
+
+    @Test
+    public void execute_commandPreparedInBackground_laterCommandsQueuedUntilItIsExecuted() throws Exception {
+        Queue<Runnable> preparationTasks = new ArrayDeque<>();
+        Queue<Runnable> fxThreadTasks = new ArrayDeque<>();
+        Logic preparingLogic = new LogicManager(model, new UndoRedoStack(), preparationTasks::add, fxThreadTasks::add);
+        File file = testFolder.newFile("contacts.csv");
+        Files.write(file.toPath(), Arrays.asList("Name,Phone", "Alice Pauline,85355255"), StandardCharsets.UTF_8);
+        String importCommand = ImportCommand.COMMAND_WORD + " " + file.getPath();
+        String listCommand = ListCommand.COMMAND_WORD;
+
+        assertEquals(String.format(LogicManager.MESSAGE_COMMAND_PREPARING, importCommand),
+                preparingLogic.execute(importCommand).feedbackToUser);
+        assertEquals(String.format(LogicManager.MESSAGE_COMMAND_QUEUED_WHILE_PREPARING, listCommand, importCommand),
+                preparingLogic.execute(listCommand).feedbackToUser);
+
+        // the file is read in the background, but the model is only changed once the command is handed back
+        preparationTasks.remove().run();
+        assertTrue(model.getAddressBook().getPersonList().isEmpty());
+        eventsCollectorRule.eventsCollector.reset();
+        fxThreadTasks.remove().run();
+
+        // change of the import, result of the import, result of the queued list command
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+        assertEquals(3, eventsCollectorRule.eventsCollector.getSize());
+        NewResultAvailableEvent lastResult = (NewResultAvailableEvent) eventsCollectorRule.eventsCollector
+                .getMostRecent();
+        assertEquals(ListCommand.MESSAGE_SUCCESS, lastResult.message);
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -18,6 +18,7 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.UndoableCommand;
+import seedu.address.model.ModelManager;
 
 public class UndoRedoStackTest {
     private final DummyCommand dummyCommandOne = new DummyCommand();
@@ -140,6 +141,67 @@ public class UndoRedoStackTest {
                 Collections.emptyList());
     }
 
+    @Test
+    public void push_overDepthLimit_oldestCommandDropped() {
+        undoRedoStack = new UndoRedoStack(2, Long.MAX_VALUE);
+        DummyUndoableCommand dummyUndoableCommandThree = new DummyUndoableCommand();
+        undoRedoStack.push(dummyUndoableCommandOne);
+        undoRedoStack.push(dummyUndoableCommandTwo);
+        undoRedoStack.push(dummyUndoableCommandThree);
+
+        assertEquals(dummyUndoableCommandThree, undoRedoStack.popUndo());
+        assertEquals(dummyUndoableCommandTwo, undoRedoStack.popUndo());
+        assertFalse(undoRedoStack.canUndo());
+    }
+
+    @Test
+    public void push_overMemoryBudget_oldestCommandDroppedAndUsageReported() {
+        undoRedoStack = new UndoRedoStack(Integer.MAX_VALUE, 250);
+        SizedUndoableCommand first = new SizedUndoableCommand(100);
+        SizedUndoableCommand second = new SizedUndoableCommand(100);
+        SizedUndoableCommand third = new SizedUndoableCommand(100);
+
+        undoRedoStack.push(first);
+        undoRedoStack.push(second);
+        assertEquals(200, undoRedoStack.getEstimatedMemoryUsage());
+
+        undoRedoStack.push(third);
+        assertEquals(200, undoRedoStack.getEstimatedMemoryUsage());
+        assertEquals(third, undoRedoStack.popUndo());
+        assertEquals(second, undoRedoStack.popUndo());
+        assertFalse(undoRedoStack.canUndo());
+
+        // the redo-stack is cleared by a new command, which frees its memory
+        undoRedoStack.push(dummyCommandOne);
+        assertEquals(0, undoRedoStack.getEstimatedMemoryUsage());
+    }
+
+    @Test
+    public void push_estimateChangedAfterPush_pushedEstimateReleased() {
+        undoRedoStack = new UndoRedoStack(Integer.MAX_VALUE, 50);
+        SizedUndoableCommand first = new SizedUndoableCommand(0);
+        SizedUndoableCommand second = new SizedUndoableCommand(100);
+        undoRedoStack.push(first);
+        // as if the command was first executed when it was redone
+        first.size = 100;
+
+        undoRedoStack.push(second);
+        assertEquals(100, undoRedoStack.getEstimatedMemoryUsage());
+        assertEquals(second, undoRedoStack.popUndo());
+        assertFalse(undoRedoStack.canUndo());
+    }
+
+    @Test
+    public void push_undoableCommandWithoutChanges_pushedAndRedoStackCleared() throws Exception {
+        undoRedoStack = prepareStack(Collections.emptyList(), Collections.singletonList(dummyUndoableCommandOne));
+        DummyUndoableCommand command = new DummyUndoableCommand();
+        command.setData(new ModelManager(), new CommandHistory(), undoRedoStack);
+        command.execute();
+        undoRedoStack.push(command);
+        assertStackStatus(Collections.singletonList(command), Collections.emptyList());
+        assertEquals(0, undoRedoStack.getEstimatedMemoryUsage());
+    }
+
     @Test
     public void equals() {
         undoRedoStack = prepareStack(Arrays.asList(dummyUndoableCommandTwo, dummyUndoableCommandOne),
@@ -244,4 +306,20 @@ public class UndoRedoStackTest {
             return new CommandResult("");
         }
     }
+
+    /**
+     * An undoable command that reports a fixed amount of memory held for undoing it.
+     */
+    class SizedUndoableCommand extends DummyUndoableCommand {
+        private long size;
+
+        SizedUndoableCommand(long size) {
+            this.size = size;
+        }
+
+        @Override
+        public long getEstimatedMemoryUsage() {
+            return size;
+        }
+    }
 }
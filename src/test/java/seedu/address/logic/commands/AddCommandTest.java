@@ -7,6 +7,8 @@ import static org.junit.Assert.fail;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -18,13 +20,16 @@ import javafx.collections.ObservableList;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.UndoRedoStack;
 import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.AddressBookStatistics;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
 import seedu.address.model.person.ReadOnlyPerson;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddCommandTest {
@@ -97,11 +102,27 @@ public class AddCommandTest {
      * A default model stub that have all of the methods failing.
      */
     private class ModelStub implements Model {
+        @Override
+        public boolean hasPerson(ReadOnlyPerson person) {
+            fail("This method should not be called.");
+            return false;
+        }
+
         @Override
         public void addPerson(ReadOnlyPerson person) throws DuplicatePersonException {
             fail("This method should not be called.");
         }
 
+        @Override
+        public void addPersons(List<? extends ReadOnlyPerson> persons) throws DuplicatePersonException {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public void addLoadedData(Collection<Tag> tags, List<? extends ReadOnlyPerson> persons) {
+            fail("This method should not be called.");
+        }
+
         @Override
         public void resetData(ReadOnlyAddressBook newData) {
             fail("This method should not be called.");
@@ -113,6 +134,28 @@ public class AddCommandTest {
             return null;
         }
 
+        @Override
+        public AddressBookStatistics getStatistics() {
+            fail("This method should not be called.");
+            return null;
+        }
+
+        @Override
+        public void startRecordingChanges() {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public List<AddressBookChange> stopRecordingChanges() {
+            fail("This method should not be called.");
+            return null;
+        }
+
+        @Override
+        public void applyChange(AddressBookChange change) {
+            fail("This method should not be called.");
+        }
+
         @Override
         public void deletePersons(List<ReadOnlyPerson> targets) throws PersonNotFoundException {
             fail("This method should not be called.");
@@ -134,6 +177,11 @@ public class AddCommandTest {
         public void updateFilteredPersonList(Predicate<ReadOnlyPerson> predicate) {
             fail("This method should not be called.");
         }
+
+        @Override
+        public void updateFilteredPersonList(PersonContainsKeywordsPredicate predicate) {
+            fail("This method should not be called.");
+        }
     }
 
     /**
@@ -146,8 +194,12 @@ public class AddCommandTest {
         }
 
         @Override
-        public ReadOnlyAddressBook getAddressBook() {
-            return new AddressBook();
+        public void startRecordingChanges() {
+        }
+
+        @Override
+        public List<AddressBookChange> stopRecordingChanges() {
+            return Collections.emptyList();
         }
     }
 
@@ -163,8 +215,12 @@ public class AddCommandTest {
         }
 
         @Override
-        public ReadOnlyAddressBook getAddressBook() {
-            return new AddressBook();
+        public void startRecordingChanges() {
+        }
+
+        @Override
+        public List<AddressBookChange> stopRecordingChanges() {
+            return Collections.emptyList();
         }
     }
 
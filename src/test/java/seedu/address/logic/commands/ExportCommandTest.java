@@ -2,12 +2,23 @@ package seedu.address.logic.commands;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
-import static seedu.address.logic.commands.ExportCommand.MESSAGE_SUCCESS;
+import static seedu.address.logic.commands.CommandTestUtil.showFirstPersonOnly;
+import static seedu.address.logic.commands.ExportCommand.MESSAGE_EXPORTING;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.List;
 
 import org.junit.Rule;
 import org.junit.Test;
 
 import seedu.address.commons.events.storage.ExportToFileRequestEvent;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.UndoRedoStack;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.PersonField;
 import seedu.address.ui.testutil.EventsCollectorRule;
 
 // @@author johnweikangong
@@ -15,11 +26,40 @@ public class ExportCommandTest {
     @Rule
     public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
 
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
     @Test
     public void execute_export_success() {
-        CommandResult result = new ExportCommand().execute();
-        assertEquals(MESSAGE_SUCCESS, result.feedbackToUser);
+        CommandResult result = prepareCommand(new ExportCommand()).execute();
+        assertEquals(String.format(MESSAGE_EXPORTING, model.getAddressBook().getPersonList().size()),
+                result.feedbackToUser);
         assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof ExportToFileRequestEvent);
         assertTrue(eventsCollectorRule.eventsCollector.getSize() == 1);
+
+        ExportToFileRequestEvent event = (ExportToFileRequestEvent) eventsCollectorRule.eventsCollector
+                .getMostRecent();
+        assertEquals(model.getAddressBook().getPersonList(), event.persons);
+        assertEquals(Arrays.asList(PersonField.values()), event.columns);
+    }
+    // @@author
+
+    @Test
+    public void execute_filteredListAndColumns_onlyThoseExported() {
+        showFirstPersonOnly(model);
+        List<PersonField> columns = Arrays.asList(PersonField.PHONE, PersonField.NAME);
+        prepareCommand(new ExportCommand(true, columns)).execute();
+
+        ExportToFileRequestEvent event = (ExportToFileRequestEvent) eventsCollectorRule.eventsCollector
+                .getMostRecent();
+        assertEquals(model.getFilteredPersonList(), event.persons);
+        assertEquals(columns, event.columns);
+    }
+
+    /**
+     * Returns {@code command} with the data of {@code model}.
+     */
+    private ExportCommand prepareCommand(ExportCommand command) {
+        command.setData(model, new CommandHistory(), new UndoRedoStack());
+        return command;
     }
 }
@@ -0,0 +1,207 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.UndoRedoStack;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.ui.testutil.EventsCollectorRule;
+
+public class ImportCommandTest {
+
+    private static final ReadOnlyPerson HOON_IMPORTED = new PersonBuilder().withName("Hoon Meier")
+            .withPhone("92492021").withBirthday("").withEmail("").withAddress("little india, #01-01")
+            .withPostalCode("").withTags("friends", "colleagues").build();
+    private static final ReadOnlyPerson IDA_IMPORTED = new PersonBuilder().withName("Ida Mueller")
+            .withPhone("93121534").withBirthday("").withEmail("").withAddress("chicago ave")
+            .withPostalCode("").withTags("friends", "colleagues").build();
+
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_csvFile_validRowsImportedAndOthersReported() throws Exception {
+        String filePath = writeFile("contacts.csv",
+                "Phone,Name,Address,Tags,Unknown Column",
+                "92492021,Hoon Meier,\"little india, #01-01\",[friends][colleagues],ignored",
+                "92492021,Hoon Meier,\"little india, #01-01\",[colleagues][friends],",
+                "not a phone,Bad Phone,,,",
+                "93121534,Ida Mueller,chicago ave,friends colleagues,",
+                "93121535");
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.addPersons(Arrays.asList(HOON_IMPORTED, IDA_IMPORTED));
+
+        String expectedMessage = String.format(ImportCommand.MESSAGE_SUCCESS, 2, filePath)
+                + String.format(ImportCommand.MESSAGE_REJECTED_ROWS, 3)
+                + String.format(ImportCommand.MESSAGE_REJECTED_ROW, 3, ImportCommand.MESSAGE_DUPLICATE_PERSON)
+                + String.format(ImportCommand.MESSAGE_REJECTED_ROW, 4, Phone.MESSAGE_PHONE_CONSTRAINTS)
+                + String.format(ImportCommand.MESSAGE_REJECTED_ROW, 6, ImportCommand.MESSAGE_MISSING_FIELDS);
+        assertCommandSuccess(prepareCommand(filePath), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_rowsAcrossBatchesAndKnownPersons_rejectedByLineInFileOrder() throws Exception {
+        List<String> lines = new ArrayList<>();
+        lines.add("Name,Phone,Birthday,Email,Address,Postal Code");
+        lines.add("Bad Phone,not a phone,,,\"two\nlines\",");
+        lines.add("Alice Pauline,85355255,05 nov 89,alice@example.com,\"123, Jurong West Ave 6, #08-111\",555920");
+        for (int i = 0; i < ImportCommand.ROWS_PER_BATCH; i++) {
+            lines.add("Person " + i + "," + (90000000 + i) + ",,,,");
+        }
+        lines.add("Late Bad Phone,not a phone,,,,");
+        String filePath = writeFile("contacts.csv", lines.toArray(new String[0]));
+
+        CommandResult result = prepareCommand(filePath).execute();
+        // the first row spans lines 2 and 3, and Alice is already in the address book
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, ImportCommand.ROWS_PER_BATCH, filePath)
+                + String.format(ImportCommand.MESSAGE_REJECTED_ROWS, 3)
+                + String.format(ImportCommand.MESSAGE_REJECTED_ROW, 2, Phone.MESSAGE_PHONE_CONSTRAINTS)
+                + String.format(ImportCommand.MESSAGE_REJECTED_ROW, 4, ImportCommand.MESSAGE_DUPLICATE_PERSON)
+                + String.format(ImportCommand.MESSAGE_REJECTED_ROW, ImportCommand.ROWS_PER_BATCH + 5,
+                        Phone.MESSAGE_PHONE_CONSTRAINTS), result.feedbackToUser);
+    }
+
+    @Test
+    public void execute_xmlFile_validPersonsImported() throws Exception {
+        String filePath = writeFile("contacts.xml",
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>",
+                "<addressbook>",
+                "    <persons><name>Hoon Meier</name><phone>92492021</phone><birthday></birthday><email></email>",
+                "        <address>little india, #01-01</address><postalCode></postalCode><favourite>no</favourite>",
+                "        <tagged>friends</tagged><tagged>colleagues</tagged></persons>",
+                "    <persons><name>Ida Mueller</name><phone>93121534</phone>",
+                "        <address>chicago ave</address><tagged>friends</tagged><tagged>colleagues</tagged></persons>",
+                "    <tags>friends</tags>",
+                "</addressbook>");
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.addPersons(Arrays.asList(HOON_IMPORTED, IDA_IMPORTED));
+
+        assertCommandSuccess(prepareCommand(filePath), model,
+                String.format(ImportCommand.MESSAGE_SUCCESS, 2, filePath), expectedModel);
+    }
+
+    @Test
+    public void execute_manyRows_importedAsOneChangeAndUndoneTogether() throws Exception {
+        List<String> lines = new ArrayList<>();
+        lines.add("Name,Phone");
+        for (int i = 0; i < 2000; i++) {
+            lines.add("Person " + i + "," + (90000000 + i));
+        }
+        String filePath = writeFile("contacts.csv", lines.toArray(new String[0]));
+        AddressBook original = new AddressBook(model.getAddressBook());
+        eventsCollectorRule.eventsCollector.reset();
+
+        ImportCommand command = prepareCommand(filePath);
+        command.execute();
+        assertEquals(original.getPersonList().size() + 2000, model.getAddressBook().getPersonList().size());
+        assertEquals(1, eventsCollectorRule.eventsCollector.getSize());
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof AddressBookChangedEvent);
+
+        AddressBook imported = new AddressBook(model.getAddressBook());
+        command.undo();
+        assertEquals(original, model.getAddressBook());
+
+        // the rows are not kept once executed, and redo replays the recorded change instead
+        Files.delete(new File(filePath).toPath());
+        command.redo();
+        assertEquals(imported, model.getAddressBook());
+    }
+
+    @Test
+    public void execute_manyRejectedRows_reportShortened() throws Exception {
+        List<String> lines = new ArrayList<>();
+        lines.add("Name,Phone");
+        for (int i = 0; i < ImportCommand.MAX_REPORTED_REJECTIONS + 5; i++) {
+            lines.add("Person " + i + ",not a phone");
+        }
+        String filePath = writeFile("contacts.csv", lines.toArray(new String[0]));
+
+        CommandResult result = prepareCommand(filePath).execute();
+        assertTrue(result.feedbackToUser.endsWith(String.format(ImportCommand.MESSAGE_MORE_REJECTED_ROWS, 5)));
+    }
+
+    @Test
+    public void execute_missingNameColumn_failure() throws Exception {
+        String filePath = writeFile("contacts.csv", "Phone,Email", "92492021,hoon@example.com");
+        assertCommandFailure(prepareCommand(filePath), model,
+                String.format(ImportCommand.MESSAGE_MISSING_COLUMNS, filePath));
+    }
+
+    @Test
+    public void execute_missingFile_failure() {
+        ImportCommand command = prepareCommand(testFolder.getRoot().getPath() + File.separator + "missing.csv");
+        try {
+            command.execute();
+            throw new AssertionError("The expected CommandException was not thrown.");
+        } catch (CommandException ce) {
+            assertTrue(ce.getMessage().startsWith("Could not read"));
+        }
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importFirst = new ImportCommand("first.csv");
+
+        // same object -> returns true
+        assertTrue(importFirst.equals(importFirst));
+
+        // same values -> returns true
+        assertTrue(importFirst.equals(new ImportCommand("first.csv")));
+
+        // different types -> returns false
+        assertFalse(importFirst.equals(1));
+
+        // different file -> returns false
+        assertFalse(importFirst.equals(new ImportCommand("second.csv")));
+    }
+
+    /**
+     * Writes {@code lines} to a new file named {@code fileName} and returns its path.
+     */
+    private String writeFile(String fileName, String... lines) throws IOException {
+        File file = testFolder.newFile(fileName);
+        Files.write(file.toPath(), Arrays.asList(lines), StandardCharsets.UTF_8);
+        return file.getPath();
+    }
+
+    /**
+     * Returns an {@code ImportCommand} of {@code filePath} with the data of {@code model}.
+     */
+    private ImportCommand prepareCommand(String filePath) {
+        ImportCommand command = new ImportCommand(filePath);
+        command.setData(model, new CommandHistory(), new UndoRedoStack());
+        return command;
+    }
+}
@@ -0,0 +1,136 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressBookChangeTest {
+
+    private static final ReadOnlyPerson EDITED_ALICE = new PersonBuilder(ALICE).withPhone("91234567").build();
+    private static final ReadOnlyPerson RETAGGED_ALICE = new PersonBuilder(ALICE).withTags("colleagues").build();
+
+    @Test
+    public void ofUpdate_editedPerson_recordedAsRemovalAndAddition() {
+        AddressBookChange change = AddressBookChange.ofUpdate(ALICE, EDITED_ALICE);
+        assertEquals(Arrays.asList(ALICE), change.getRemovedPersons());
+        assertEquals(Arrays.asList(EDITED_ALICE), change.getAddedPersons());
+        assertEquals(Collections.singletonMap(EDITED_ALICE, ALICE), change.getUpdatedPersons());
+        assertEquals(Collections.singletonMap(RETAGGED_ALICE, ALICE), AddressBookChange.ofUpdate(ALICE,
+                RETAGGED_ALICE).getUpdatedPersons());
+    }
+
+    @Test
+    public void inverse_update_revertsUpdate() {
+        AddressBookChange inverse = AddressBookChange.ofUpdate(ALICE, EDITED_ALICE).inverse();
+        assertEquals(Arrays.asList(EDITED_ALICE), inverse.getRemovedPersons());
+        assertEquals(Arrays.asList(ALICE), inverse.getAddedPersons());
+        assertEquals(Collections.singletonMap(ALICE, EDITED_ALICE), inverse.getUpdatedPersons());
+    }
+
+    @Test
+    public void getTagCountChanges() throws Exception {
+        // the tags of an edit that keeps them do not change
+        assertEquals(Collections.emptyMap(), AddressBookChange.ofUpdate(ALICE, EDITED_ALICE).getTagCountChanges());
+
+        Map<Tag, Integer> expectedChanges = new HashMap<>();
+        expectedChanges.put(new Tag("friends"), -1);
+        expectedChanges.put(new Tag("colleagues"), 1);
+        assertEquals(expectedChanges, AddressBookChange.ofUpdate(ALICE, RETAGGED_ALICE).getTagCountChanges());
+
+        expectedChanges.clear();
+        expectedChanges.put(new Tag("friends"), -2);
+        expectedChanges.put(new Tag("owesMoney"), -1);
+        assertEquals(expectedChanges, new AddressBookChange(Arrays.asList(ALICE, BENSON), Collections.emptyList())
+                .getTagCountChanges());
+    }
+
+    @Test
+    public void merge_addThenRemove_emptyChange() {
+        AddressBookChange merged = added(HOON).merge(removed(HOON));
+        assertTrue(merged.isEmpty());
+        assertEquals(Collections.emptyMap(), merged.getTagCountChanges());
+    }
+
+    @Test
+    public void merge_removeThenAddBack_emptyChange() {
+        assertTrue(removed(ALICE).merge(added(ALICE)).isEmpty());
+    }
+
+    @Test
+    public void merge_editThenRevertTags_emptyChange() {
+        AddressBookChange merged = AddressBookChange.ofUpdate(ALICE, RETAGGED_ALICE)
+                .merge(AddressBookChange.ofUpdate(RETAGGED_ALICE, ALICE));
+        assertTrue(merged.isEmpty());
+        assertEquals(Collections.emptyMap(), merged.getUpdatedPersons());
+    }
+
+    @Test
+    public void merge_successiveEdits_oneEditOfOriginalPerson() {
+        ReadOnlyPerson twiceEditedAlice = new PersonBuilder(EDITED_ALICE).withTags("colleagues").build();
+        AddressBookChange merged = AddressBookChange.ofUpdate(ALICE, EDITED_ALICE)
+                .merge(AddressBookChange.ofUpdate(EDITED_ALICE, twiceEditedAlice));
+        assertEquals(AddressBookChange.ofUpdate(ALICE, twiceEditedAlice), merged);
+        assertEquals(Collections.singletonMap(twiceEditedAlice, ALICE), merged.getUpdatedPersons());
+    }
+
+    @Test
+    public void merge_addThenEdit_addsEditedPerson() {
+        ReadOnlyPerson editedHoon = new PersonBuilder(HOON).withPhone("91234567").build();
+        AddressBookChange merged = added(HOON).merge(AddressBookChange.ofUpdate(HOON, editedHoon));
+        assertEquals(added(editedHoon), merged);
+        assertEquals(Collections.emptyMap(), merged.getUpdatedPersons());
+    }
+
+    @Test
+    public void merge_editThenRemove_removesOriginalPerson() {
+        AddressBookChange merged = AddressBookChange.ofUpdate(ALICE, EDITED_ALICE).merge(removed(EDITED_ALICE));
+        assertEquals(removed(ALICE), merged);
+        assertEquals(Collections.emptyMap(), merged.getUpdatedPersons());
+    }
+
+    @Test
+    public void merge_sequenceOfChanges_sameEffectAsApplyingEachChange() throws Exception {
+        List<AddressBookChange> changes = Arrays.asList(
+                added(HOON),
+                AddressBookChange.ofUpdate(ALICE, EDITED_ALICE),
+                removed(BENSON),
+                new AddressBookChange(Arrays.asList(HOON, CARL), Arrays.asList(BENSON)),
+                AddressBookChange.ofUpdate(EDITED_ALICE, RETAGGED_ALICE));
+        AddressBook expected = getTypicalAddressBook();
+        AddressBookChange merged = new AddressBookChange(Collections.emptyList(), Collections.emptyList());
+        for (AddressBookChange change : changes) {
+            expected.applyChange(change);
+            merged = merged.merge(change);
+        }
+
+        AddressBook actual = getTypicalAddressBook();
+        actual.applyChange(merged);
+        assertEquals(expected, actual);
+        assertEquals(Collections.singletonMap(RETAGGED_ALICE, ALICE), merged.getUpdatedPersons());
+    }
+
+    private static AddressBookChange added(ReadOnlyPerson person) {
+        return new AddressBookChange(Collections.emptyList(), Arrays.asList(person));
+    }
+
+    private static AddressBookChange removed(ReadOnlyPerson person) {
+        return new AddressBookChange(Arrays.asList(person), Collections.emptyList());
+    }
+
+}
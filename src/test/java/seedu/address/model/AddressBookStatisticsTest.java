@@ -0,0 +1,104 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+
+import java.time.Month;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+
+import org.junit.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressBookStatisticsTest {
+
+    private static final Tag FRIENDS = createTag("friends");
+    private static final Tag OWES_MONEY = createTag("owesMoney");
+    private static final Tag COLLEAGUES = createTag("colleagues");
+
+    @Test
+    public void constructor_addressBook_personsCounted() {
+        AddressBookStatistics statistics = new AddressBookStatistics(
+                new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).withPerson(CARL).build());
+
+        assertEquals(1, statistics.getBirthdayCount(Month.NOVEMBER)); // Alice
+        assertEquals(1, statistics.getBirthdayCount(Month.JULY)); // Benson
+        assertEquals(1, statistics.getBirthdayCount(Month.MARCH)); // Carl
+        assertEquals(0, statistics.getBirthdayCount(Month.JANUARY));
+        assertEquals(Arrays.asList(FRIENDS, OWES_MONEY), statistics.getTags());
+        assertEquals(3, statistics.getTagCount(FRIENDS));
+        assertEquals(1, statistics.getTagCount(OWES_MONEY));
+        assertEquals(0, statistics.getTagCount(COLLEAGUES));
+    }
+
+    @Test
+    public void constructor_personWithoutBirthday_notCountedInAnyMonth() {
+        ReadOnlyPerson noBirthday = new PersonBuilder(HOON).withBirthday("").build();
+        AddressBookStatistics statistics = new AddressBookStatistics(
+                new AddressBookBuilder().withPerson(noBirthday).build());
+
+        for (Month month : Month.values()) {
+            assertEquals(0, statistics.getBirthdayCount(month));
+        }
+    }
+
+    @Test
+    public void applyChange_changes_countsFollowChanges() {
+        AddressBookStatistics statistics = new AddressBookStatistics(
+                new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build());
+
+        // Benson loses his tags and moves his birthday to November
+        ReadOnlyPerson editedBenson = new PersonBuilder(BENSON).withBirthday("01 nov 67").withTags("colleagues")
+                .build();
+        statistics.applyChange(AddressBookChange.ofUpdate(BENSON, editedBenson));
+        assertEquals(2, statistics.getBirthdayCount(Month.NOVEMBER));
+        assertEquals(0, statistics.getBirthdayCount(Month.JULY));
+        assertEquals(Arrays.asList(FRIENDS, COLLEAGUES), statistics.getTags());
+        assertEquals(1, statistics.getTagCount(FRIENDS));
+        assertEquals(0, statistics.getTagCount(OWES_MONEY));
+
+        statistics.applyChange(new AddressBookChange(Arrays.asList(ALICE, editedBenson), Collections.emptyList()));
+        assertEquals(0, statistics.getBirthdayCount(Month.NOVEMBER));
+        assertEquals(Collections.emptyList(), statistics.getTags());
+    }
+
+    @Test
+    public void reset_addressBook_personsRecounted() {
+        AddressBookStatistics statistics = new AddressBookStatistics(
+                new AddressBookBuilder().withPerson(ALICE).build());
+        statistics.reset(new AddressBookBuilder().withPerson(CARL).build());
+
+        assertEquals(0, statistics.getBirthdayCount(Month.NOVEMBER));
+        assertEquals(1, statistics.getBirthdayCount(Month.MARCH));
+        assertEquals(new AddressBookStatistics(new AddressBookBuilder().withPerson(CARL).build()).getTags(),
+                statistics.getTags());
+    }
+
+    @Test
+    public void getBirthdayMonths_change_monthsOfRemovedAndAddedPersons() {
+        ReadOnlyPerson editedBenson = new PersonBuilder(BENSON).withBirthday("01 nov 67").build();
+        assertEquals(EnumSet.of(Month.JULY, Month.NOVEMBER),
+                AddressBookStatistics.getBirthdayMonths(AddressBookChange.ofUpdate(BENSON, editedBenson)));
+    }
+
+    /**
+     * Returns the tag named {@code tagName}, which must be a valid tag name.
+     */
+    private static Tag createTag(String tagName) {
+        try {
+            return new Tag(tagName);
+        } catch (IllegalValueException e) {
+            throw new AssertionError("The tag name is valid", e);
+        }
+    }
+
+}
@@ -1,13 +1,19 @@
 package seedu.address.model;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 
 import org.junit.Rule;
@@ -15,10 +21,13 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
 
 public class AddressBookTest {
 
@@ -57,6 +66,87 @@ public class AddressBookTest {
         addressBook.resetData(newData);
     }
 
+    @Test
+    public void removePersons_lastUserOfTag_removesOnlyUnusedTags() throws Exception {
+        ReadOnlyPerson carlWithTag = new PersonBuilder(CARL).withTags("owesMoney").build();
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        addressBook.addPerson(carlWithTag);
+
+        addressBook.removePersons(Arrays.asList(BENSON));
+        // "owesMoney" is still used by Carl and "friends" by Alice
+        assertEquals(new HashSet<>(Arrays.asList(new Tag("friends"), new Tag("owesMoney"))),
+                new HashSet<>(addressBook.getTagList()));
+
+        addressBook.removePersons(Arrays.asList(carlWithTag));
+        assertEquals(Arrays.asList(new Tag("friends")), addressBook.getTagList());
+    }
+
+    @Test
+    public void addPerson_duplicatePerson_doesNotAddTags() throws Exception {
+        addressBook.addPerson(ALICE);
+        ReadOnlyPerson aliceWithNewTag = new PersonBuilder(ALICE).withTags("colleagues").build();
+        try {
+            addressBook.addPerson(aliceWithNewTag);
+        } catch (DuplicatePersonException e) {
+            assertEquals(Arrays.asList(new Tag("friends")), addressBook.getTagList());
+            return;
+        }
+        fail("DuplicatePersonException should have been thrown");
+    }
+
+    @Test
+    public void setTags_storedPersons_keptAndShareMasterTags() throws Exception {
+        addressBook.addPersons(Arrays.asList(ALICE, BENSON));
+        List<ReadOnlyPerson> storedPersons = new ArrayList<>(addressBook.getPersonList());
+        Tag friends = new Tag("friends");
+        Tag storedFriends = getTag(storedPersons.get(0).getTags(), friends);
+        assertSame(storedFriends, getTag(storedPersons.get(1).getTags(), friends));
+
+        addressBook.setTags(new HashSet<>(Arrays.asList(friends, new Tag("unused"))));
+        assertEquals(storedPersons, addressBook.getPersonList());
+        for (int i = 0; i < storedPersons.size(); i++) {
+            assertSame(storedPersons.get(i), addressBook.getPersonList().get(i));
+        }
+        assertSame(storedFriends, getTag(storedPersons.get(0).getTags(), friends));
+        assertSame(storedFriends, getTag(addressBook.getTagList(), friends));
+    }
+
+    @Test
+    public void applyChange_inverseOfChange_restoresPersonsAndTags() throws Exception {
+        addressBook.addPerson(ALICE);
+        AddressBook expected = new AddressBook(addressBook);
+        AddressBookChange change = new AddressBookChange(Arrays.asList(ALICE), Arrays.asList(BENSON, CARL));
+
+        addressBook.applyChange(change);
+        assertEquals(Arrays.asList(BENSON, CARL), addressBook.getPersonList());
+
+        addressBook.applyChange(change.inverse());
+        assertEquals(expected, addressBook);
+    }
+
+    @Test
+    public void applyChange_singlePersonChanges_listChangesOnlyTouchThatPerson() throws Exception {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        List<Integer> changedPersonCounts = new ArrayList<>();
+        typicalAddressBook.getPersonList().addListener((ListChangeListener<ReadOnlyPerson>) change -> {
+            while (change.next()) {
+                changedPersonCounts.add(Math.max(change.getRemovedSize(), change.getAddedSize()));
+            }
+        });
+        AddressBookChange add = new AddressBookChange(Collections.emptyList(), Arrays.asList(HOON));
+        AddressBookChange edit = AddressBookChange.ofUpdate(BENSON,
+                new PersonBuilder(BENSON).withPhone("91234567").build());
+
+        // as when the changes are undone and redone
+        typicalAddressBook.applyChange(add);
+        typicalAddressBook.applyChange(edit);
+        typicalAddressBook.applyChange(edit.inverse());
+        typicalAddressBook.applyChange(add.inverse());
+        assertEquals(Arrays.asList(1, 1, 1, 1), changedPersonCounts);
+        assertEquals(getTypicalAddressBook(), typicalAddressBook);
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -69,6 +159,13 @@ public class AddressBookTest {
         addressBook.getTagList().remove(0);
     }
 
+    /**
+     * Returns the instance in {@code tags} that is equal to {@code tag}.
+     */
+    private static Tag getTag(Collection<Tag> tags, Tag tag) {
+        return tags.stream().filter(tag::equals).findFirst().get();
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose persons and tags lists can violate interface constraints.
      */
@@ -1,24 +1,35 @@
 package seedu.address.model;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 
+import java.time.Month;
 import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.commons.events.model.AddressBookChangedEvent;
 import seedu.address.model.person.PersonContainsKeywordsPredicate;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.ui.testutil.EventsCollectorRule;
 
 public class ModelManagerTest {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         ModelManager modelManager = new ModelManager();
@@ -26,6 +37,69 @@ public class ModelManagerTest {
         modelManager.getFilteredPersonList().remove(0);
     }
 
+    @Test
+    public void addLoadedData_chunks_addedWithoutChangeEvents() throws Exception {
+        ModelManager modelManager = new ModelManager();
+        Tag unusedTag = new Tag("unused");
+        modelManager.startRecordingChanges();
+
+        modelManager.addLoadedData(Arrays.asList(unusedTag), Arrays.asList(ALICE));
+        // a person that is loaded twice is skipped
+        modelManager.addLoadedData(Collections.emptyList(), Arrays.asList(BENSON, ALICE));
+
+        AddressBook expected = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
+        expected.addTag(unusedTag);
+        assertEquals(expected, modelManager.getAddressBook());
+        assertTrue(modelManager.stopRecordingChanges().isEmpty());
+        assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+    }
+
+    @Test
+    public void updatePerson_personEdited_changeRecordsUpdate() throws Exception {
+        ModelManager modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).build(),
+                new UserPrefs());
+        ReadOnlyPerson editedAlice = new PersonBuilder(ALICE).withTags("colleagues").build();
+        modelManager.updatePerson(ALICE, editedAlice);
+
+        AddressBookChange change = ((AddressBookChangedEvent) eventsCollectorRule.eventsCollector.getMostRecent())
+                .change;
+        assertEquals(AddressBookChange.ofUpdate(ALICE, editedAlice), change);
+        assertEquals(Collections.singletonMap(editedAlice, ALICE), change.getUpdatedPersons());
+        assertEquals(Integer.valueOf(1), change.getTagCountChanges().get(new Tag("colleagues")));
+    }
+
+    @Test
+    public void updateFilteredPersonList_personEditedAfterSearch_filterTestsEditedPerson() throws Exception {
+        ModelManager modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON)
+                .build(), new UserPrefs());
+        modelManager.updateFilteredPersonList(new PersonContainsKeywordsPredicate(Arrays.asList("85355255")));
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+
+        ReadOnlyPerson editedAlice = new PersonBuilder(ALICE).withTags("colleagues").build();
+        modelManager.updatePerson(ALICE, editedAlice);
+        assertEquals(Arrays.asList(editedAlice), modelManager.getFilteredPersonList());
+
+        ReadOnlyPerson editedBenson = new PersonBuilder(BENSON).withPhone("85355255").build();
+        modelManager.updatePerson(BENSON, editedBenson);
+        modelManager.updatePerson(editedAlice, new PersonBuilder(ALICE).withPhone("11111111").build());
+        assertEquals(Arrays.asList(editedBenson), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void getStatistics_addressBookChanged_statisticsUpdated() throws Exception {
+        ModelManager modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).build(),
+                new UserPrefs());
+        modelManager.addPerson(BENSON);
+        assertEquals(1, modelManager.getStatistics().getTagCount(new Tag("owesMoney")));
+
+        modelManager.deletePersons(Arrays.asList(BENSON));
+        assertEquals(0, modelManager.getStatistics().getTagCount(new Tag("owesMoney")));
+
+        modelManager.resetData(new AddressBookBuilder().withPerson(BENSON).build());
+        assertEquals(1, modelManager.getStatistics().getBirthdayCount(Month.JULY));
+        assertEquals(0, modelManager.getStatistics().getBirthdayCount(Month.NOVEMBER));
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
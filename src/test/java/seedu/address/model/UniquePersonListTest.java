@@ -1,19 +1,188 @@
 package seedu.address.model;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import javafx.collections.ListChangeListener;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
+import seedu.address.model.person.ReadOnlyPerson;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.testutil.PersonBuilder;
 
 public class UniquePersonListTest {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    private final UniquePersonList uniquePersonList = new UniquePersonList();
+
     @Test
     public void asObservableList_modifyList_throwsUnsupportedOperationException() {
-        UniquePersonList uniquePersonList = new UniquePersonList();
         thrown.expect(UnsupportedOperationException.class);
         uniquePersonList.asObservableList().remove(0);
     }
+
+    @Test
+    public void add_duplicatePerson_throwsDuplicatePersonException() throws Exception {
+        uniquePersonList.add(ALICE);
+        thrown.expect(DuplicatePersonException.class);
+        uniquePersonList.add(new Person(ALICE));
+    }
+
+    @Test
+    public void indexOf_afterMutations_tracksPositions() throws Exception {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.add(CARL);
+        assertEquals(1, uniquePersonList.indexOf(BENSON));
+        assertEquals(2, uniquePersonList.indexOf(CARL));
+
+        uniquePersonList.removeAll(Arrays.asList(ALICE));
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertEquals(-1, uniquePersonList.indexOf(ALICE));
+        assertEquals(0, uniquePersonList.indexOf(BENSON));
+        assertEquals(1, uniquePersonList.indexOf(CARL));
+
+        Person editedCarl = new PersonBuilder(CARL).withPhone("91234567").build();
+        uniquePersonList.setPerson(CARL, editedCarl);
+        assertFalse(uniquePersonList.contains(CARL));
+        assertTrue(uniquePersonList.contains(editedCarl));
+        assertEquals(1, uniquePersonList.indexOf(editedCarl));
+    }
+
+    @Test
+    public void addAndSetPerson_outOfOrder_keepsListSorted() throws Exception {
+        uniquePersonList.add(CARL);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.add(ALICE); // favourite, so sorted before everyone else
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), uniquePersonList.asObservableList());
+
+        Person editedBenson = new PersonBuilder(BENSON).withName("Zed Meier").build();
+        uniquePersonList.setPerson(BENSON, editedBenson);
+        assertEquals(Arrays.asList(ALICE, CARL, editedBenson), uniquePersonList.asObservableList());
+        assertEquals(2, uniquePersonList.indexOf(editedBenson));
+    }
+
+    @Test
+    public void indexOf_probeWithOtherFavouriteStatus_findsStoredPerson() throws Exception {
+        uniquePersonList.setPersons(getTypicalPersons());
+        int index = uniquePersonList.indexOf(ALICE);
+        ReadOnlyPerson unfavouritedAlice = new PersonBuilder(ALICE).withFavourite("no").build();
+        assertEquals(index, uniquePersonList.indexOf(unfavouritedAlice));
+
+        ReadOnlyPerson favouritedCarl = new PersonBuilder(CARL).withFavourite("yes").build();
+        assertEquals(uniquePersonList.indexOf(CARL), uniquePersonList.indexOf(favouritedCarl));
+    }
+
+    @Test
+    public void setPerson_movedPerson_singleListChangeFired() throws Exception {
+        uniquePersonList.setPersons(getTypicalPersons());
+        List<ListChangeListener.Change<? extends ReadOnlyPerson>> changes = new ArrayList<>();
+        uniquePersonList.asObservableList().addListener((ListChangeListener<ReadOnlyPerson>) changes::add);
+
+        Person editedBenson = new PersonBuilder(BENSON).withName("Zed Meier").build();
+        uniquePersonList.setPerson(BENSON, editedBenson);
+        assertEquals(1, changes.size());
+        assertEquals(uniquePersonList.asObservableList().size() - 1, uniquePersonList.indexOf(editedBenson));
+    }
+
+    @Test
+    public void addAll_interleavedAndAppendedPersons_onlyAdditionsFired() throws Exception {
+        List<ReadOnlyPerson> typicalPersons = getTypicalPersons();
+        List<ReadOnlyPerson> everyOther = new ArrayList<>();
+        List<ReadOnlyPerson> others = new ArrayList<>();
+        for (int i = 0; i < typicalPersons.size(); i++) {
+            List<ReadOnlyPerson> half = (i % 2 == 0) ? everyOther : others;
+            half.add(typicalPersons.get(i));
+        }
+        uniquePersonList.addAll(everyOther);
+        List<Integer> addedCounts = new ArrayList<>();
+        uniquePersonList.asObservableList().addListener((ListChangeListener<ReadOnlyPerson>) change -> {
+            while (change.next()) {
+                assertFalse(change.wasRemoved());
+                addedCounts.add(change.getAddedSize());
+                assertEquals(change.getAddedSubList(),
+                        uniquePersonList.asObservableList().subList(change.getFrom(), change.getTo()));
+            }
+        });
+
+        uniquePersonList.addAll(others);
+        assertEquals(others.size(), addedCounts.stream().mapToInt(Integer::intValue).sum());
+        UniquePersonList expected = new UniquePersonList();
+        expected.setPersons(typicalPersons);
+        assertEquals(expected, uniquePersonList);
+
+        // persons that come after every stored person are appended
+        addedCounts.clear();
+        uniquePersonList.addAll(Arrays.asList(new PersonBuilder().withName("Zed").withFavourite("no").build()));
+        assertEquals(Arrays.asList(1), addedCounts);
+    }
+
+    @Test
+    public void setCollationLocale_changedLocale_listResortedAndKeptSorted() throws Exception {
+        Person mcDonald = new PersonBuilder().withName("McDonald").withFavourite("no").build();
+        Person mcadam = new PersonBuilder().withName("Mcadam").withFavourite("no").build();
+        Person mcbride = new PersonBuilder().withName("Mcbride").withFavourite("no").build();
+        uniquePersonList.add(mcadam);
+        uniquePersonList.add(mcDonald);
+        assertEquals(Arrays.asList(mcDonald, mcadam), uniquePersonList.asObservableList());
+
+        uniquePersonList.setCollationLocale("en");
+        assertEquals(Arrays.asList(mcadam, mcDonald), uniquePersonList.asObservableList());
+        uniquePersonList.add(mcbride);
+        assertEquals(Arrays.asList(mcadam, mcbride, mcDonald), uniquePersonList.asObservableList());
+        assertEquals(2, uniquePersonList.indexOf(mcDonald));
+
+        // another list keeps its own collation
+        UniquePersonList otherList = new UniquePersonList();
+        otherList.setPersons(uniquePersonList);
+        assertEquals(Arrays.asList(mcDonald, mcadam, mcbride), otherList.asObservableList());
+        assertEquals(Arrays.asList(mcadam, mcbride, mcDonald), uniquePersonList.asObservableList());
+    }
+
+    @Test
+    public void search_afterMutations_matchesPredicate() throws Exception {
+        uniquePersonList.setPersons(getTypicalPersons());
+        uniquePersonList.removeAll(Arrays.asList(CARL));
+        uniquePersonList.setPerson(BENSON, new PersonBuilder(BENSON).withName("Benson Tan").build());
+        uniquePersonList.add(new PersonBuilder().withName("Kurz Tan").withAddress("wall street").build());
+
+        assertSearchMatchesPredicate("meier");
+        assertSearchMatchesPredicate("KURZ", "tan");
+        assertSearchMatchesPredicate("street", "FRIENDS");
+        assertSearchMatchesPredicate("m/nov", "m/Jul");
+        assertSearchMatchesPredicate("fav");
+        assertSearchMatchesPredicate("example", "9482", "0290");
+        assertSearchMatchesPredicate("m", "m/ju");
+        assertSearchMatchesPredicate("94", "5");
+        assertSearchMatchesPredicate("@", "om", "le.co");
+    }
+
+    /**
+     * Asserts that searching {@code uniquePersonList} for {@code keywords} finds the same persons as
+     * filtering it with a {@code PersonContainsKeywordsPredicate}.
+     */
+    private void assertSearchMatchesPredicate(String... keywords) {
+        List<String> keywordList = Arrays.asList(keywords);
+        List<ReadOnlyPerson> expected = uniquePersonList.asObservableList().stream()
+                .filter(new PersonContainsKeywordsPredicate(keywordList)).collect(Collectors.toList());
+        List<ReadOnlyPerson> actual = uniquePersonList.asObservableList().stream()
+                .filter(uniquePersonList.search(keywordList)::contains).collect(Collectors.toList());
+        assertEquals(expected, actual);
+    }
 }
@@ -1,8 +1,12 @@
 package seedu.address.model.person;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.time.LocalDate;
+import java.util.Optional;
+
 import org.junit.Test;
 //@@author Valerieyue
 public class BirthdayTest {
@@ -20,5 +24,22 @@ public class BirthdayTest {
         assertTrue(Birthday.isValidBirthday("12 12 87")); // Can enter year using 2 digit
         assertTrue(Birthday.isValidBirthday("14-05-1997")); // Accepts '-' as separator
         assertTrue(Birthday.isValidBirthday("08 aug 1985")); // Name of month
+        assertTrue(Birthday.isValidBirthday("29/02/00")); // 2000 is a leap year
+
+        // invalid dates
+        assertFalse(Birthday.isValidBirthday("31 apr 1990")); // April has 30 days
+        assertFalse(Birthday.isValidBirthday("29-2-1900")); // 1900 is not a leap year
+        assertFalse(Birthday.isValidBirthday("12-12 87")); // Mismatched separators
+        assertFalse(Birthday.isValidBirthday("12 12 1587")); // Year before 1600
+    }
+
+    @Test
+    public void constructor_validBirthday_formatsAndParsesDate() throws Exception {
+        Birthday birthday = new Birthday(" 09.8.87 ");
+        assertEquals("9 Aug 1987", birthday.value);
+        assertEquals(Optional.of(LocalDate.of(1987, 8, 9)), birthday.getDate());
+
+        assertEquals("23 Mar 2017", new Birthday("23-MAR-17").value);
+        assertEquals(Optional.empty(), new Birthday("").getDate());
     }
 }
@@ -0,0 +1,43 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.text.Collator;
+
+import org.junit.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonSortKeyTest {
+
+    private final Person mcDonald = new PersonBuilder().withName("McDonald").withFavourite("no").build();
+    private final Person mcadam = new PersonBuilder().withName("Mcadam").withFavourite("no").build();
+    private final Person zed = new PersonBuilder().withName("Zed").withFavourite("yes").build();
+
+    @Test
+    public void compareTo_favouriteFirst() {
+        assertTrue(zed.getSortKey().compareTo(mcadam.getSortKey()) < 0);
+        assertTrue(mcDonald.getSortKey().compareTo(zed.getSortKey()) > 0);
+    }
+
+    @Test
+    public void compareTo_defaultCollation_comparesRawCharacters() {
+        assertTrue(mcDonald.getSortKey().compareTo(mcadam.getSortKey()) < 0);
+    }
+
+    @Test
+    public void compareTo_localeCollation_comparesCollatedNames() {
+        Collator collator = PersonSortKey.getCollator("en");
+        assertTrue(mcadam.getSortKey(collator).compareTo(mcDonald.getSortKey(collator)) < 0);
+        assertTrue(zed.getSortKey(collator).compareTo(mcadam.getSortKey(collator)) < 0);
+    }
+
+    @Test
+    public void getSortKey_otherCollator_keyRebuilt() {
+        Collator collator = PersonSortKey.getCollator("en");
+        assertTrue(mcadam.getSortKey(collator).isBuiltWith(collator));
+        assertFalse(mcadam.getSortKey().isBuiltWith(collator));
+        assertTrue(mcadam.getSortKey().isBuiltWith(null));
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.HashSet;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.model.tag.Tag;
+
+public class PersonTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void getTags_modifySet_throwsUnsupportedOperationException() throws Exception {
+        Person person = new Person(ALICE);
+        thrown.expect(UnsupportedOperationException.class);
+        person.getTags().add(new Tag("extra"));
+    }
+
+    @Test
+    public void getTags_sameTagsAsSource() {
+        Person person = new Person(BENSON);
+        assertEquals(new HashSet<>(BENSON.getTags()), person.getTags());
+        assertEquals(person.getTags(), new HashSet<>(BENSON.getTags()));
+        assertEquals(new HashSet<>(BENSON.getTags()).hashCode(), person.getTags().hashCode());
+        BENSON.getTags().forEach(tag -> assertTrue(person.getTags().contains(tag)));
+    }
+
+    @Test
+    public void properties_holdValuesOfFields() {
+        Person person = new Person(BENSON);
+        assertEquals(BENSON.getName(), person.nameProperty().get());
+        assertEquals(BENSON.getEmail(), person.emailProperty().get());
+        assertEquals(BENSON.getTags(), person.tagProperty().get().toSet());
+    }
+
+    @Test
+    public void hashCode_equalPersons_sameHashCode() {
+        assertEquals(new Person(ALICE).hashCode(), new Person(ALICE).hashCode());
+    }
+
+}
@@ -0,0 +1,104 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class SubstringIndexTest {
+
+    private final SubstringIndex index = new SubstringIndex();
+    private final Map<Person, List<String>> texts = new IdentityHashMap<>();
+    private final Person alice = new Person(ALICE);
+    private final Person benson = new Person(BENSON);
+
+    @Test
+    public void addPersonsContaining_gramLengthKeyword_findsExactMatches() {
+        add(alice, "85355255");
+        add(benson, "98765432");
+
+        assertEquals(Collections.singleton(alice), find("355"));
+        assertEquals(Collections.singleton(benson), find("765"));
+        assertTrue(find("000").isEmpty());
+    }
+
+    @Test
+    public void addPersonsContaining_shortKeyword_findsExactMatches() {
+        add(alice, "85355255");
+        add(benson, "98765432");
+
+        assertEquals(Collections.singleton(alice), find("53"));
+        // only in the last characters of a text
+        assertEquals(Collections.singleton(benson), find("32"));
+        assertEquals(new HashSet<>(Arrays.asList(alice, benson)), find("5"));
+        assertTrue(find("1").isEmpty());
+    }
+
+    @Test
+    public void addPersonsContaining_textShorterThanGram_findsExactMatches() {
+        add(alice, "ab");
+
+        assertEquals(Collections.singleton(alice), find("a"));
+        assertEquals(Collections.singleton(alice), find("ab"));
+        assertTrue(find("abc").isEmpty());
+    }
+
+    @Test
+    public void addPersonsContaining_longKeyword_findsPersonsContainingKeyword() {
+        add(alice, "85355255");
+        add(benson, "98765432");
+
+        assertEquals(Collections.singleton(benson), find("9876"));
+        assertEquals(Collections.singleton(alice), find("5525"));
+        assertTrue(find("98799").isEmpty());
+        // has every n-gram of the keyword, but not the keyword
+        assertTrue(find("52552").isEmpty());
+    }
+
+    @Test
+    public void remove_indexedText_dropsPerson() {
+        add(alice, "85355255");
+        add(alice, "555920");
+        add(benson, "98765432");
+
+        index.remove(alice, "85355255");
+        assertTrue(find("853").isEmpty());
+        assertEquals(Collections.singleton(alice), find("559"));
+        assertTrue(find("55").contains(alice));
+        assertTrue(find("20").contains(alice));
+
+        index.remove(alice, "555920");
+        assertTrue(find("0").isEmpty());
+        assertEquals(Collections.singleton(benson), find("5"));
+
+        index.clear();
+        assertTrue(find("9876").isEmpty());
+        assertTrue(find("9").isEmpty());
+    }
+
+    private void add(Person person, String text) {
+        index.add(person, text);
+        texts.computeIfAbsent(person, unused -> new ArrayList<>()).add(text);
+    }
+
+    /**
+     * Returns the persons that the index finds with a text containing {@code keyword}.
+     */
+    private Set<Person> find(String keyword) {
+        Set<Person> matches = new HashSet<>();
+        index.addPersonsContaining(keyword,
+            person -> texts.get(person).stream().anyMatch(text -> text.contains(keyword)), matches);
+        return matches;
+    }
+}
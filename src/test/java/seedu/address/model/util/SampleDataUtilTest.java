@@ -0,0 +1,27 @@
+package seedu.address.model.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+public class SampleDataUtilTest {
+
+    @Test
+    public void getSamplePersons_moreThanSamples_distinctPersons() throws Exception {
+        int count = SampleDataUtil.getSamplePersons().length * 3 + 1;
+        List<Person> persons = SampleDataUtil.getSamplePersons(count);
+
+        assertEquals(count, persons.size());
+        assertEquals(count, new HashSet<>(persons).size());
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPersons(persons);
+        assertEquals(count, addressBook.getPersonList().size());
+    }
+
+}
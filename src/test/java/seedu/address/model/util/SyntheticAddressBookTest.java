@@ -0,0 +1,70 @@
+package seedu.address.model.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.tag.Tag;
+
+public class SyntheticAddressBookTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void constructor_negativePersonCount_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new SyntheticAddressBook(-1, 0);
+    }
+
+    @Test
+    public void getPersonList_sameSeed_samePersons() {
+        SyntheticAddressBook addressBook = new SyntheticAddressBook(100, 1);
+
+        assertEquals(new ArrayList<>(addressBook.getPersonList()),
+                new ArrayList<>(new SyntheticAddressBook(100, 1).getPersonList()));
+        // a person only depends on its index, not on the persons read before it
+        assertEquals(addressBook.getPersonList().get(99), new SyntheticAddressBook(100, 1).getPersonList().get(99));
+        assertNotEquals(addressBook.getPersonList().get(0), new SyntheticAddressBook(100, 2).getPersonList().get(0));
+    }
+
+    @Test
+    public void getPersonList_manyPersons_distinctValidPersonsWithSkewedTags() throws Exception {
+        SyntheticAddressBook syntheticAddressBook = new SyntheticAddressBook(5000, 7);
+        List<ReadOnlyPerson> persons = new ArrayList<>(syntheticAddressBook.getPersonList());
+        assertEquals(5000, new HashSet<>(persons).size());
+
+        // every person is accepted by the model
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPersons(persons);
+        assertEquals(5000, addressBook.getPersonList().size());
+
+        Map<Tag, Integer> tagCounts = new HashMap<>();
+        int favouriteCount = 0;
+        for (ReadOnlyPerson person : persons) {
+            assertTrue(syntheticAddressBook.getTagList().containsAll(person.getTags()));
+            person.getTags().forEach(tag -> tagCounts.merge(tag, 1, Integer::sum));
+            if (person.getFavourite().isFavourite) {
+                favouriteCount++;
+            }
+        }
+        // the first tag is by far the most used one
+        Tag mostUsedTag = syntheticAddressBook.getTagList().get(0);
+        Tag rareTag = syntheticAddressBook.getTagList().get(SyntheticAddressBook.TAG_COUNT - 1);
+        assertTrue(tagCounts.get(mostUsedTag) > 10 * tagCounts.getOrDefault(rareTag, 0));
+        assertTrue(favouriteCount > 0 && favouriteCount < 5000 / 5);
+    }
+
+}
@@ -0,0 +1,79 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.util.SyntheticAddressBook;
+
+public class AddressBookGeneratorTest {
+
+    private static final int PERSON_COUNT = 1500;
+    private static final long SEED = 3;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void generate_xml_readBackAsGenerated() throws Exception {
+        String filePath = getTempFilePath("ab.xml");
+        AddressBookGenerator.generate(AddressBookGenerator.FORMAT_XML, filePath, PERSON_COUNT, SEED);
+
+        assertEquals(getGeneratedPersons(),
+                new ArrayList<>(new XmlAddressBookStorage(filePath).readAddressBook().get().getPersonList()));
+    }
+
+    @Test
+    public void generate_binary_readBackAsGenerated() throws Exception {
+        String filePath = getTempFilePath("ab.bin");
+        AddressBookGenerator.generate(AddressBookGenerator.FORMAT_BINARY, filePath, PERSON_COUNT, SEED);
+
+        assertEquals(getGeneratedPersons(),
+                new ArrayList<>(new BinaryAddressBookStorage(filePath).readAddressBook().get().getPersonList()));
+    }
+
+    @Test
+    public void generate_mapped_readBackAsGenerated() throws Exception {
+        String filePath = getTempFilePath("ab.map");
+        AddressBookGenerator.generate(AddressBookGenerator.FORMAT_MAPPED, filePath, PERSON_COUNT, SEED);
+
+        assertEquals(getGeneratedPersons(),
+                new ArrayList<>(new MappedAddressBookStorage(filePath).readAddressBook().get().getPersonList()));
+    }
+
+    @Test
+    public void generate_csv_oneRowPerPerson() throws Exception {
+        String filePath = getTempFilePath("ab.csv");
+        AddressBookGenerator.generate(AddressBookGenerator.FORMAT_CSV, filePath, PERSON_COUNT, SEED);
+
+        // the header row and a row for each person
+        assertEquals(PERSON_COUNT + 1, Files.readAllLines(new File(filePath).toPath()).size());
+    }
+
+    @Test
+    public void generate_unknownFormat_throwsIllegalArgumentException() throws Exception {
+        thrown.expect(IllegalArgumentException.class);
+        AddressBookGenerator.generate("json", getTempFilePath("ab.json"), PERSON_COUNT, SEED);
+    }
+
+    private List<ReadOnlyPerson> getGeneratedPersons() {
+        return new ArrayList<>(new SyntheticAddressBook(PERSON_COUNT, SEED).getPersonList());
+    }
+
+    private String getTempFilePath(String fileName) {
+        return testFolder.getRoot().getPath() + File.separator + fileName;
+    }
+
+}
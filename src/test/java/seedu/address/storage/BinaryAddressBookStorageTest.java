@@ -0,0 +1,175 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.util.Collections;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+    private static final String TEST_DATA_FOLDER = FileUtil.getPath("./src/test/data/XmlAddressBookStorageTest/");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new BinaryAddressBookStorage(null).readAddressBook(null);
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(getTempFilePath()).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void read_notBinaryFormat_exceptionThrown() throws Exception {
+        thrown.expect(DataConversionException.class);
+        new BinaryAddressBookStorage(TEST_DATA_FOLDER + "NotXmlFormatAddressBook.xml").readAddressBook();
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        assertReadSameAsSaved(original, new BinaryAddressBookStorage(getTempFilePath()));
+        assertReadSameAsSaved(original, new BinaryAddressBookStorage(getTempFilePath(), false));
+
+        // more persons than fit in one block, and a tag that no person uses
+        AddressBook large = new AddressBook();
+        for (int i = 0; i < 600; i++) {
+            large.addPerson(new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(90000000 + i))
+                    .withTags("block" + (i / 256)).build());
+        }
+        Tag unusedTag = new Tag("unused");
+        large.setTags(Collections.singleton(unusedTag));
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(getTempFilePath());
+        assertReadSameAsSaved(large, storage);
+        assertTrue(storage.readAddressBook().get().getTagList().contains(unusedTag));
+    }
+
+    @Test
+    public void saveAddressBookWithChecksum_returnsChecksumOfSavedFile() throws Exception {
+        String filePath = getTempFilePath();
+        long checksum = new BinaryAddressBookStorage(filePath).saveAddressBookWithChecksum(getTypicalAddressBook(),
+                filePath);
+        assertEquals(FileUtil.getChecksum(new File(filePath)), checksum);
+    }
+
+    @Test
+    public void read_corruptedBlock_exceptionThrown() throws Exception {
+        String filePath = getTempFilePath();
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        try (RandomAccessFile file = new RandomAccessFile(filePath, "rw")) {
+            long position = file.length() / 2;
+            file.seek(position);
+            int value = file.read();
+            file.seek(position);
+            file.write(value ^ 0xff);
+        }
+
+        thrown.expect(DataConversionException.class);
+        new BinaryAddressBookStorage(filePath).readAddressBook();
+    }
+
+    @Test
+    public void read_truncatedFile_exceptionThrown() throws Exception {
+        String filePath = getTempFilePath();
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        try (RandomAccessFile file = new RandomAccessFile(filePath, "rw")) {
+            file.setLength(file.length() - 10);
+        }
+
+        thrown.expect(DataConversionException.class);
+        new BinaryAddressBookStorage(filePath).readAddressBook();
+    }
+
+    @Test
+    public void migrateFrom_xmlFile_copiedWhenNewer() throws Exception {
+        XmlAddressBookStorage xmlStorage = new XmlAddressBookStorage(testFolder.getRoot().getPath() + "ab.xml");
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(getTempFilePath());
+        File xmlFile = new File(xmlStorage.getAddressBookFilePath());
+        File binaryFile = new File(binaryStorage.getAddressBookFilePath());
+
+        // nothing to migrate
+        assertFalse(binaryStorage.migrateFrom(xmlStorage));
+        assertFalse(binaryStorage.readAddressBook().isPresent());
+
+        AddressBook original = getTypicalAddressBook();
+        xmlStorage.saveAddressBook(original);
+        assertTrue(binaryStorage.migrateFrom(xmlStorage));
+        assertEquals(original, new AddressBook(binaryStorage.readAddressBook().get()));
+        assertTrue(xmlFile.exists());
+
+        // the binary file is newer, so it is not overwritten
+        AddressBook withHoon = getTypicalAddressBook();
+        withHoon.addPerson(new Person(HOON));
+        xmlStorage.saveAddressBook(withHoon);
+        assertTrue(xmlFile.setLastModified(binaryFile.lastModified() - 1000));
+        assertFalse(binaryStorage.migrateFrom(xmlStorage));
+        assertEquals(original, new AddressBook(binaryStorage.readAddressBook().get()));
+
+        // the xml file is newer
+        assertTrue(xmlFile.setLastModified(binaryFile.lastModified() + 1000));
+        assertTrue(binaryStorage.migrateFrom(xmlStorage));
+        assertEquals(withHoon, new AddressBook(binaryStorage.readAddressBook().get()));
+
+        // exported back to xml once the binary file is newer
+        binaryStorage.saveAddressBook(original);
+        assertTrue(binaryFile.setLastModified(xmlFile.lastModified() + 1000));
+        assertTrue(xmlStorage.migrateFrom(binaryStorage));
+        assertEquals(original, new AddressBook(xmlStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void migrateFrom_binaryFileOfOlderVersion_copied() throws Exception {
+        XmlAddressBookStorage xmlStorage = new XmlAddressBookStorage(testFolder.getRoot().getPath() + "ab.xml");
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(getTempFilePath());
+        xmlStorage.saveAddressBook(getTypicalAddressBook());
+        binaryStorage.saveAddressBook(new AddressBook());
+        assertTrue(binaryStorage.isCurrentFormat());
+        try (RandomAccessFile file = new RandomAccessFile(getTempFilePath(), "rw")) {
+            // the version follows the magic number
+            file.seek(4);
+            file.writeInt(0);
+        }
+        assertTrue(new File(getTempFilePath()).setLastModified(
+                new File(xmlStorage.getAddressBookFilePath()).lastModified() + 1000));
+
+        assertFalse(binaryStorage.isCurrentFormat());
+        assertTrue(binaryStorage.migrateFrom(xmlStorage));
+        assertEquals(getTypicalAddressBook(), new AddressBook(binaryStorage.readAddressBook().get()));
+    }
+
+    /**
+     * Saves {@code original} to {@code storage} and asserts that reading it back gives an equal address book.
+     */
+    private void assertReadSameAsSaved(AddressBook original, BinaryAddressBookStorage storage) throws Exception {
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    private String getTempFilePath() {
+        return testFolder.getRoot().getPath() + File.separator + "TempAddressBook.bin";
+    }
+
+}
@@ -0,0 +1,110 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.person.Person;
+
+public class JournaledAddressBookStorageTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private String filePath;
+    private JournaledAddressBookStorage storage;
+
+    @Before
+    public void setUp() throws Exception {
+        filePath = testFolder.getRoot().getPath() + File.separator + "TempAddressBook.xml";
+        storage = new JournaledAddressBookStorage(new XmlAddressBookStorage(filePath));
+        storage.saveAddressBook(getTypicalAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_appendedChanges_replayed() throws Exception {
+        AddressBook expected = getTypicalAddressBook();
+        appendAndApply(expected, new AddressBookChange(Collections.emptyList(), Arrays.asList(HOON, IDA)));
+        appendAndApply(expected, new AddressBookChange(Arrays.asList(ALICE), Collections.emptyList()));
+        assertEquals(3, storage.getJournaledPersonCount());
+
+        // a new storage reads the journal from the file
+        JournaledAddressBookStorage reopened = new JournaledAddressBookStorage(new XmlAddressBookStorage(filePath));
+        assertEquals(expected, new AddressBook(reopened.readAddressBook().get()));
+        assertEquals(3, reopened.getJournaledPersonCount());
+    }
+
+    @Test
+    public void readAddressBook_tornRecordAtEnd_recordIgnored() throws Exception {
+        AddressBook expected = getTypicalAddressBook();
+        appendAndApply(expected, new AddressBookChange(Collections.emptyList(), Arrays.asList(HOON)));
+        try (OutputStream out = new FileOutputStream(filePath + ".journal", true)) {
+            out.write(new byte[] {0, 0, 1, 0, 12, 34, 56, 78, 1, 2, 3});
+        }
+        assertEquals(expected, new AddressBook(storage.readAddressBook().get()));
+
+        // changes appended after reading replace the torn record
+        appendAndApply(expected, new AddressBookChange(Collections.emptyList(), Arrays.asList(IDA)));
+        assertEquals(expected, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_snapshotReplacedWithoutJournalReset_journalIgnored() throws Exception {
+        storage.appendChanges(Collections.singletonList(
+                new AddressBookChange(Collections.emptyList(), Arrays.asList(HOON))));
+        // as if the app crashed after saving a snapshot, but before resetting its journal
+        AddressBook snapshot = new AddressBook();
+        snapshot.addPerson(new Person(IDA));
+        new XmlAddressBookStorage(filePath).saveAddressBook(snapshot);
+
+        assertEquals(snapshot, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_afterAppendedChanges_journalEmptied() throws Exception {
+        AddressBook expected = getTypicalAddressBook();
+        appendAndApply(expected, new AddressBookChange(Collections.emptyList(), Arrays.asList(HOON)));
+        storage.saveAddressBook(expected);
+        assertEquals(0, storage.getJournaledPersonCount());
+        assertEquals(expected, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void getLastModified_changesAppendedAfterSnapshot_journalTimeReturned() throws Exception {
+        File snapshotFile = new File(filePath);
+        File journalFile = new File(filePath + ".journal");
+        assertTrue(snapshotFile.setLastModified(snapshotFile.lastModified() - 10000));
+        assertTrue(journalFile.setLastModified(snapshotFile.lastModified() - 10000));
+        assertEquals(snapshotFile.lastModified(), storage.getLastModified());
+
+        storage.appendChanges(Collections.singletonList(
+                new AddressBookChange(Collections.emptyList(), Arrays.asList(HOON))));
+        assertTrue(journalFile.lastModified() > snapshotFile.lastModified());
+        assertEquals(journalFile.lastModified(), storage.getLastModified());
+    }
+
+    /**
+     * Appends {@code change} to the journal of {@code storage}, and applies it to {@code addressBook}.
+     */
+    private void appendAndApply(AddressBook addressBook, AddressBookChange change) throws Exception {
+        storage.appendChanges(Collections.singletonList(change));
+        addressBook.applyChange(change);
+    }
+
+}
@@ -0,0 +1,146 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.testutil.PersonBuilder;
+
+public class MappedAddressBookStorageTest {
+    private static final String TEST_DATA_FOLDER = FileUtil.getPath("./src/test/data/XmlAddressBookStorageTest/");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new MappedAddressBookStorage(getTempFilePath("missing")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void read_notMappedFormat_exceptionThrown() throws Exception {
+        thrown.expect(DataConversionException.class);
+        new MappedAddressBookStorage(TEST_DATA_FOLDER + "NotXmlFormatAddressBook.xml").readAddressBook();
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(getTempFilePath("ab"));
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        storage.saveAddressBook(new AddressBook());
+        assertEquals(new AddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void getPersonList_personsReadLazily() throws Exception {
+        AddressBook original = new AddressBook();
+        for (int i = 0; i < 2000; i++) {
+            original.addPerson(new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(90000000 + i))
+                    .build());
+        }
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(getTempFilePath("ab"));
+        storage.saveAddressBook(original);
+        MappedAddressBook mapped = (MappedAddressBook) storage.readAddressBook().get();
+
+        assertEquals(2000, mapped.getPersonList().size());
+        assertEquals(0, mapped.getCachedPersonCount());
+        assertEquals(original.getPersonList().get(1234), mapped.getPersonList().get(1234));
+        assertEquals(1, mapped.getCachedPersonCount());
+
+        // only the most recently read persons are kept
+        assertEquals(original.getPersonList(), new ArrayList<>(mapped.getPersonList()));
+        assertTrue(mapped.getCachedPersonCount() < 2000);
+    }
+
+    @Test
+    public void saveAddressBook_changedMappedAddressBook_overlayMerged() throws Exception {
+        AddressBook expected = getTypicalAddressBook();
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(getTempFilePath("ab"));
+        storage.saveAddressBook(expected);
+        MappedAddressBook mapped = (MappedAddressBook) storage.readAddressBook().get();
+        List<ReadOnlyPerson> expectedPersons = new ArrayList<>(expected.getPersonList());
+        List<ListChangeListener.Change<? extends ReadOnlyPerson>> changes = new ArrayList<>();
+        mapped.getPersonList().addListener((ListChangeListener<ReadOnlyPerson>) changes::add);
+        assertFalse(mapped.hasChanges());
+
+        mapped.removePerson(1);
+        expectedPersons.remove(1);
+        mapped.removePerson(1);
+        expectedPersons.remove(1);
+        mapped.addPerson(HOON);
+        expectedPersons.add(HOON);
+        mapped.setPerson(0, IDA);
+        expectedPersons.set(0, IDA);
+        mapped.setPerson(expectedPersons.size() - 1, ALICE);
+        expectedPersons.set(expectedPersons.size() - 1, ALICE);
+        mapped.removePerson(2);
+        expectedPersons.remove(2);
+
+        assertTrue(mapped.hasChanges());
+        assertEquals(6, changes.size());
+        assertEquals(expectedPersons, new ArrayList<>(mapped.getPersonList()));
+
+        // the book is saved over the file that it is mapped from
+        storage.saveAddressBook(mapped);
+        assertEquals(expectedPersons, new ArrayList<>(storage.readAddressBook().get().getPersonList()));
+    }
+
+    @Test
+    public void saveAddressBook_mappedAddressBook_unchangedRecordsCopiedWithoutDecoding() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(getTempFilePath("ab"));
+        storage.saveAddressBook(original);
+        MappedAddressBook mapped = (MappedAddressBook) storage.readAddressBook().get();
+        ReadOnlyPerson added = new PersonBuilder(HOON).withTags("added").build();
+        mapped.addPerson(added);
+
+        storage.saveAddressBook(mapped);
+        assertEquals(0, mapped.getCachedPersonCount());
+
+        List<ReadOnlyPerson> expectedPersons = new ArrayList<>(original.getPersonList());
+        expectedPersons.add(added);
+        ReadOnlyAddressBook saved = storage.readAddressBook().get();
+        assertEquals(expectedPersons, new ArrayList<>(saved.getPersonList()));
+        assertEquals(mapped.getTagList(), saved.getTagList());
+    }
+
+    @Test
+    public void isCurrentFormat() throws Exception {
+        assertTrue(new MappedAddressBookStorage(getTempFilePath("missing")).isCurrentFormat());
+        assertFalse(new MappedAddressBookStorage(TEST_DATA_FOLDER + "NotXmlFormatAddressBook.xml").isCurrentFormat());
+
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(getTempFilePath("ab"));
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertTrue(storage.isCurrentFormat());
+    }
+
+    private String getTempFilePath(String fileName) {
+        return testFolder.getRoot().getPath() + File.separator + fileName;
+    }
+
+}
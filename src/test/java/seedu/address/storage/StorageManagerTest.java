@@ -2,12 +2,18 @@ package seedu.address.storage;
 
 import static junit.framework.TestCase.assertNotNull;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import org.junit.Before;
@@ -17,9 +23,13 @@ import org.junit.rules.TemporaryFolder;
 
 import seedu.address.commons.events.model.AddressBookChangedEvent;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
+import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.ui.testutil.EventsCollectorRule;
 
 public class StorageManagerTest {
@@ -78,6 +88,123 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void handleAddressBookChangedEvent_burstOfChanges_savesLatestDataOnce() throws Exception {
+        SaveCountingXmlAddressBookStorage addressBookStorage =
+                new SaveCountingXmlAddressBookStorage(getTempFilePath("ab"));
+        Storage storage = new StorageManager(addressBookStorage, new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                new CsvFileStorage(getTempFilePath("Bevy")), 60 * 1000, 1000);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.handleAddressBookChangedEvent(new AddressBookChangedEvent(new AddressBook()));
+        storage.handleAddressBookChangedEvent(new AddressBookChangedEvent(addressBook));
+        assertEquals(0, addressBookStorage.saveCount);
+
+        storage.flushPendingSaves();
+        assertEquals(1, addressBookStorage.saveCount);
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void handleAddressBookChangedEvent_knownChange_journaledWithoutSavingSnapshot() throws Exception {
+        SaveCountingXmlAddressBookStorage addressBookStorage =
+                new SaveCountingXmlAddressBookStorage(getTempFilePath("ab"));
+        Storage storage = new StorageManager(addressBookStorage, new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                new CsvFileStorage(getTempFilePath("Bevy")), 60 * 1000, 1000);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        AddressBookChange change = new AddressBookChange(Collections.emptyList(), Arrays.asList(HOON));
+        addressBook.applyChange(change);
+        storage.handleAddressBookChangedEvent(new AddressBookChangedEvent(addressBook, change));
+
+        storage.flushPendingSaves();
+        assertEquals(1, addressBookStorage.saveCount);
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void handleAddressBookChangedEvent_changeOfCompactionThresholdPersons_savedAsSnapshot() throws Exception {
+        SaveCountingXmlAddressBookStorage addressBookStorage =
+                new SaveCountingXmlAddressBookStorage(getTempFilePath("ab"));
+        Storage storage = new StorageManager(addressBookStorage, new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                new CsvFileStorage(getTempFilePath("Bevy")), 60 * 1000, 1);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        AddressBookChange change = new AddressBookChange(Collections.emptyList(), Arrays.asList(HOON));
+        addressBook.applyChange(change);
+        storage.handleAddressBookChangedEvent(new AddressBookChangedEvent(addressBook, change));
+
+        storage.flushPendingSaves();
+        assertEquals(2, addressBookStorage.saveCount);
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void handleAddressBookChangedEvent_changesThatCancelOut_journaledAsMergedChange() throws Exception {
+        SaveCountingXmlAddressBookStorage addressBookStorage =
+                new SaveCountingXmlAddressBookStorage(getTempFilePath("ab"));
+        Storage storage = new StorageManager(addressBookStorage, new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                new CsvFileStorage(getTempFilePath("Bevy")), 60 * 1000, 1000);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        ReadOnlyPerson editedHoon = new PersonBuilder(HOON).withTags("colleagues").build();
+        for (AddressBookChange change : Arrays.asList(
+                new AddressBookChange(Collections.emptyList(), Arrays.asList(HOON)),
+                AddressBookChange.ofUpdate(HOON, editedHoon),
+                new AddressBookChange(Arrays.asList(editedHoon, ALICE), Collections.emptyList()))) {
+            addressBook.applyChange(change);
+            storage.handleAddressBookChangedEvent(new AddressBookChangedEvent(addressBook, change));
+        }
+
+        storage.flushPendingSaves();
+        assertEquals(1, addressBookStorage.saveCount);
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void handleAddressBookChangedEvent_changeAfterMissingFile_readAfterRestart() throws Exception {
+        Storage storage = createJournaledStorage();
+        assertFalse(storage.readAddressBook().isPresent());
+
+        // as if the app started with the sample data, and then a person was deleted
+        assertChangeReadAfterRestart(storage, getTypicalAddressBook(),
+                new AddressBookChange(Arrays.asList(ALICE), Collections.emptyList()));
+    }
+
+    @Test
+    public void handleAddressBookChangedEvent_changeAfterCorruptFile_readAfterRestart() throws Exception {
+        Files.write(Paths.get(getTempFilePath("ab")), "not an address book".getBytes());
+        Storage storage = createJournaledStorage();
+        try {
+            storage.readAddressBook();
+            fail("A corrupt file should not be read");
+        } catch (DataConversionException dce) {
+            // as if the app started with an empty address book, and then a person was added
+            assertChangeReadAfterRestart(storage, new AddressBook(),
+                    new AddressBookChange(Collections.emptyList(), Arrays.asList(HOON)));
+        }
+    }
+
+    /**
+     * Returns a storage of the temporary address book file that journals changes, like the app's storage.
+     */
+    private Storage createJournaledStorage() {
+        return new StorageManager(new XmlAddressBookStorage(getTempFilePath("ab")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), new CsvFileStorage(getTempFilePath("Bevy")),
+                60 * 1000, 1000);
+    }
+
+    /**
+     * Makes {@code change} to {@code addressBook} and saves it with {@code storage}, then asserts that a new storage
+     * of the same file reads the changed {@code addressBook}.
+     */
+    private void assertChangeReadAfterRestart(Storage storage, AddressBook addressBook, AddressBookChange change)
+            throws Exception {
+        addressBook.applyChange(change);
+        storage.handleAddressBookChangedEvent(new AddressBookChangedEvent(addressBook, change));
+        storage.flushPendingSaves();
+        assertEquals(addressBook, new AddressBook(createJournaledStorage().readAddressBook().get()));
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
@@ -121,6 +248,7 @@ public class StorageManagerTest {
                                              new JsonUserPrefsStorage("dummy"),
                                              new CsvFileStorage("Bevy"));
         storage.handleAddressBookChangedEvent(new AddressBookChangedEvent(new AddressBook()));
+        storage.flushPendingSaves();
         assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingExceptionEvent);
     }
 
@@ -135,10 +263,26 @@ public class StorageManagerTest {
         }
 
         @Override
-        public void saveAddressBook(ReadOnlyAddressBook addressBook, String filePath) throws IOException {
+        public long saveAddressBookWithChecksum(ReadOnlyAddressBook addressBook, String filePath) throws IOException {
             throw new IOException("dummy exception");
         }
     }
 
+    /**
+     * A Stub class that counts the number of times the address book is saved
+     */
+    class SaveCountingXmlAddressBookStorage extends XmlAddressBookStorage {
+        private int saveCount = 0;
+
+        public SaveCountingXmlAddressBookStorage(String filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public long saveAddressBookWithChecksum(ReadOnlyAddressBook addressBook, String filePath) throws IOException {
+            saveCount++;
+            return super.saveAddressBookWithChecksum(addressBook, filePath);
+        }
+    }
 
 }
@@ -2,11 +2,17 @@ package seedu.address.storage;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
 import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -15,12 +21,16 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.rules.TemporaryFolder;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
 
 public class XmlAddressBookStorageTest {
     private static final String TEST_DATA_FOLDER = FileUtil.getPath("./src/test/data/XmlAddressBookStorageTest/");
@@ -63,6 +73,58 @@ public class XmlAddressBookStorageTest {
          */
     }
 
+    @Test
+    public void read_invalidPerson_exceptionThrown() throws Exception {
+        thrown.expect(DataConversionException.class);
+        readAddressBook("InvalidPersonAddressBook.xml");
+    }
+
+    @Test
+    public void read_missingPersonField_exceptionThrown() throws Exception {
+        thrown.expect(DataConversionException.class);
+        readAddressBook("MissingFieldAddressBook.xml");
+    }
+
+    @Test
+    public void read_validFile_sameAsLegacyReader() throws Exception {
+        File file = new File(FileUtil.getPath("./src/test/data/XmlUtilTest/validAddressBook.xml"));
+        ReadOnlyAddressBook streamed = XmlAddressBookReader.readAddressBook(file);
+        ReadOnlyAddressBook unmarshalled = XmlFileStorage.loadDataFromSaveFile(file);
+        assertEquals(new AddressBook(unmarshalled), new AddressBook(streamed));
+        assertEquals(9, streamed.getPersonList().size());
+    }
+
+    @Test
+    public void read_personsInSeveralChunks_fileOrderKept() throws Exception {
+        String filePath = testFolder.getRoot().getPath() + File.separator + "TempAddressBook.xml";
+        AddressBook original = new AddressBook();
+        for (int i = 0; i < 3000; i++) {
+            original.addPerson(new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(90000000 + i))
+                    .withTags("chunk" + (i / 1024)).build());
+        }
+        XmlAddressBookStorage xmlAddressBookStorage = new XmlAddressBookStorage(filePath);
+        xmlAddressBookStorage.saveAddressBook(original);
+
+        assertEquals(original.getPersonList(), xmlAddressBookStorage.readAddressBook().get().getPersonList());
+    }
+
+    @Test
+    public void read_invalidPersonInLaterChunk_exceptionThrown() throws Exception {
+        String filePath = testFolder.getRoot().getPath() + File.separator + "TempAddressBook.xml";
+        AddressBook original = new AddressBook();
+        for (int i = 0; i < 3000; i++) {
+            original.addPerson(new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(90000000 + i))
+                    .build());
+        }
+        new XmlAddressBookStorage(filePath).saveAddressBook(original);
+        Path path = Paths.get(filePath);
+        String content = new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+        Files.write(path, content.replace(">90002999<", ">not a phone<").getBytes(StandardCharsets.UTF_8));
+
+        thrown.expect(DataConversionException.class);
+        new XmlAddressBookStorage(filePath).readAddressBook();
+    }
+
     @Test
     public void readAndSaveAddressBook_allInOrder_success() throws Exception {
         String filePath = testFolder.getRoot().getPath() + "TempAddressBook.xml";
@@ -92,6 +154,36 @@ public class XmlAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_writeFails_lastSavedFileKept() throws Exception {
+        String filePath = testFolder.getRoot().getPath() + File.separator + "TempAddressBook.xml";
+        XmlAddressBookStorage xmlAddressBookStorage = new XmlAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        xmlAddressBookStorage.saveAddressBook(original);
+
+        ReadOnlyAddressBook unreadable = new ReadOnlyAddressBook() {
+            @Override
+            public ObservableList<ReadOnlyPerson> getPersonList() {
+                throw new IllegalStateException("The persons cannot be read");
+            }
+
+            @Override
+            public ObservableList<Tag> getTagList() {
+                return FXCollections.emptyObservableList();
+            }
+        };
+        try {
+            xmlAddressBookStorage.saveAddressBook(unreadable);
+            fail("The failed write should have been reported");
+        } catch (IllegalStateException expected) {
+            // the write failed as it should
+        }
+
+        // the partly written file was neither swapped in nor left behind
+        assertEquals(original, new AddressBook(xmlAddressBookStorage.readAddressBook().get()));
+        assertEquals(1, testFolder.getRoot().list().length);
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -11,10 +11,12 @@ import seedu.address.commons.events.BaseEvent;
 public class EventsUtil {
     /**
      * Posts {@code event} to all registered subscribers. This method will return successfully after the {@code event}
-     * has been posted to all subscribers.
+     * has been handled by all subscribers, including those that run on the JavaFX thread.
      */
     public static void postNow(BaseEvent event) {
-        new GuiRobot().interact(() -> EventsCenter.getInstance().post(event));
+        GuiRobot guiRobot = new GuiRobot();
+        guiRobot.interact(() -> EventsCenter.getInstance().post(event));
+        guiRobot.waitForQueuedEvents();
     }
 
     /**
@@ -1,5 +1,6 @@
 package seedu.address.testutil;
 
+import java.util.HashSet;
 import java.util.Set;
 
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -29,20 +30,25 @@ public class PersonBuilder {
     public static final String DEFAULT_FAVOURITE = "no";
     public static final String DEFAULT_TAGS = "friends";
 
-    private Person person;
+    private Name name;
+    private Phone phone;
+    private Birthday birthday;
+    private Email email;
+    private Address address;
+    private PostalCode postalCode;
+    private Favourite favourite;
+    private Set<Tag> tags;
 
     public PersonBuilder() {
         try {
-            Name defaultName = new Name(DEFAULT_NAME);
-            Phone defaultPhone = new Phone(DEFAULT_PHONE);
-            Birthday defaultBirthday = new Birthday(DEFAULT_BIRTHDAY);
-            Email defaultEmail = new Email(DEFAULT_EMAIL);
-            Address defaultAddress = new Address(DEFAULT_ADDRESS);
-            PostalCode defaultPostalCode = new PostalCode(DEFAULT_POSTALCODE);
-            Favourite defaultFavourite = new Favourite(DEFAULT_FAVOURITE);
-            Set<Tag> defaultTags = SampleDataUtil.getTagSet(DEFAULT_TAGS);
-            this.person = new Person(defaultName, defaultPhone, defaultBirthday, defaultEmail, defaultAddress,
-                defaultPostalCode, defaultFavourite, defaultTags);
+            this.name = new Name(DEFAULT_NAME);
+            this.phone = new Phone(DEFAULT_PHONE);
+            this.birthday = new Birthday(DEFAULT_BIRTHDAY);
+            this.email = new Email(DEFAULT_EMAIL);
+            this.address = new Address(DEFAULT_ADDRESS);
+            this.postalCode = new PostalCode(DEFAULT_POSTALCODE);
+            this.favourite = new Favourite(DEFAULT_FAVOURITE);
+            this.tags = SampleDataUtil.getTagSet(DEFAULT_TAGS);
         } catch (IllegalValueException ive) {
             throw new AssertionError("Default person's values are invalid.");
         }
@@ -52,7 +58,14 @@ public class PersonBuilder {
      * Initializes the PersonBuilder with the data of {@code personToCopy}.
      */
     public PersonBuilder(ReadOnlyPerson personToCopy) {
-        this.person = new Person(personToCopy);
+        this.name = personToCopy.getName();
+        this.phone = personToCopy.getPhone();
+        this.birthday = personToCopy.getBirthday();
+        this.email = personToCopy.getEmail();
+        this.address = personToCopy.getAddress();
+        this.postalCode = personToCopy.getPostalCode();
+        this.favourite = personToCopy.getFavourite();
+        this.tags = new HashSet<>(personToCopy.getTags());
     }
 
     /**
@@ -60,7 +73,7 @@ public class PersonBuilder {
      */
     public PersonBuilder withName(String name) {
         try {
-            this.person.setName(new Name(name));
+            this.name = new Name(name);
         } catch (IllegalValueException ive) {
             throw new IllegalArgumentException("name is expected to be unique.");
         }
@@ -72,7 +85,7 @@ public class PersonBuilder {
      */
     public PersonBuilder withTags(String ... tags) {
         try {
-            this.person.setTags(SampleDataUtil.getTagSet(tags));
+            this.tags = SampleDataUtil.getTagSet(tags);
         } catch (IllegalValueException ive) {
             throw new IllegalArgumentException("tags are expected to be unique.");
         }
@@ -84,7 +97,7 @@ public class PersonBuilder {
      */
     public PersonBuilder withPhone(String phone) {
         try {
-            this.person.setPhone(new Phone(phone));
+            this.phone = new Phone(phone);
         } catch (IllegalValueException ive) {
             throw new IllegalArgumentException("phone is expected to be unique.");
         }
@@ -96,7 +109,7 @@ public class PersonBuilder {
      */
     public PersonBuilder withBirthday(String birthday) {
         try {
-            this.person.setBirthday(new Birthday(birthday));
+            this.birthday = new Birthday(birthday);
         } catch (IllegalValueException ive) {
             throw new IllegalArgumentException("birthday is expected to be unique.");
         }
@@ -109,7 +122,7 @@ public class PersonBuilder {
      */
     public PersonBuilder withEmail(String email) {
         try {
-            this.person.setEmail(new Email(email));
+            this.email = new Email(email);
         } catch (IllegalValueException ive) {
             throw new IllegalArgumentException("email is expected to be unique.");
         }
@@ -121,7 +134,7 @@ public class PersonBuilder {
      */
     public PersonBuilder withAddress(String address) {
         try {
-            this.person.setAddress(new Address(address));
+            this.address = new Address(address);
         } catch (IllegalValueException ive) {
             throw new IllegalArgumentException("address is expected to be unique.");
         }
@@ -133,7 +146,7 @@ public class PersonBuilder {
      */
     public PersonBuilder withPostalCode(String postalCode) {
         try {
-            this.person.setPostalCode(new PostalCode(postalCode));
+            this.postalCode = new PostalCode(postalCode);
         } catch (IllegalValueException ive) {
             throw new IllegalArgumentException("postal code is expected to be unique.");
         }
@@ -144,7 +157,7 @@ public class PersonBuilder {
      */
     public PersonBuilder withFavourite(String favourite) {
         try {
-            this.person.setFavourite(new Favourite(favourite));
+            this.favourite = new Favourite(favourite);
         } catch (IllegalValueException ive) {
             throw new IllegalArgumentException("favourite is expected to be unique.");
         }
@@ -152,7 +165,7 @@ public class PersonBuilder {
     }
 
     public Person build() {
-        return this.person;
+        return new Person(name, phone, birthday, email, address, postalCode, favourite, tags);
     }
 
 }
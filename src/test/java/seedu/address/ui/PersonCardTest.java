@@ -3,7 +3,6 @@ package seedu.address.ui;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
-import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.ui.testutil.GuiTestAssert.assertCardDisplaysPerson;
 
 import org.junit.Test;
@@ -28,13 +27,6 @@ public class PersonCardTest extends GuiUnitTest {
         personCard = new PersonCard(personWithTags, 2);
         uiPartRule.setUiPart(personCard);
         assertCardDisplay(personCard, personWithTags, 2);
-
-        // Changes made to Person reflects on card.
-        guiRobot.interact(() -> {
-            personWithTags.setName(ALICE.getName());
-            personWithTags.setTags(ALICE.getTags());
-        });
-        assertCardDisplay(personCard, personWithTags, 2);
     }
 
     @Test
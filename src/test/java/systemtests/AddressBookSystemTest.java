@@ -25,6 +25,7 @@ import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.ClassRule;
 
+import guitests.GuiRobot;
 import guitests.guihandles.CommandBoxHandle;
 import guitests.guihandles.GoogleMapBrowserPanelHandle;
 import guitests.guihandles.InstagramBrowserPanelHandle;
@@ -75,6 +76,8 @@ public abstract class AddressBookSystemTest {
         setupHelper = new SystemTestSetupHelper();
         testApp = setupHelper.setupApplication();
         mainWindowHandle = setupHelper.setupMainWindowHandle();
+        // the panels show the loaded address book once they have handled its loading events
+        new GuiRobot().waitForQueuedEvents();
 
         waitUntilBrowserLoaded(getInstagramBrowserPanel());
         waitUntilBrowserLoaded(getGoogleMapBrowserPanel());